@@ -21,6 +21,7 @@
 package org.meanbean.bean.info;
 
 import java.util.Collection;
+import java.util.function.Supplier;
 
 /**
  * Defines an object that provides information about a JavaBean.
@@ -50,4 +51,15 @@ public interface BeanInformation {
 	 */
 	Collection<PropertyInformation> getProperties();
 
+	/**
+	 * Get an object that creates new instances of the bean by calling its no-argument constructor directly, without
+	 * reflection.
+	 * 
+	 * @return A Supplier of new bean instances, or <code>null</code> if no such Supplier is known, in which case the
+	 *         bean is instantiated reflectively.
+	 */
+	default Supplier<?> getNoArgConstructor() {
+		return null;
+	}
+
 }
@@ -0,0 +1,208 @@
+/*-
+ * ​​​
+ * meanbean
+ * ⁣⁣⁣
+ * Copyright (C) 2010 - 2020 the original author or authors.
+ * ⁣⁣⁣
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * ﻿﻿﻿﻿﻿
+ */
+
+package org.meanbean.bean.info;
+
+import org.meanbean.util.ValidationHelper;
+
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.stream.Stream;
+
+/**
+ * Gathers BeanInformation for many types up front, in parallel, so that the process-wide caches of the
+ * BeanInformationFactory implementations are already filled when verification of the individual types starts.
+ * 
+ * Introspection failures are collected per type rather than aborting the remaining types. Preloading only pays off with
+ * a factory that caches its results, such as {@link JavaBeanInformationFactory} or
+ * {@link MethodScanningBeanInformationFactory}.
+ */
+public class BeanInformationPreloader {
+
+	/** System property that sets the default parallelism; <code>0</code> disables preloading. */
+	public static final String PARALLELISM_PROPERTY = "meanbean.preload.parallelism";
+
+	/** The factory whose cache is filled. */
+	private final BeanInformationFactory beanInformationFactory;
+
+	/** The number of worker threads. */
+	private final int parallelism;
+
+	/**
+	 * Construct a new BeanInformationPreloader.
+	 * 
+	 * @param beanInformationFactory
+	 *            The factory to gather BeanInformation with. It is called from worker threads, so it must be resolved
+	 *            by the caller and be thread-safe.
+	 * @param parallelism
+	 *            The number of worker threads to use. <code>1</code> gathers information on the calling thread.
+	 * 
+	 * @throws IllegalArgumentException
+	 *             If either parameter is deemed illegal. For example, if the factory is null or parallelism is less
+	 *             than 1.
+	 */
+	public BeanInformationPreloader(BeanInformationFactory beanInformationFactory, int parallelism)
+	        throws IllegalArgumentException {
+		ValidationHelper.ensureExists("beanInformationFactory", "construct BeanInformationPreloader",
+		        beanInformationFactory);
+		ValidationHelper.ensure(parallelism >= 1, "parallelism must be at least 1");
+		this.beanInformationFactory = beanInformationFactory;
+		this.parallelism = parallelism;
+	}
+
+	/**
+	 * Get the parallelism configured by the <code>meanbean.preload.parallelism</code> system property, defaulting to
+	 * the number of available processors.
+	 * 
+	 * @return The default parallelism. <code>0</code> means preloading is disabled.
+	 */
+	public static int getDefaultParallelism() {
+		return Math.max(0, Integer.getInteger(PARALLELISM_PROPERTY, Runtime.getRuntime().availableProcessors()));
+	}
+
+	/**
+	 * Gather BeanInformation for each of the specified types.
+	 * 
+	 * @param beanClasses
+	 *            The types to gather information about.
+	 * 
+	 * @return What was gathered, what failed and how long it took.
+	 * 
+	 * @throws IllegalArgumentException
+	 *             If beanClasses is deemed illegal. For example, if it is null.
+	 */
+	public Result preload(Class<?>... beanClasses) throws IllegalArgumentException {
+		ValidationHelper.ensureExists("beanClasses", "preload BeanInformation", beanClasses);
+		long start = System.nanoTime();
+		Map<Class<?>, RuntimeException> failures = new ConcurrentHashMap<>();
+		LongAdder introspectionNanos = new LongAdder();
+		Runnable task = () -> stream(beanClasses).distinct().forEach(beanClass -> {
+			long introspectionStart = System.nanoTime();
+			try {
+				beanInformationFactory.create(beanClass);
+			} catch (RuntimeException | LinkageError e) {
+				failures.put(beanClass, e instanceof RuntimeException ? (RuntimeException) e
+				        : new BeanInformationException("Failed to acquire information about beanClass [" + beanClass
+				                + "].", e));
+			} finally {
+				introspectionNanos.add(System.nanoTime() - introspectionStart);
+			}
+		});
+		if (parallelism == 1) {
+			task.run();
+		} else {
+			ForkJoinPool pool = new ForkJoinPool(parallelism);
+			try {
+				pool.submit(task).get();
+			} catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+			} catch (ExecutionException e) {
+				throw new BeanInformationException("Failed to preload BeanInformation.", e.getCause());
+			} finally {
+				pool.shutdown();
+			}
+		}
+		return new Result(beanClasses, failures, parallelism, System.nanoTime() - start, introspectionNanos.sum());
+	}
+
+	private Stream<Class<?>> stream(Class<?>[] beanClasses) {
+		Stream<Class<?>> stream = Stream.of(beanClasses).filter(beanClass -> beanClass != null);
+		return parallelism == 1 ? stream : stream.parallel();
+	}
+
+	/**
+	 * The outcome of {@link BeanInformationPreloader#preload(Class...)}.
+	 */
+	public static final class Result {
+
+		private final int typeCount;
+
+		private final Map<Class<?>, RuntimeException> failures;
+
+		private final int parallelism;
+
+		private final long elapsedNanos;
+
+		private final long introspectionNanos;
+
+		Result(Class<?>[] beanClasses, Map<Class<?>, RuntimeException> failures, int parallelism, long elapsedNanos,
+		        long introspectionNanos) {
+			this.typeCount = beanClasses.length;
+			Map<Class<?>, RuntimeException> orderedFailures = new LinkedHashMap<>();
+			for (Class<?> beanClass : beanClasses) {
+				if (beanClass != null && failures.containsKey(beanClass)) {
+					orderedFailures.put(beanClass, failures.get(beanClass));
+				}
+			}
+			this.failures = Collections.unmodifiableMap(orderedFailures);
+			this.parallelism = parallelism;
+			this.elapsedNanos = elapsedNanos;
+			this.introspectionNanos = introspectionNanos;
+		}
+
+		/**
+		 * @return The number of types requested.
+		 */
+		public int getTypeCount() {
+			return typeCount;
+		}
+
+		/**
+		 * @return The exception thrown while gathering information about each type that failed, in request order.
+		 */
+		public Map<Class<?>, RuntimeException> getFailures() {
+			return failures;
+		}
+
+		/**
+		 * @return The number of worker threads used.
+		 */
+		public int getParallelism() {
+			return parallelism;
+		}
+
+		/**
+		 * @return The wall-clock time taken.
+		 */
+		public long getElapsedNanos() {
+			return elapsedNanos;
+		}
+
+		/**
+		 * @return The time spent gathering information, summed over all worker threads.
+		 */
+		public long getIntrospectionNanos() {
+			return introspectionNanos;
+		}
+
+		@Override
+		public String toString() {
+			return "BeanInformationPreloader.Result[types=" + typeCount + ", failures=" + failures.size()
+			        + ", parallelism=" + parallelism + ", elapsed=" + TimeUnit.NANOSECONDS.toMillis(elapsedNanos)
+			        + "ms, introspection=" + TimeUnit.NANOSECONDS.toMillis(introspectionNanos) + "ms]";
+		}
+	}
+}
@@ -0,0 +1,137 @@
+/*-
+ * ​​​
+ * meanbean
+ * ⁣⁣⁣
+ * Copyright (C) 2010 - 2020 the original author or authors.
+ * ⁣⁣⁣
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * ﻿﻿﻿﻿﻿
+ */
+
+package org.meanbean.bean.info;
+
+import org.meanbean.util.ValidationHelper;
+
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * BeanInformationFactory that remembers the BeanInformation created by a delegate factory for each beanClass, so that
+ * expensive introspection happens at most once per type.
+ *
+ * Entries are held in a {@link ClassValue}, which attaches the cached BeanInformation to the Class itself. The cache
+ * therefore never keeps a Class (or its ClassLoader) reachable once the rest of the application has released it.
+ *
+ * Failures of the delegate factory are not cached; a subsequent request for the same type will try again.
+ */
+public class CachingBeanInformationFactory implements BeanInformationFactory {
+
+	/** The factory that creates BeanInformation on a cache miss. */
+	private final BeanInformationFactory delegate;
+
+	/** The number of times BeanInformation has been requested. */
+	private final LongAdder requests = new LongAdder();
+
+	/** The number of times BeanInformation had to be created by the delegate. */
+	private final LongAdder misses = new LongAdder();
+
+	/** BeanInformation, held against each beanClass. */
+	private final ClassValue<BeanInformation> cache = new ClassValue<BeanInformation>() {
+		@Override
+		protected BeanInformation computeValue(Class<?> beanClass) {
+			misses.increment();
+			return delegate.create(beanClass);
+		}
+	};
+
+	/**
+	 * Construct a new CachingBeanInformationFactory.
+	 *
+	 * @param delegate
+	 *            The factory that creates BeanInformation for types that have not been seen before. BeanInformation
+	 *            created by this factory will be shared, so it should be immutable.
+	 *
+	 * @throws IllegalArgumentException
+	 *             If the delegate is deemed illegal. For example, if it is null.
+	 */
+	public CachingBeanInformationFactory(BeanInformationFactory delegate) throws IllegalArgumentException {
+		ValidationHelper.ensureExists("delegate", "construct CachingBeanInformationFactory", delegate);
+		this.delegate = delegate;
+	}
+
+	/**
+	 * Get the BeanInformation for the specified beanClass, creating it using the delegate factory if it has not been
+	 * created before.
+	 *
+	 * @param beanClass
+	 *            The type of the object the BeanInformation information should be about.
+	 *
+	 * @return Information about the specified type, encapsulated in a BeanInformation object.
+	 *
+	 * @throws IllegalArgumentException
+	 *             If the beanClass is deemed illegal. For example, if it is null.
+	 * @throws BeanInformationException
+	 *             If a problem occurs when creating BeanInformation about the specified type.
+	 */
+	@Override
+	public BeanInformation create(Class<?> beanClass) throws IllegalArgumentException, BeanInformationException {
+		ValidationHelper.ensureExists("beanClass", "gather JavaBean information", beanClass);
+		requests.increment();
+		return cache.get(beanClass);
+	}
+
+	/**
+	 * Discard any BeanInformation held for the specified beanClass.
+	 *
+	 * @param beanClass
+	 *            The type whose BeanInformation should be discarded.
+	 */
+	public void evict(Class<?> beanClass) {
+		ValidationHelper.ensureExists("beanClass", "evict JavaBean information", beanClass);
+		cache.remove(beanClass);
+	}
+
+	/**
+	 * Get the number of times BeanInformation has been requested from this factory.
+	 *
+	 * @return The number of requests made of this factory.
+	 */
+	public long getRequestCount() {
+		return requests.sum();
+	}
+
+	/**
+	 * Get the number of requests that were satisfied by previously created BeanInformation.
+	 *
+	 * @return The number of cache hits.
+	 */
+	public long getHitCount() {
+		return Math.max(0, getRequestCount() - getMissCount());
+	}
+
+	/**
+	 * Get the number of requests that required BeanInformation to be created by the delegate factory.
+	 *
+	 * @return The number of cache misses.
+	 */
+	public long getMissCount() {
+		return misses.sum();
+	}
+
+	@Override
+	public String toString() {
+		long requestCount = getRequestCount();
+		long missCount = getMissCount();
+		return "CachingBeanInformationFactory[requests=" + requestCount + ", hits=" + Math.max(0, requestCount - missCount)
+				+ ", misses=" + missCount + "]";
+	}
+}
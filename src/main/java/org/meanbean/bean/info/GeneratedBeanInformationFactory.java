@@ -0,0 +1,94 @@
+/*-
+ * ​​​
+ * meanbean
+ * ⁣⁣⁣
+ * Copyright (C) 2010 - 2020 the original author or authors.
+ * ⁣⁣⁣
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * ﻿﻿﻿﻿﻿
+ */
+
+package org.meanbean.bean.info;
+
+import org.meanbean.util.Order;
+
+/**
+ * BeanInformationFactory that uses BeanInformation generated at compile time by
+ * {@link org.meanbean.bean.info.processor.BeanInformationProcessor} for beans annotated with
+ * {@link GenerateBeanInformation}, and falls back to {@link JavaBeanInformationFactory} for every other bean.
+ * 
+ * This factory is not registered by default. The annotation processor registers it (as a
+ * <code>META-INF/services</code> entry) in the output of any compilation that generated BeanInformation, where its
+ * {@link Order} puts it ahead of JavaBeanInformationFactory.
+ */
+@Order(500)
+public class GeneratedBeanInformationFactory implements BeanInformationFactory {
+
+	/** Appended to the binary name of a bean class to form the name of its generated BeanInformation class. */
+	public static final String SUFFIX = "_MeanBeanInformation";
+
+	/** Generated BeanInformation, or the fallback, held against each beanClass. */
+	private static final CachingBeanInformationFactory CACHE =
+	        new CachingBeanInformationFactory(GeneratedBeanInformationFactory::load);
+
+	/** Used for beans that have no generated BeanInformation. */
+	private static final BeanInformationFactory FALLBACK = new JavaBeanInformationFactory();
+
+	/**
+	 * Create a BeanInformation object from/based on the specified beanClass, preferring generated BeanInformation.
+	 * 
+	 * @param beanClass
+	 *            The type of the object the BeanInformation information should be about.
+	 * 
+	 * @return Information about the specified type, encapsulated in a BeanInformation object.
+	 * 
+	 * @throws IllegalArgumentException
+	 *             If the beanClass is deemed illegal. For example, if it is null.
+	 * @throws BeanInformationException
+	 *             If a problem occurs when creating BeanInformation about the specified type.
+	 */
+	@Override
+	public BeanInformation create(Class<?> beanClass) throws IllegalArgumentException, BeanInformationException {
+		return CACHE.create(beanClass);
+	}
+
+	/**
+	 * Does the specified beanClass have BeanInformation generated at compile time?
+	 * 
+	 * @param beanClass
+	 *            The type of bean.
+	 * 
+	 * @return <code>true</code> if generated BeanInformation is used for the beanClass; <code>false</code> otherwise.
+	 */
+	public static boolean isGenerated(Class<?> beanClass) {
+		return CACHE.create(beanClass) instanceof StaticBeanInformation;
+	}
+
+	private static BeanInformation load(Class<?> beanClass) {
+		Class<?> generatedClass;
+		try {
+			generatedClass = Class.forName(beanClass.getName() + SUFFIX, true, beanClass.getClassLoader());
+		} catch (ClassNotFoundException | LinkageError e) {
+			return FALLBACK.create(beanClass);
+		}
+		if (!StaticBeanInformation.class.isAssignableFrom(generatedClass)) {
+			return FALLBACK.create(beanClass);
+		}
+		try {
+			return (BeanInformation) generatedClass.getConstructor().newInstance();
+		} catch (ReflectiveOperationException | RuntimeException e) {
+			throw new BeanInformationException("Failed to instantiate generated BeanInformation [" + generatedClass.getName()
+			        + "] for beanClass [" + beanClass.getName() + "].", e);
+		}
+	}
+}
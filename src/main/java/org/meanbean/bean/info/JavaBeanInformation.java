@@ -32,6 +32,7 @@ import java.lang.reflect.Method;
 import java.lang.reflect.Modifier;
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
@@ -88,7 +89,7 @@ class JavaBeanInformation implements BeanInformation {
 			if ("class".equals(propertyDescriptor.getName())) {
 				continue;
 			}
-			PropertyDescriptorPropertyInformation propertyInformation = new PropertyDescriptorPropertyInformation(propertyDescriptor);
+			PropertyDescriptorPropertyInformation propertyInformation = new PropertyDescriptorPropertyInformation(beanClass, propertyDescriptor);
 			Method fluentWriteMethod = fluentWriteMethods.get(propertyDescriptor.getName());
 			if (!propertyInformation.isWritable() && fluentWriteMethod != null) {
 				propertyInformation.setWriteMethodOverride(fluentWriteMethod);
@@ -161,7 +162,7 @@ class JavaBeanInformation implements BeanInformation {
 	 */
 	@Override
 	public Collection<String> getPropertyNames() {
-		return properties.keySet();
+		return Collections.unmodifiableSet(properties.keySet());
 	}
 
 	/**
@@ -171,6 +172,6 @@ class JavaBeanInformation implements BeanInformation {
 	 */
 	@Override
 	public Collection<PropertyInformation> getProperties() {
-		return properties.values();
+		return Collections.unmodifiableCollection(properties.values());
 	}
 }
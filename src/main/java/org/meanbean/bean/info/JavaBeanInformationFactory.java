@@ -21,16 +21,34 @@
 package org.meanbean.bean.info;
 
 import org.kohsuke.MetaInfServices;
+import org.meanbean.util.Order;
 
 /**
  * Concrete BeanInformationFactory that creates concrete JavaBeanInformation objects from/based on a specified
  * beanClass.
  * 
+ * BeanInformation is immutable, so every instance of this factory shares a single process-wide cache of the
+ * information it has gathered. See {@link #getCache()}.
+ * 
  * @author Graham Williamson
  */
 @MetaInfServices
+@Order(1000)
 public class JavaBeanInformationFactory implements BeanInformationFactory {
 
+	/** BeanInformation gathered by any JavaBeanInformationFactory, held against each beanClass. */
+	private static final CachingBeanInformationFactory CACHE = new CachingBeanInformationFactory(JavaBeanInformation::new);
+
+	/**
+	 * Get the process-wide cache of BeanInformation shared by all JavaBeanInformationFactory instances. This can be
+	 * used to inspect hit/miss statistics.
+	 * 
+	 * @return The shared BeanInformation cache.
+	 */
+	public static CachingBeanInformationFactory getCache() {
+		return CACHE;
+	}
+
 	/**
 	 * Create a BeanInformation object from/based on the specified beanClass.
 	 * 
@@ -48,6 +66,6 @@ public class JavaBeanInformationFactory implements BeanInformationFactory {
 	 */
 	@Override
     public BeanInformation create(Class<?> beanClass) throws IllegalArgumentException, BeanInformationException {
-		return new JavaBeanInformation(beanClass);
+		return CACHE.create(beanClass);
 	}
 }
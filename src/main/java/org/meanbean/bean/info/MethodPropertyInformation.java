@@ -0,0 +1,223 @@
+/*-
+ * ​​​
+ * meanbean
+ * ⁣⁣⁣
+ * Copyright (C) 2010 - 2020 the original author or authors.
+ * ⁣⁣⁣
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * ﻿﻿﻿﻿﻿
+ */
+
+package org.meanbean.bean.info;
+
+import java.lang.reflect.Method;
+import java.lang.reflect.Type;
+
+/**
+ * Concrete implementation of PropertyInformation that provides information about a JavaBean property based on its
+ * read and write methods.
+ */
+class MethodPropertyInformation implements PropertyInformation {
+
+	/** The type the property belongs to; generic property types are resolved against it. */
+	private final Class<?> beanClass;
+
+	/** The name of the property. */
+	private final String name;
+
+	/** The public read method of the property, or <code>null</code>. */
+	private final Method readMethod;
+
+	/** The public write method of the property, or <code>null</code>. */
+	private final Method writeMethod;
+
+	/** Reads the property; compiled on first use. */
+	private volatile PropertyGetter propertyGetter;
+
+	/** Writes the property; compiled on first use. */
+	private volatile PropertySetter propertySetter;
+
+	/** The resolved return type of the read method; resolved on first use. */
+	private volatile Type readMethodReturnType;
+
+	/** The resolved parameter type of the write method; resolved on first use. */
+	private volatile Type writeMethodParameterType;
+
+	/**
+	 * Construct a new Method Property Information.
+	 * 
+	 * @param beanClass
+	 *            The type the property belongs to. Generic property types are resolved against it.
+	 * @param name
+	 *            The name of the property.
+	 * @param readMethod
+	 *            The read method of the property. May be <code>null</code>.
+	 * @param writeMethod
+	 *            The write method of the property. May be <code>null</code>.
+	 */
+	MethodPropertyInformation(Class<?> beanClass, String name, Method readMethod, Method writeMethod) {
+		this.beanClass = beanClass;
+		this.name = name;
+		this.readMethod = readMethod;
+		this.writeMethod = writeMethod;
+	}
+
+	/**
+	 * Get the name of the property.
+	 * 
+	 * @return The name of the property.
+	 */
+	@Override
+	public String getName() {
+		return name;
+	}
+
+	/**
+	 * Is the property publicly readable?
+	 * 
+	 * That is, does the property have a public getter method?
+	 * 
+	 * @return <code>true</code> if the property is publicly readable; <code>false</code> otherwise.
+	 */
+	@Override
+	public boolean isReadable() {
+		return readMethod != null;
+	}
+
+	/**
+	 * Is the property publicly writable?
+	 * 
+	 * That is, does the property have a public setter method?
+	 * 
+	 * @return <code>true</code> if the property is publicly writable; <code>false</code> otherwise.
+	 */
+	@Override
+	public boolean isWritable() {
+		return writeMethod != null;
+	}
+
+	/**
+	 * Is the property both publicly readable and writable?
+	 * 
+	 * That is, does the property have both a public getter and public setter method?
+	 * 
+	 * @return <code>true</code> if the property is publicly readable and publicly writable; <code>false</code>
+	 *         otherwise.
+	 */
+	@Override
+	public boolean isReadableWritable() {
+		return isReadable() && isWritable();
+	}
+
+	/**
+	 * Get the public read method of the property; its getter method.
+	 * 
+	 * @return The public read method of the property. If the property is not publicly readable, <code>null</code> is
+	 *         returned.
+	 */
+	@Override
+	public Method getReadMethod() {
+		return readMethod;
+	}
+
+	/**
+	 * Get the public write method of the property; its setter method.
+	 * 
+	 * @return The public write method of the property. If the property is not publicly writable, <code>null</code> is
+	 *         returned.
+	 */
+	@Override
+	public Method getWriteMethod() {
+		return writeMethod;
+	}
+
+	/**
+	 * Get the return type of the read method (getter method) of the property, with any type variables resolved against
+	 * the bean class.
+	 * 
+	 * @return The return type of the read method. If the property does not have a read method, returns
+	 *         <code>null</code>
+	 */
+	@Override
+	public Type getReadMethodReturnType() {
+		Type type = readMethodReturnType;
+		if (type == null && readMethod != null) {
+			type = PropertyTypes.resolveReturnType(beanClass, readMethod);
+			readMethodReturnType = type;
+		}
+		return type;
+	}
+
+	/**
+	 * Get the parameter type of the write method (setter method) of the property, with any type variables resolved
+	 * against the bean class.
+	 * 
+	 * @return The type of the write method parameter. If the property does not have a write method, returns
+	 *         <code>null</code>
+	 */
+	@Override
+	public Type getWriteMethodParameterType() {
+		Type type = writeMethodParameterType;
+		if (type == null && writeMethod != null) {
+			type = PropertyTypes.resolveParameterType(beanClass, writeMethod);
+			writeMethodParameterType = type;
+		}
+		return type;
+	}
+
+	/**
+	 * Get an object that reads the property via its read method (getter method). The object is linked to the read
+	 * method on first use and then reused.
+	 * 
+	 * @return A PropertyGetter for the property. If the property is not publicly readable, <code>null</code> is
+	 *         returned.
+	 */
+	@Override
+	public PropertyGetter getPropertyGetter() {
+		PropertyGetter getter = propertyGetter;
+		if (getter == null) {
+			getter = PropertyAccessors.compileGetter(readMethod);
+			propertyGetter = getter;
+		}
+		return getter;
+	}
+
+	/**
+	 * Get an object that writes the property via its write method (setter method). The object is linked to the write
+	 * method on first use and then reused.
+	 * 
+	 * @return A PropertySetter for the property. If the property is not publicly writable, <code>null</code> is
+	 *         returned.
+	 */
+	@Override
+	public PropertySetter getPropertySetter() {
+		PropertySetter setter = propertySetter;
+		if (setter == null) {
+			setter = PropertyAccessors.compileSetter(writeMethod);
+			propertySetter = setter;
+		}
+		return setter;
+	}
+
+	/**
+	 * Get a human-readable String representation of this object.
+	 * 
+	 * @return A human-readable String representation of this object.
+	 */
+	@Override
+	public String toString() {
+		return "MethodPropertyInformation[name=" + name + ",isReadable=" + isReadable() + ",readMethod=" + readMethod
+		        + ",isWritable=" + isWritable() + ",writeMethod=" + writeMethod + ",isReadableWritable="
+		        + isReadableWritable() + "]";
+	}
+}
@@ -0,0 +1,213 @@
+/*-
+ * ​​​
+ * meanbean
+ * ⁣⁣⁣
+ * Copyright (C) 2010 - 2020 the original author or authors.
+ * ⁣⁣⁣
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * ﻿﻿﻿﻿﻿
+ */
+
+package org.meanbean.bean.info;
+
+import org.meanbean.util.ValidationHelper;
+import org.meanbean.util.reflect.ReflectionAccessor;
+
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+import static java.lang.Character.toLowerCase;
+
+/**
+ * Concrete BeanInformation that gathers information about a JavaBean by scanning Class.getMethods(), following the
+ * naming rules of java.beans.Introspector without depending on it.
+ */
+class MethodScanningBeanInformation implements BeanInformation {
+
+	private static final Comparator<Method> BY_SIGNATURE = Comparator.comparing(MethodSignatures::key);
+
+	/** The type of object this object contains information about. */
+	private final Class<?> beanClass;
+
+	/** Information about each property of the type, keyed by property name. */
+	private final Map<String, PropertyInformation> properties;
+
+	/**
+	 * Construct a new Method Scanning Bean Information object for the specified type.
+	 * 
+	 * @param beanClass
+	 *            The type of the JavaBean object to gather information about.
+	 * 
+	 * @throws IllegalArgumentException
+	 *             If the beanClass is deemed illegal. For example, if it is null.
+	 * @throws BeanInformationException
+	 *             If a problem occurred when gathering information about the specified type.
+	 */
+	MethodScanningBeanInformation(Class<?> beanClass) throws IllegalArgumentException, BeanInformationException {
+		ValidationHelper.ensureExists("beanClass", "gather JavaBean information", beanClass);
+		this.beanClass = beanClass;
+		Method[] methods;
+		try {
+			methods = beanClass.getMethods();
+		} catch (LinkageError e) {
+			throw new BeanInformationException("Failed to acquire information about beanClass [" + beanClass + "].", e);
+		}
+		this.properties = Collections.unmodifiableMap(findProperties(beanClass, methods));
+	}
+
+	private static Map<String, PropertyInformation> findProperties(Class<?> beanClass, Method[] methods) {
+		Map<String, Method> getters = new HashMap<>();
+		Map<String, Method> booleanGetters = new HashMap<>();
+		Map<String, List<Method>> setters = new HashMap<>();
+		Map<String, Method> fluentSetters = new HashMap<>();
+		List<Method> candidates = new ArrayList<>();
+		for (Method method : methods) {
+			if (!method.isBridge() && !method.isSynthetic()) {
+				candidates.add(method);
+			}
+		}
+		// sort so that the outcome of ambiguous declarations does not depend on the order of Class#getMethods
+		candidates.sort(BY_SIGNATURE);
+		for (Method method : candidates) {
+			String name = method.getName();
+			int parameterCount = method.getParameterCount();
+			Class<?> returnType = method.getReturnType();
+			if (isFluentWriteMethod(method, name, parameterCount, returnType)) {
+				fluentSetters.putIfAbsent(toLowerCase(name.charAt(3)) + name.substring(4), method);
+			}
+			if (Modifier.isStatic(method.getModifiers())) {
+				continue;
+			}
+			if (parameterCount == 0 && name.length() > 3 && name.startsWith("get") && returnType != void.class) {
+				getters.putIfAbsent(decapitalize(name.substring(3)), method);
+			} else if (parameterCount == 0 && name.length() > 2 && name.startsWith("is") && returnType == boolean.class) {
+				booleanGetters.putIfAbsent(decapitalize(name.substring(2)), method);
+			} else if (parameterCount == 1 && name.length() > 3 && name.startsWith("set") && returnType == void.class) {
+				setters.computeIfAbsent(decapitalize(name.substring(3)), key -> new ArrayList<>()).add(method);
+			}
+		}
+		getters.putAll(booleanGetters);
+
+		Map<String, PropertyInformation> properties = new TreeMap<>();
+		for (String propertyName : union(getters.keySet(), setters.keySet())) {
+			if ("class".equals(propertyName)) {
+				continue;
+			}
+			Method readMethod = getters.get(propertyName);
+			Method writeMethod = selectWriteMethod(readMethod, setters.get(propertyName));
+			if (writeMethod == null) {
+				writeMethod = fluentSetters.get(propertyName);
+			}
+			if (readMethod != null && writeMethod != null) {
+				makeAccessible(readMethod);
+				makeAccessible(writeMethod);
+			}
+			properties.put(propertyName, new MethodPropertyInformation(beanClass, propertyName, readMethod, writeMethod));
+		}
+		return properties;
+	}
+
+	/**
+	 * Select the setter of a property the way java.beans.Introspector does: when the property has a getter, only a
+	 * setter that accepts exactly the getter's return type qualifies.
+	 */
+	private static Method selectWriteMethod(Method readMethod, List<Method> writeMethods) {
+		if (writeMethods == null) {
+			return null;
+		}
+		if (readMethod == null) {
+			return writeMethods.get(writeMethods.size() - 1);
+		}
+		for (Method writeMethod : writeMethods) {
+			if (writeMethod.getParameterTypes()[0] == readMethod.getReturnType()) {
+				return writeMethod;
+			}
+		}
+		return null;
+	}
+
+	// matches the candidate write methods of JavaBeanInformation
+	private static boolean isFluentWriteMethod(Method method, String name, int parameterCount, Class<?> returnType) {
+		return name.length() > 3 && name.startsWith("set") && Modifier.isPublic(method.getModifiers())
+		        && returnType != void.class && parameterCount == 1;
+	}
+
+	private static Collection<String> union(Collection<String> left, Collection<String> right) {
+		List<String> names = new ArrayList<>(left);
+		for (String name : right) {
+			if (!left.contains(name)) {
+				names.add(name);
+			}
+		}
+		return names;
+	}
+
+	/**
+	 * Equivalent of java.beans.Introspector#decapitalize.
+	 */
+	static String decapitalize(String name) {
+		if (name.isEmpty()) {
+			return name;
+		}
+		if (name.length() > 1 && Character.isUpperCase(name.charAt(1)) && Character.isUpperCase(name.charAt(0))) {
+			return name;
+		}
+		char[] chars = name.toCharArray();
+		chars[0] = toLowerCase(chars[0]);
+		return new String(chars);
+	}
+
+	private static void makeAccessible(Method method) {
+		if (!method.isAccessible()) {
+			ReflectionAccessor.getInstance().makeAccessible(method);
+		}
+	}
+
+	/**
+	 * Get the type of bean this object contains information about.
+	 * 
+	 * @return The type of bean this object contains information about.
+	 */
+	@Override
+	public Class<?> getBeanClass() {
+		return beanClass;
+	}
+
+	/**
+	 * Get the names of all properties of the bean.
+	 * 
+	 * @return A Collection of names of all properties of the bean.
+	 */
+	@Override
+	public Collection<String> getPropertyNames() {
+		return properties.keySet();
+	}
+
+	/**
+	 * Get information about all properties of the bean.
+	 * 
+	 * @return A Collection of all properties of the bean.
+	 */
+	@Override
+	public Collection<PropertyInformation> getProperties() {
+		return properties.values();
+	}
+}
@@ -0,0 +1,73 @@
+/*-
+ * ​​​
+ * meanbean
+ * ⁣⁣⁣
+ * Copyright (C) 2010 - 2020 the original author or authors.
+ * ⁣⁣⁣
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * ﻿﻿﻿﻿﻿
+ */
+
+package org.meanbean.bean.info;
+
+import org.kohsuke.MetaInfServices;
+import org.meanbean.util.Order;
+
+/**
+ * Concrete BeanInformationFactory that creates BeanInformation by scanning the public methods of a beanClass, without
+ * using java.beans.Introspector.
+ * 
+ * This avoids loading the java.beans API (and, on Java 9+, the java.desktop module), the Introspector caches and the
+ * search for <code>*BeanInfo</code> classes. It discovers the same readable and writable properties as
+ * {@link JavaBeanInformationFactory}, including fluent (non-void) setters, but ignores explicit BeanInfo classes and
+ * indexed-only accessors.
+ * 
+ * It is registered after JavaBeanInformationFactory, so it must be selected explicitly, e.g. through
+ * {@link org.meanbean.test.VerifierSettings#setBeanInformationFactory(BeanInformationFactory)}. Created
+ * BeanInformation is immutable and is shared through a process-wide cache.
+ */
+@MetaInfServices
+@Order(2000)
+public class MethodScanningBeanInformationFactory implements BeanInformationFactory {
+
+	/** BeanInformation gathered by any MethodScanningBeanInformationFactory, held against each beanClass. */
+	private static final CachingBeanInformationFactory CACHE =
+	        new CachingBeanInformationFactory(MethodScanningBeanInformation::new);
+
+	/**
+	 * Get the process-wide cache of BeanInformation shared by all MethodScanningBeanInformationFactory instances.
+	 * 
+	 * @return The shared BeanInformation cache.
+	 */
+	public static CachingBeanInformationFactory getCache() {
+		return CACHE;
+	}
+
+	/**
+	 * Create a BeanInformation object from/based on the specified beanClass.
+	 * 
+	 * @param beanClass
+	 *            The type of the object the BeanInformation information should be about.
+	 * 
+	 * @return Information about the specified type, encapsulated in a BeanInformation object.
+	 * 
+	 * @throws IllegalArgumentException
+	 *             If the beanClass is deemed illegal. For example, if it is null.
+	 * @throws BeanInformationException
+	 *             If a problem occurs when creating BeanInformation about the specified type.
+	 */
+	@Override
+	public BeanInformation create(Class<?> beanClass) throws IllegalArgumentException, BeanInformationException {
+		return CACHE.create(beanClass);
+	}
+}
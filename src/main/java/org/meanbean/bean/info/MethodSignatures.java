@@ -0,0 +1,72 @@
+/*-
+ * ​​​
+ * meanbean
+ * ⁣⁣⁣
+ * Copyright (C) 2010 - 2020 the original author or authors.
+ * ⁣⁣⁣
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * ﻿﻿﻿﻿﻿
+ */
+
+package org.meanbean.bean.info;
+
+import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * The order in which candidate accessor methods are considered, shared by MethodScanningBeanInformation and the
+ * annotation processor that generates BeanInformation, so that both settle ambiguous declarations (such as overloaded
+ * setters without a matching getter) the same way.
+ * 
+ * Methods are ordered by a key made of their name and the erased, canonical names of their parameter types, which is
+ * the same whether derived from a reflected Method or from a source element.
+ */
+public final class MethodSignatures {
+
+	private MethodSignatures() {
+		// Static utility class
+	}
+
+	/**
+	 * Get the sort key of a method.
+	 * 
+	 * @param name
+	 *            The name of the method.
+	 * @param parameterTypeNames
+	 *            The canonical names of the erased parameter types of the method, such as <code>int</code>,
+	 *            <code>java.lang.String[]</code> or <code>java.util.Map.Entry</code>.
+	 * 
+	 * @return The key methods are sorted by, in ascending order.
+	 */
+	public static String key(String name, List<String> parameterTypeNames) {
+		return name + "(" + String.join(",", parameterTypeNames) + ")";
+	}
+
+	/**
+	 * Get the sort key of the specified method.
+	 * 
+	 * @param method
+	 *            The method.
+	 * 
+	 * @return The key methods are sorted by, in ascending order.
+	 */
+	static String key(Method method) {
+		List<String> parameterTypeNames = new ArrayList<>(method.getParameterCount());
+		for (Class<?> parameterType : method.getParameterTypes()) {
+			String canonicalName = parameterType.getCanonicalName();
+			parameterTypeNames.add(canonicalName == null ? parameterType.getName() : canonicalName);
+		}
+		return key(method.getName(), parameterTypeNames);
+	}
+}
@@ -0,0 +1,437 @@
+/*-
+ * ​​​
+ * meanbean
+ * ⁣⁣⁣
+ * Copyright (C) 2010 - 2020 the original author or authors.
+ * ⁣⁣⁣
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * ﻿﻿﻿﻿﻿
+ */
+
+package org.meanbean.bean.info;
+
+import org.meanbean.logging.$Logger;
+import org.meanbean.logging.$LoggerFactory;
+import org.meanbean.util.ValidationHelper;
+import org.meanbean.util.reflect.ReflectionAccessor;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.lang.reflect.Method;
+import java.lang.reflect.Type;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * BeanInformationFactory that persists the properties found by a delegate factory to disk, so that later JVMs (for
+ * example, successive CI builds) can skip introspection of classes that have not changed.
+ * 
+ * Each beanClass gets one small binary file, named after the class, in the cache directory. It records the name,
+ * read method and write method (name, parameter type and return type) of each property, together with the generic
+ * types they declare, and is keyed by a digest of the class file bytes of the beanClass and all of its superclasses and
+ * interfaces. Reading an entry is a memory-mapped read followed by <code>Class.getMethod</code> lookups. An entry whose
+ * digest or generic types no longer match the loaded class is discarded and rewritten, so the cache invalidates itself
+ * when a class is recompiled. Types whose class files cannot be read are never persisted.
+ * 
+ * Whether read from the cache or introspected by the delegate factory, the BeanInformation returned is a
+ * {@link StaticBeanInformation} of {@link MethodPropertyInformation}, so a type is described the same way whatever the
+ * state of the cache.
+ * 
+ * Entries are written to a temporary file and then moved into place, so concurrent builds sharing a directory never
+ * see a partially written entry. Problems reading or writing the cache are logged and otherwise ignored.
+ * 
+ * This factory is not registered as a service; select it through
+ * {@link org.meanbean.test.VerifierSettings#setBeanInformationFactory(BeanInformationFactory)} or
+ * {@link org.meanbean.test.BeanTesterBuilder#setBeanInformationFactory(BeanInformationFactory)}.
+ */
+public class PersistentBeanInformationFactory implements BeanInformationFactory {
+
+	/** System property that overrides the default cache directory. */
+	public static final String DIRECTORY_PROPERTY = "meanbean.cache.dir";
+
+	/** Cache directory used when none is specified and the system property is not set. */
+	public static final Path DEFAULT_DIRECTORY = Paths.get("target", "meanbean-cache");
+
+	private static final String FILE_SUFFIX = ".mbi";
+
+	private static final int MAGIC = 0x4D424943; // "MBIC"
+
+	private static final int VERSION = 1;
+
+	private static final String NONE = "";
+
+	private static final $Logger logger = $LoggerFactory.getLogger(PersistentBeanInformationFactory.class);
+
+	/** The directory that holds the cache entries. */
+	private final Path directory;
+
+	/** The factory that introspects types whose cache entry is missing or stale. */
+	private final BeanInformationFactory delegate;
+
+	/** BeanInformation already read or created by this factory, held against each beanClass. */
+	private final CachingBeanInformationFactory memoryCache = new CachingBeanInformationFactory(this::load);
+
+	/** The number of types read from the disk cache. */
+	private final LongAdder diskHits = new LongAdder();
+
+	/** The number of types that had to be introspected by the delegate factory. */
+	private final LongAdder diskMisses = new LongAdder();
+
+	/**
+	 * Construct a new PersistentBeanInformationFactory that stores its entries in the directory named by the
+	 * <code>meanbean.cache.dir</code> system property, or <code>target/meanbean-cache</code>, and introspects using
+	 * {@link JavaBeanInformationFactory}.
+	 */
+	public PersistentBeanInformationFactory() {
+		this(defaultDirectory());
+	}
+
+	/**
+	 * Construct a new PersistentBeanInformationFactory that introspects using {@link JavaBeanInformationFactory}.
+	 * 
+	 * @param directory
+	 *            The directory to store cache entries in. It is created when the first entry is written.
+	 * 
+	 * @throws IllegalArgumentException
+	 *             If the directory is deemed illegal. For example, if it is null.
+	 */
+	public PersistentBeanInformationFactory(Path directory) throws IllegalArgumentException {
+		this(directory, new JavaBeanInformationFactory());
+	}
+
+	/**
+	 * Construct a new PersistentBeanInformationFactory.
+	 * 
+	 * @param directory
+	 *            The directory to store cache entries in. It is created when the first entry is written.
+	 * @param delegate
+	 *            The factory that introspects types that are not in the cache, or whose entry is stale.
+	 * 
+	 * @throws IllegalArgumentException
+	 *             If either parameter is deemed illegal. For example, if either is null.
+	 */
+	public PersistentBeanInformationFactory(Path directory, BeanInformationFactory delegate)
+	        throws IllegalArgumentException {
+		ValidationHelper.ensureExists("directory", "construct PersistentBeanInformationFactory", directory);
+		ValidationHelper.ensureExists("delegate", "construct PersistentBeanInformationFactory", delegate);
+		this.directory = directory;
+		this.delegate = delegate;
+	}
+
+	private static Path defaultDirectory() {
+		String directory = System.getProperty(DIRECTORY_PROPERTY);
+		return directory == null || directory.isEmpty() ? DEFAULT_DIRECTORY : Paths.get(directory);
+	}
+
+	/**
+	 * Create a BeanInformation object from/based on the specified beanClass, reading it from the disk cache if an up to
+	 * date entry exists.
+	 * 
+	 * @param beanClass
+	 *            The type of the object the BeanInformation information should be about.
+	 * 
+	 * @return Information about the specified type, encapsulated in a BeanInformation object.
+	 * 
+	 * @throws IllegalArgumentException
+	 *             If the beanClass is deemed illegal. For example, if it is null.
+	 * @throws BeanInformationException
+	 *             If a problem occurs when creating BeanInformation about the specified type.
+	 */
+	@Override
+	public BeanInformation create(Class<?> beanClass) throws IllegalArgumentException, BeanInformationException {
+		return memoryCache.create(beanClass);
+	}
+
+	/**
+	 * Get the directory that holds the cache entries.
+	 * 
+	 * @return The cache directory.
+	 */
+	public Path getDirectory() {
+		return directory;
+	}
+
+	/**
+	 * Get the number of types whose BeanInformation was read from the disk cache.
+	 * 
+	 * @return The number of disk cache hits.
+	 */
+	public long getDiskHitCount() {
+		return diskHits.sum();
+	}
+
+	/**
+	 * Get the number of types whose BeanInformation had to be created by the delegate factory, because the disk cache
+	 * had no up to date entry.
+	 * 
+	 * @return The number of disk cache misses.
+	 */
+	public long getDiskMissCount() {
+		return diskMisses.sum();
+	}
+
+	private BeanInformation load(Class<?> beanClass) {
+		byte[] digest = digest(beanClass);
+		Path file = directory.resolve(beanClass.getName() + FILE_SUFFIX);
+		if (digest != null) {
+			BeanInformation beanInformation = read(beanClass, digest, file);
+			if (beanInformation != null) {
+				diskHits.increment();
+				return beanInformation;
+			}
+		}
+		diskMisses.increment();
+		BeanInformation beanInformation = delegate.create(beanClass);
+		if (digest != null) {
+			write(beanInformation, digest, file);
+		}
+		return toStaticBeanInformation(beanClass, beanInformation);
+	}
+
+	/**
+	 * Describe the properties found by the delegate factory the way an entry read from the cache describes them.
+	 */
+	private static BeanInformation toStaticBeanInformation(Class<?> beanClass, BeanInformation beanInformation) {
+		List<PropertyInformation> properties = new ArrayList<>();
+		for (PropertyInformation property : beanInformation.getProperties()) {
+			properties.add(createPropertyInformation(beanClass, property.getName(), property.getReadMethod(),
+			        property.getWriteMethod()));
+		}
+		return new StaticBeanInformation(beanClass, null, properties.toArray(new PropertyInformation[0]));
+	}
+
+	private static PropertyInformation createPropertyInformation(Class<?> beanClass, String name, Method readMethod,
+	        Method writeMethod) {
+		if (readMethod != null && writeMethod != null) {
+			makeAccessible(readMethod);
+			makeAccessible(writeMethod);
+		}
+		return new MethodPropertyInformation(beanClass, name, readMethod, writeMethod);
+	}
+
+	/**
+	 * Digest the class files of the beanClass and its supertypes, which together determine its properties.
+	 * 
+	 * @return The digest, or <code>null</code> if a class file cannot be read.
+	 */
+	private byte[] digest(Class<?> beanClass) {
+		MessageDigest messageDigest;
+		try {
+			messageDigest = MessageDigest.getInstance("SHA-256");
+		} catch (NoSuchAlgorithmException e) {
+			return null;
+		}
+		messageDigest.update(System.getProperty("java.version", NONE).getBytes(StandardCharsets.UTF_8));
+		messageDigest.update(delegate.getClass().getName().getBytes(StandardCharsets.UTF_8));
+		byte[] buffer = new byte[8192];
+		for (Class<?> type : typeHierarchy(beanClass)) {
+			ClassLoader classLoader = type.getClassLoader();
+			if (classLoader == null) {
+				continue; // platform classes are covered by the Java version
+			}
+			String resource = type.getName().replace('.', '/') + ".class";
+			try (InputStream in = classLoader.getResourceAsStream(resource)) {
+				if (in == null) {
+					return null;
+				}
+				messageDigest.update(resource.getBytes(StandardCharsets.UTF_8));
+				for (int read = in.read(buffer); read != -1; read = in.read(buffer)) {
+					messageDigest.update(buffer, 0, read);
+				}
+			} catch (IOException e) {
+				return null;
+			}
+		}
+		return messageDigest.digest();
+	}
+
+	private static Set<Class<?>> typeHierarchy(Class<?> beanClass) {
+		Set<Class<?>> types = new LinkedHashSet<>();
+		List<Class<?>> pending = new ArrayList<>();
+		pending.add(beanClass);
+		while (!pending.isEmpty()) {
+			Class<?> type = pending.remove(pending.size() - 1);
+			if (type != null && types.add(type)) {
+				pending.add(type.getSuperclass());
+				pending.addAll(Arrays.asList(type.getInterfaces()));
+			}
+		}
+		return types;
+	}
+
+	private BeanInformation read(Class<?> beanClass, byte[] digest, Path file) {
+		try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+			MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+			if (buffer.getInt() != MAGIC || buffer.getInt() != VERSION) {
+				return null;
+			}
+			byte[] storedDigest = new byte[buffer.getInt()];
+			buffer.get(storedDigest);
+			if (!Arrays.equals(digest, storedDigest)) {
+				return null;
+			}
+			int propertyCount = buffer.getInt();
+			PropertyInformation[] properties = new PropertyInformation[propertyCount];
+			for (int idx = 0; idx < propertyCount; idx++) {
+				String name = readString(buffer);
+				Method readMethod = resolveReadMethod(beanClass, readString(buffer), readString(buffer));
+				Method writeMethod = resolveWriteMethod(beanClass, readString(buffer), readString(buffer),
+				        readString(buffer), readString(buffer));
+				properties[idx] = createPropertyInformation(beanClass, name, readMethod, writeMethod);
+			}
+			return new StaticBeanInformation(beanClass, null, properties);
+		} catch (NoSuchFileException e) {
+			return null;
+		} catch (IOException | RuntimeException | ReflectiveOperationException | LinkageError e) {
+			// stale or damaged entry; it is rewritten from freshly gathered information
+			logger.debug("Ignoring cached BeanInformation [{}]: {}", file, e.toString());
+			return null;
+		}
+	}
+
+	private static Method resolveReadMethod(Class<?> beanClass, String name, String genericReturnType)
+	        throws ReflectiveOperationException {
+		if (name.isEmpty()) {
+			return null;
+		}
+		Method method = beanClass.getMethod(name);
+		checkType(method.getGenericReturnType(), genericReturnType);
+		return method;
+	}
+
+	private static Method resolveWriteMethod(Class<?> beanClass, String name, String parameterType,
+	        String genericParameterType, String returnType) throws ReflectiveOperationException {
+		if (name.isEmpty()) {
+			return null;
+		}
+		Method method = beanClass.getMethod(name, toClass(beanClass, parameterType));
+		checkType(method.getGenericParameterTypes()[0], genericParameterType);
+		checkType(method.getReturnType(), returnType);
+		return method;
+	}
+
+	private static void checkType(Type actual, String expected) throws NoSuchMethodException {
+		if (!actual.getTypeName().equals(expected)) {
+			throw new NoSuchMethodException("Expected [" + expected + "] but found [" + actual.getTypeName() + "]");
+		}
+	}
+
+	private static Class<?> toClass(Class<?> beanClass, String name) throws ClassNotFoundException {
+		switch (name) {
+		case "boolean":
+			return boolean.class;
+		case "byte":
+			return byte.class;
+		case "char":
+			return char.class;
+		case "short":
+			return short.class;
+		case "int":
+			return int.class;
+		case "long":
+			return long.class;
+		case "float":
+			return float.class;
+		case "double":
+			return double.class;
+		default:
+			return Class.forName(name, false, beanClass.getClassLoader());
+		}
+	}
+
+	private void write(BeanInformation beanInformation, byte[] digest, Path file) {
+		Collection<PropertyInformation> properties = beanInformation.getProperties();
+		try {
+			ByteArrayOutputStream bytes = new ByteArrayOutputStream(256);
+			DataOutputStream out = new DataOutputStream(bytes);
+			out.writeInt(MAGIC);
+			out.writeInt(VERSION);
+			out.writeInt(digest.length);
+			out.write(digest);
+			out.writeInt(properties.size());
+			for (PropertyInformation property : properties) {
+				Method readMethod = property.getReadMethod();
+				Method writeMethod = property.getWriteMethod();
+				writeString(out, property.getName());
+				writeString(out, readMethod == null ? NONE : readMethod.getName());
+				writeString(out, readMethod == null ? NONE : readMethod.getGenericReturnType().getTypeName());
+				writeString(out, writeMethod == null ? NONE : writeMethod.getName());
+				writeString(out, writeMethod == null ? NONE : writeMethod.getParameterTypes()[0].getName());
+				writeString(out,
+				        writeMethod == null ? NONE : writeMethod.getGenericParameterTypes()[0].getTypeName());
+				writeString(out, writeMethod == null ? NONE : writeMethod.getReturnType().getTypeName());
+			}
+			out.flush();
+
+			Files.createDirectories(directory);
+			Path temporaryFile = Files.createTempFile(directory, file.getFileName().toString(), ".tmp");
+			try {
+				Files.write(temporaryFile, bytes.toByteArray());
+				try {
+					Files.move(temporaryFile, file, StandardCopyOption.ATOMIC_MOVE,
+					        StandardCopyOption.REPLACE_EXISTING);
+				} catch (AtomicMoveNotSupportedException e) {
+					Files.move(temporaryFile, file, StandardCopyOption.REPLACE_EXISTING);
+				}
+			} finally {
+				Files.deleteIfExists(temporaryFile);
+			}
+		} catch (IOException | RuntimeException e) {
+			logger.debug("Failed to cache BeanInformation [{}]: {}", file, e.toString());
+		}
+	}
+
+	private static void writeString(DataOutputStream out, String value) throws IOException {
+		byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+		out.writeInt(bytes.length);
+		out.write(bytes);
+	}
+
+	private static String readString(ByteBuffer buffer) {
+		byte[] bytes = new byte[buffer.getInt()];
+		buffer.get(bytes);
+		return new String(bytes, StandardCharsets.UTF_8);
+	}
+
+	private static void makeAccessible(Method method) {
+		if (!method.isAccessible()) {
+			ReflectionAccessor.getInstance().makeAccessible(method);
+		}
+	}
+
+	@Override
+	public String toString() {
+		return "PersistentBeanInformationFactory[directory=" + directory + ", diskHits=" + getDiskHitCount()
+		        + ", diskMisses=" + getDiskMissCount() + "]";
+	}
+}
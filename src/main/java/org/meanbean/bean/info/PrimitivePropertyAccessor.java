@@ -0,0 +1,382 @@
+/*-
+ * ​​​
+ * meanbean
+ * ⁣⁣⁣
+ * Copyright (C) 2010 - 2020 the original author or authors.
+ * ⁣⁣⁣
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * ﻿﻿﻿﻿﻿
+ */
+
+package org.meanbean.bean.info;
+
+import org.meanbean.lang.Factory;
+import org.meanbean.lang.PrimitiveFactory;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+
+/**
+ * Writes a primitive value to a property and reads it back without boxing it, for properties whose read method returns
+ * and whose write method accepts the same primitive type.
+ * 
+ * The read and write methods are linked to MethodHandles of their exact primitive types, so a round trip through a
+ * property allocates nothing unless the value read back differs from the value written. Values are compared as their
+ * wrapper types' equals methods would compare them.
+ */
+public abstract class PrimitivePropertyAccessor {
+
+	private static final MethodHandles.Lookup LOOKUP = MethodHandles.lookup();
+
+	/** The property the accessor reads and writes. */
+	private final PropertyInformation property;
+
+	/** The read method, adapted to take an Object and return the primitive type. */
+	final MethodHandle getter;
+
+	/** The write method, adapted to take an Object and the primitive type. */
+	final MethodHandle setter;
+
+	private PrimitivePropertyAccessor(PropertyInformation property, MethodHandle getter, MethodHandle setter) {
+		this.property = property;
+		this.getter = getter;
+		this.setter = setter;
+	}
+
+	/**
+	 * Get a PrimitivePropertyAccessor for the specified property, if it has one.
+	 * 
+	 * @param property
+	 *            The property to access.
+	 * 
+	 * @return A PrimitivePropertyAccessor, or <code>null</code> if the property is not a primitive property with public
+	 *         read and write methods that can be linked from this library.
+	 */
+	public static PrimitivePropertyAccessor of(PropertyInformation property) {
+		Method readMethod = property.getReadMethod();
+		Method writeMethod = property.getWriteMethod();
+		if (readMethod == null || writeMethod == null || writeMethod.getParameterCount() != 1
+		        || Modifier.isStatic(readMethod.getModifiers()) || Modifier.isStatic(writeMethod.getModifiers())) {
+			return null;
+		}
+		Class<?> type = readMethod.getReturnType();
+		if (!type.isPrimitive() || type != writeMethod.getParameterTypes()[0]) {
+			return null;
+		}
+		MethodHandle getter;
+		MethodHandle setter;
+		try {
+			getter = LOOKUP.unreflect(readMethod).asType(MethodType.methodType(type, Object.class));
+			setter = LOOKUP.unreflect(writeMethod).asType(MethodType.methodType(void.class, Object.class, type));
+		} catch (IllegalAccessException e) {
+			return null;
+		}
+		if (type == boolean.class) {
+			return new OfBoolean(property, getter, setter);
+		} else if (type == byte.class) {
+			return new OfByte(property, getter, setter);
+		} else if (type == short.class) {
+			return new OfShort(property, getter, setter);
+		} else if (type == int.class) {
+			return new OfInt(property, getter, setter);
+		} else if (type == long.class) {
+			return new OfLong(property, getter, setter);
+		} else if (type == float.class) {
+			return new OfFloat(property, getter, setter);
+		} else if (type == double.class) {
+			return new OfDouble(property, getter, setter);
+		} else if (type == char.class) {
+			return new OfChar(property, getter, setter);
+		}
+		return null;
+	}
+
+	/**
+	 * Get the property this accessor reads and writes.
+	 * 
+	 * @return Information about the property.
+	 */
+	public PropertyInformation getProperty() {
+		return property;
+	}
+
+	/**
+	 * Can this accessor take its values from the specified Factory? That requires the Factory to be a PrimitiveFactory
+	 * of the property's primitive type.
+	 * 
+	 * @param factory
+	 *            The Factory that would create values for the property.
+	 * 
+	 * @return <code>true</code> if writeAndRead accepts the factory; <code>false</code> otherwise.
+	 */
+	public abstract boolean supports(Factory<?> factory);
+
+	/**
+	 * Write a value created by the specified factory to the property of the specified bean, then read the property
+	 * back.
+	 * 
+	 * @param bean
+	 *            The object whose property should be written and read.
+	 * @param factory
+	 *            The Factory to create the value with, which this accessor must support.
+	 * 
+	 * @return <code>null</code> if the property returned the value written to it; otherwise the values written and
+	 *         read.
+	 * 
+	 * @throws InvocationTargetException
+	 *             If the read or write method throws an exception, or the bean is not an instance of the type
+	 *             declaring them.
+	 */
+	public abstract Mismatch writeAndRead(Object bean, Factory<?> factory) throws InvocationTargetException;
+
+	@Override
+	public String toString() {
+		return "PrimitivePropertyAccessor[" + property.getName() + "]";
+	}
+
+	/**
+	 * A value written to a property and the different value read back from it.
+	 */
+	public static final class Mismatch {
+
+		private final Object written;
+
+		private final Object read;
+
+		Mismatch(Object written, Object read) {
+			this.written = written;
+			this.read = read;
+		}
+
+		/**
+		 * @return The value written to the property.
+		 */
+		public Object getWritten() {
+			return written;
+		}
+
+		/**
+		 * @return The value read back from the property.
+		 */
+		public Object getRead() {
+			return read;
+		}
+	}
+
+	private static final class OfBoolean extends PrimitivePropertyAccessor {
+
+		OfBoolean(PropertyInformation property, MethodHandle getter, MethodHandle setter) {
+			super(property, getter, setter);
+		}
+
+		@Override
+		public boolean supports(Factory<?> factory) {
+			return factory instanceof PrimitiveFactory.OfBoolean;
+		}
+
+		@Override
+		public Mismatch writeAndRead(Object bean, Factory<?> factory) throws InvocationTargetException {
+			boolean written = ((PrimitiveFactory.OfBoolean) factory).createBoolean();
+			boolean read;
+			try {
+				setter.invokeExact(bean, written);
+				read = (boolean) getter.invokeExact(bean);
+			} catch (Throwable e) {
+				throw new InvocationTargetException(e);
+			}
+			return read == written ? null : new Mismatch(written, read);
+		}
+	}
+
+	private static final class OfByte extends PrimitivePropertyAccessor {
+
+		OfByte(PropertyInformation property, MethodHandle getter, MethodHandle setter) {
+			super(property, getter, setter);
+		}
+
+		@Override
+		public boolean supports(Factory<?> factory) {
+			return factory instanceof PrimitiveFactory.OfByte;
+		}
+
+		@Override
+		public Mismatch writeAndRead(Object bean, Factory<?> factory) throws InvocationTargetException {
+			byte written = ((PrimitiveFactory.OfByte) factory).createByte();
+			byte read;
+			try {
+				setter.invokeExact(bean, written);
+				read = (byte) getter.invokeExact(bean);
+			} catch (Throwable e) {
+				throw new InvocationTargetException(e);
+			}
+			return read == written ? null : new Mismatch(written, read);
+		}
+	}
+
+	private static final class OfShort extends PrimitivePropertyAccessor {
+
+		OfShort(PropertyInformation property, MethodHandle getter, MethodHandle setter) {
+			super(property, getter, setter);
+		}
+
+		@Override
+		public boolean supports(Factory<?> factory) {
+			return factory instanceof PrimitiveFactory.OfShort;
+		}
+
+		@Override
+		public Mismatch writeAndRead(Object bean, Factory<?> factory) throws InvocationTargetException {
+			short written = ((PrimitiveFactory.OfShort) factory).createShort();
+			short read;
+			try {
+				setter.invokeExact(bean, written);
+				read = (short) getter.invokeExact(bean);
+			} catch (Throwable e) {
+				throw new InvocationTargetException(e);
+			}
+			return read == written ? null : new Mismatch(written, read);
+		}
+	}
+
+	private static final class OfInt extends PrimitivePropertyAccessor {
+
+		OfInt(PropertyInformation property, MethodHandle getter, MethodHandle setter) {
+			super(property, getter, setter);
+		}
+
+		@Override
+		public boolean supports(Factory<?> factory) {
+			return factory instanceof PrimitiveFactory.OfInt;
+		}
+
+		@Override
+		public Mismatch writeAndRead(Object bean, Factory<?> factory) throws InvocationTargetException {
+			int written = ((PrimitiveFactory.OfInt) factory).createInt();
+			int read;
+			try {
+				setter.invokeExact(bean, written);
+				read = (int) getter.invokeExact(bean);
+			} catch (Throwable e) {
+				throw new InvocationTargetException(e);
+			}
+			return read == written ? null : new Mismatch(written, read);
+		}
+	}
+
+	private static final class OfLong extends PrimitivePropertyAccessor {
+
+		OfLong(PropertyInformation property, MethodHandle getter, MethodHandle setter) {
+			super(property, getter, setter);
+		}
+
+		@Override
+		public boolean supports(Factory<?> factory) {
+			return factory instanceof PrimitiveFactory.OfLong;
+		}
+
+		@Override
+		public Mismatch writeAndRead(Object bean, Factory<?> factory) throws InvocationTargetException {
+			long written = ((PrimitiveFactory.OfLong) factory).createLong();
+			long read;
+			try {
+				setter.invokeExact(bean, written);
+				read = (long) getter.invokeExact(bean);
+			} catch (Throwable e) {
+				throw new InvocationTargetException(e);
+			}
+			return read == written ? null : new Mismatch(written, read);
+		}
+	}
+
+	private static final class OfFloat extends PrimitivePropertyAccessor {
+
+		OfFloat(PropertyInformation property, MethodHandle getter, MethodHandle setter) {
+			super(property, getter, setter);
+		}
+
+		@Override
+		public boolean supports(Factory<?> factory) {
+			return factory instanceof PrimitiveFactory.OfFloat;
+		}
+
+		@Override
+		public Mismatch writeAndRead(Object bean, Factory<?> factory) throws InvocationTargetException {
+			float written = ((PrimitiveFactory.OfFloat) factory).createFloat();
+			float read;
+			try {
+				setter.invokeExact(bean, written);
+				read = (float) getter.invokeExact(bean);
+			} catch (Throwable e) {
+				throw new InvocationTargetException(e);
+			}
+			// as Float.equals compares
+			return Float.floatToIntBits(read) == Float.floatToIntBits(written) ? null : new Mismatch(written, read);
+		}
+	}
+
+	private static final class OfDouble extends PrimitivePropertyAccessor {
+
+		OfDouble(PropertyInformation property, MethodHandle getter, MethodHandle setter) {
+			super(property, getter, setter);
+		}
+
+		@Override
+		public boolean supports(Factory<?> factory) {
+			return factory instanceof PrimitiveFactory.OfDouble;
+		}
+
+		@Override
+		public Mismatch writeAndRead(Object bean, Factory<?> factory) throws InvocationTargetException {
+			double written = ((PrimitiveFactory.OfDouble) factory).createDouble();
+			double read;
+			try {
+				setter.invokeExact(bean, written);
+				read = (double) getter.invokeExact(bean);
+			} catch (Throwable e) {
+				throw new InvocationTargetException(e);
+			}
+			// as Double.equals compares
+			return Double.doubleToLongBits(read) == Double.doubleToLongBits(written) ? null
+			        : new Mismatch(written, read);
+		}
+	}
+
+	private static final class OfChar extends PrimitivePropertyAccessor {
+
+		OfChar(PropertyInformation property, MethodHandle getter, MethodHandle setter) {
+			super(property, getter, setter);
+		}
+
+		@Override
+		public boolean supports(Factory<?> factory) {
+			return factory instanceof PrimitiveFactory.OfChar;
+		}
+
+		@Override
+		public Mismatch writeAndRead(Object bean, Factory<?> factory) throws InvocationTargetException {
+			char written = ((PrimitiveFactory.OfChar) factory).createChar();
+			char read;
+			try {
+				setter.invokeExact(bean, written);
+				read = (char) getter.invokeExact(bean);
+			} catch (Throwable e) {
+				throw new InvocationTargetException(e);
+			}
+			return read == written ? null : new Mismatch(written, read);
+		}
+	}
+}
@@ -0,0 +1,359 @@
+/*-
+ * ​​​
+ * meanbean
+ * ⁣⁣⁣
+ * Copyright (C) 2010 - 2020 the original author or authors.
+ * ⁣⁣⁣
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * ﻿﻿﻿﻿﻿
+ */
+
+package org.meanbean.bean.info;
+
+import java.lang.invoke.CallSite;
+import java.lang.invoke.LambdaMetafactory;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.util.function.BiConsumer;
+import java.util.function.Function;
+
+/**
+ * Creates PropertyGetter and PropertySetter objects for property read and write methods.
+ * 
+ * Where the method and the types in its signature are public and visible to this library, the accessor is spun with
+ * LambdaMetafactory and is as cheap to call as a direct method call. Otherwise the accessor holds a MethodHandle
+ * unreflected from the (possibly setAccessible) method. If neither can be linked, the accessor falls back to
+ * Method.invoke.
+ * 
+ * Compiled accessors behave like Method.invoke: exceptions thrown by the method are wrapped in an
+ * InvocationTargetException, and arguments that do not match the method signature are rejected with an
+ * IllegalArgumentException (or, for primitive conversions, handed to Method.invoke to widen).
+ */
+final class PropertyAccessors {
+
+	private static final MethodHandles.Lookup LOOKUP = MethodHandles.lookup();
+
+	private static final MethodType GETTER_TYPE = MethodType.methodType(Object.class, Object.class);
+
+	private static final MethodType SETTER_TYPE = MethodType.methodType(void.class, Object.class, Object.class);
+
+	private PropertyAccessors() {
+		// Static utility
+	}
+
+	/**
+	 * Create a PropertyGetter that calls the specified read method via Method.invoke.
+	 * 
+	 * @param readMethod
+	 *            The read method of a property. May be <code>null</code>.
+	 * 
+	 * @return A reflective PropertyGetter, or <code>null</code> if readMethod is <code>null</code>.
+	 */
+	static PropertyGetter reflectiveGetter(Method readMethod) {
+		if (readMethod == null) {
+			return null;
+		}
+		return readMethod::invoke;
+	}
+
+	/**
+	 * Create a PropertySetter that calls the specified write method via Method.invoke.
+	 * 
+	 * @param writeMethod
+	 *            The write method of a property. May be <code>null</code>.
+	 * 
+	 * @return A reflective PropertySetter, or <code>null</code> if writeMethod is <code>null</code>.
+	 */
+	static PropertySetter reflectiveSetter(Method writeMethod) {
+		if (writeMethod == null) {
+			return null;
+		}
+		return writeMethod::invoke;
+	}
+
+	/**
+	 * Create a PropertyGetter linked directly to the specified read method.
+	 * 
+	 * @param readMethod
+	 *            The read method of a property. May be <code>null</code>.
+	 * 
+	 * @return A compiled PropertyGetter, or <code>null</code> if readMethod is <code>null</code>.
+	 */
+	static PropertyGetter compileGetter(Method readMethod) {
+		if (readMethod == null) {
+			return null;
+		}
+		if (readMethod.getParameterCount() != 0 || Modifier.isStatic(readMethod.getModifiers())) {
+			return reflectiveGetter(readMethod);
+		}
+		try {
+			MethodHandle handle = LOOKUP.unreflect(readMethod);
+			if (isLinkable(readMethod)) {
+				return new LambdaGetter(readMethod, spinGetter(readMethod, handle));
+			}
+			return new HandleGetter(readMethod, handle.asType(GETTER_TYPE));
+		} catch (Throwable e) {
+			return reflectiveGetter(readMethod);
+		}
+	}
+
+	/**
+	 * Create a PropertySetter linked directly to the specified write method.
+	 * 
+	 * @param writeMethod
+	 *            The write method of a property. May be <code>null</code>.
+	 * 
+	 * @return A compiled PropertySetter, or <code>null</code> if writeMethod is <code>null</code>.
+	 */
+	static PropertySetter compileSetter(Method writeMethod) {
+		if (writeMethod == null) {
+			return null;
+		}
+		if (writeMethod.getParameterCount() != 1 || Modifier.isStatic(writeMethod.getModifiers())) {
+			return reflectiveSetter(writeMethod);
+		}
+		try {
+			MethodHandle handle = LOOKUP.unreflect(writeMethod);
+			if (isLinkable(writeMethod)) {
+				return new LambdaSetter(writeMethod, spinSetter(writeMethod, handle));
+			}
+			return new HandleSetter(writeMethod, handle.asType(SETTER_TYPE));
+		} catch (Throwable e) {
+			return reflectiveSetter(writeMethod);
+		}
+	}
+
+	@SuppressWarnings("unchecked")
+	private static Function<Object, Object> spinGetter(Method method, MethodHandle handle) throws Throwable {
+		MethodType instantiatedType = MethodType.methodType(wrap(method.getReturnType()), method.getDeclaringClass());
+		CallSite callSite = LambdaMetafactory.metafactory(LOOKUP, "apply", MethodType.methodType(Function.class),
+		        GETTER_TYPE, handle, instantiatedType);
+		return (Function<Object, Object>) callSite.getTarget().invoke();
+	}
+
+	@SuppressWarnings("unchecked")
+	private static BiConsumer<Object, Object> spinSetter(Method method, MethodHandle handle) throws Throwable {
+		MethodType instantiatedType = MethodType.methodType(void.class, method.getDeclaringClass(),
+		        wrap(method.getParameterTypes()[0]));
+		CallSite callSite = LambdaMetafactory.metafactory(LOOKUP, "accept", MethodType.methodType(BiConsumer.class),
+		        SETTER_TYPE, handle, instantiatedType);
+		return (BiConsumer<Object, Object>) callSite.getTarget().invoke();
+	}
+
+	/**
+	 * Can a lambda spun in this library's package call the specified method? That requires the method, its declaring
+	 * class and every type in its signature to be public and resolvable from this library's class loader.
+	 */
+	private static boolean isLinkable(Method method) {
+		if (!Modifier.isPublic(method.getModifiers())) {
+			return false;
+		}
+		if (!isLinkable(method.getDeclaringClass()) || !isLinkable(method.getReturnType())) {
+			return false;
+		}
+		for (Class<?> parameterType : method.getParameterTypes()) {
+			if (!isLinkable(parameterType)) {
+				return false;
+			}
+		}
+		return true;
+	}
+
+	private static boolean isLinkable(Class<?> type) {
+		while (type.isArray()) {
+			type = type.getComponentType();
+		}
+		if (type.isPrimitive()) {
+			return true;
+		}
+		for (Class<?> enclosing = type; enclosing != null; enclosing = enclosing.getDeclaringClass()) {
+			if (!Modifier.isPublic(enclosing.getModifiers())) {
+				return false;
+			}
+		}
+		try {
+			return Class.forName(type.getName(), false, PropertyAccessors.class.getClassLoader()) == type;
+		} catch (ClassNotFoundException | LinkageError e) {
+			return false;
+		}
+	}
+
+	/**
+	 * Would Method.invoke accept the specified value as an argument of the specified type without conversion?
+	 */
+	private static boolean isDirectlyAssignable(Class<?> wrappedType, Class<?> parameterType, Object value) {
+		return value == null ? !parameterType.isPrimitive() : wrappedType.isInstance(value);
+	}
+
+	private static Class<?> wrap(Class<?> type) {
+		return MethodType.methodType(type).wrap().returnType();
+	}
+
+	private static IllegalArgumentException notAnInstance(Method method) {
+		return new IllegalArgumentException("object is not an instance of declaring class " + method.getDeclaringClass().getName());
+	}
+
+	private static final class LambdaGetter implements PropertyGetter {
+
+		private final Method method;
+
+		private final Class<?> declaringClass;
+
+		private final Function<Object, Object> function;
+
+		LambdaGetter(Method method, Function<Object, Object> function) {
+			this.method = method;
+			this.declaringClass = method.getDeclaringClass();
+			this.function = function;
+		}
+
+		@Override
+		public Object get(Object bean) throws IllegalArgumentException, InvocationTargetException {
+			if (!declaringClass.isInstance(bean)) {
+				throw notAnInstance(method);
+			}
+			try {
+				return function.apply(bean);
+			} catch (Throwable e) {
+				throw new InvocationTargetException(e);
+			}
+		}
+
+		@Override
+		public String toString() {
+			return "PropertyGetter[" + method + "]";
+		}
+	}
+
+	private static final class HandleGetter implements PropertyGetter {
+
+		private final Method method;
+
+		private final Class<?> declaringClass;
+
+		private final MethodHandle handle;
+
+		HandleGetter(Method method, MethodHandle handle) {
+			this.method = method;
+			this.declaringClass = method.getDeclaringClass();
+			this.handle = handle;
+		}
+
+		@Override
+		public Object get(Object bean) throws IllegalArgumentException, InvocationTargetException {
+			if (!declaringClass.isInstance(bean)) {
+				throw notAnInstance(method);
+			}
+			try {
+				return (Object) handle.invokeExact(bean);
+			} catch (Throwable e) {
+				throw new InvocationTargetException(e);
+			}
+		}
+
+		@Override
+		public String toString() {
+			return "PropertyGetter[" + method + "]";
+		}
+	}
+
+	private static final class LambdaSetter implements PropertySetter {
+
+		private final Method method;
+
+		private final Class<?> declaringClass;
+
+		private final Class<?> parameterType;
+
+		private final Class<?> wrappedParameterType;
+
+		private final BiConsumer<Object, Object> consumer;
+
+		LambdaSetter(Method method, BiConsumer<Object, Object> consumer) {
+			this.method = method;
+			this.declaringClass = method.getDeclaringClass();
+			this.parameterType = method.getParameterTypes()[0];
+			this.wrappedParameterType = wrap(parameterType);
+			this.consumer = consumer;
+		}
+
+		@Override
+		public void set(Object bean, Object value) throws IllegalAccessException, IllegalArgumentException,
+		        InvocationTargetException {
+			if (!declaringClass.isInstance(bean)) {
+				throw notAnInstance(method);
+			}
+			if (!isDirectlyAssignable(wrappedParameterType, parameterType, value)) {
+				method.invoke(bean, value);
+				return;
+			}
+			try {
+				consumer.accept(bean, value);
+			} catch (Throwable e) {
+				throw new InvocationTargetException(e);
+			}
+		}
+
+		@Override
+		public String toString() {
+			return "PropertySetter[" + method + "]";
+		}
+	}
+
+	private static final class HandleSetter implements PropertySetter {
+
+		private final Method method;
+
+		private final Class<?> declaringClass;
+
+		private final Class<?> parameterType;
+
+		private final Class<?> wrappedParameterType;
+
+		private final MethodHandle handle;
+
+		HandleSetter(Method method, MethodHandle handle) {
+			this.method = method;
+			this.declaringClass = method.getDeclaringClass();
+			this.parameterType = method.getParameterTypes()[0];
+			this.wrappedParameterType = wrap(parameterType);
+			this.handle = handle;
+		}
+
+		@Override
+		public void set(Object bean, Object value) throws IllegalAccessException, IllegalArgumentException,
+		        InvocationTargetException {
+			if (!declaringClass.isInstance(bean)) {
+				throw notAnInstance(method);
+			}
+			if (!isDirectlyAssignable(wrappedParameterType, parameterType, value)) {
+				method.invoke(bean, value);
+				return;
+			}
+			try {
+				handle.invokeExact(bean, value);
+			} catch (Throwable e) {
+				throw new InvocationTargetException(e);
+			}
+		}
+
+		@Override
+		public String toString() {
+			return "PropertySetter[" + method + "]";
+		}
+	}
+}
@@ -32,6 +32,9 @@ import java.lang.reflect.Type;
  */
 class PropertyDescriptorPropertyInformation implements PropertyInformation {
 
+	/** The type the property belongs to; generic property types are resolved against it. May be <code>null</code>. */
+	private final Class<?> beanClass;
+
 	/** The name of the property. */
 	private final String name;
 
@@ -40,6 +43,18 @@ class PropertyDescriptorPropertyInformation implements PropertyInformation {
 	
 	private Method writeMethodOverride;
 
+	/** Reads the property; compiled on first use. */
+	private volatile PropertyGetter propertyGetter;
+
+	/** Writes the property; compiled on first use. */
+	private volatile PropertySetter propertySetter;
+
+	/** The resolved return type of the read method; resolved on first use. */
+	private volatile Type readMethodReturnType;
+
+	/** The resolved parameter type of the write method; resolved on first use. */
+	private volatile Type writeMethodParameterType;
+
 	/**
 	 * Construct a new Property Descriptor Property Information based on the specified Property Descriptor.
 	 * 
@@ -47,6 +62,19 @@ class PropertyDescriptorPropertyInformation implements PropertyInformation {
 	 *            The PropertyDescriptor this object will wrap.
 	 */
 	PropertyDescriptorPropertyInformation(PropertyDescriptor propertyDescriptor) {
+		this(null, propertyDescriptor);
+	}
+
+	/**
+	 * Construct a new Property Descriptor Property Information based on the specified Property Descriptor.
+	 * 
+	 * @param beanClass
+	 *            The type the property belongs to. Generic property types are resolved against it.
+	 * @param propertyDescriptor
+	 *            The PropertyDescriptor this object will wrap.
+	 */
+	PropertyDescriptorPropertyInformation(Class<?> beanClass, PropertyDescriptor propertyDescriptor) {
+		this.beanClass = beanClass;
 		this.name = propertyDescriptor.getName();
 		this.propertyDescriptor = propertyDescriptor;
 	}
@@ -129,24 +157,64 @@ class PropertyDescriptorPropertyInformation implements PropertyInformation {
 
 	public void setWriteMethodOverride(Method writeMethodOverride) {
 		this.writeMethodOverride = writeMethodOverride;
+		this.propertySetter = null;
+		this.writeMethodParameterType = null;
+	}
+
+	/**
+	 * Get an object that reads the property via its read method (getter method). The object is linked to the read
+	 * method on first use and then reused.
+	 * 
+	 * @return A PropertyGetter for the property. If the property is not publicly readable, <code>null</code> is
+	 *         returned.
+	 */
+	@Override
+	public PropertyGetter getPropertyGetter() {
+		PropertyGetter getter = propertyGetter;
+		if (getter == null) {
+			getter = PropertyAccessors.compileGetter(getReadMethod());
+			propertyGetter = getter;
+		}
+		return getter;
+	}
+
+	/**
+	 * Get an object that writes the property via its write method (setter method). The object is linked to the write
+	 * method on first use and then reused.
+	 * 
+	 * @return A PropertySetter for the property. If the property is not publicly writable, <code>null</code> is
+	 *         returned.
+	 */
+	@Override
+	public PropertySetter getPropertySetter() {
+		PropertySetter setter = propertySetter;
+		if (setter == null) {
+			setter = PropertyAccessors.compileSetter(getWriteMethod());
+			propertySetter = setter;
+		}
+		return setter;
 	}
 
 	/**
-	 * Get the return type of the read method (getter method) of the property.
+	 * Get the return type of the read method (getter method) of the property, with any type variables resolved against
+	 * the bean class.
 	 * 
 	 * @return The return type of the read method. If the property does not have a read method, returns
 	 *         <code>null</code>
 	 */
 	@Override
     public Type getReadMethodReturnType() {
-		if (isReadable()) {
-			return getReadMethod().getGenericReturnType();
+		Type type = readMethodReturnType;
+		if (type == null && isReadable()) {
+			type = PropertyTypes.resolveReturnType(beanClass, getReadMethod());
+			readMethodReturnType = type;
 		}
-		return null;
+		return type;
 	}
 
 	/**
-	 * Get the parameter type of the write method (setter method) of the property.
+	 * Get the parameter type of the write method (setter method) of the property, with any type variables resolved
+	 * against the bean class.
 	 * 
 	 * @return The type of the write method parameter. If the property does not have a write method, returns
 	 *         <code>null</code>
@@ -156,12 +224,12 @@ class PropertyDescriptorPropertyInformation implements PropertyInformation {
 	 */
 	@Override
     public Type getWriteMethodParameterType() throws IllegalArgumentException {
-		Method writeMethod = getWriteMethod();
-		if (writeMethod != null) {
-			Type[] parameterTypes = writeMethod.getGenericParameterTypes();;
-			return parameterTypes[0];
+		Type type = writeMethodParameterType;
+		if (type == null && isWritable()) {
+			type = PropertyTypes.resolveParameterType(beanClass, getWriteMethod());
+			writeMethodParameterType = type;
 		}
-		return null;
+		return type;
 	}
 
 	/**
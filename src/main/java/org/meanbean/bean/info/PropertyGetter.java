@@ -0,0 +1,50 @@
+/*-
+ * ​​​
+ * meanbean
+ * ⁣⁣⁣
+ * Copyright (C) 2010 - 2020 the original author or authors.
+ * ⁣⁣⁣
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * ﻿﻿﻿﻿﻿
+ */
+
+package org.meanbean.bean.info;
+
+import java.lang.reflect.InvocationTargetException;
+
+/**
+ * Reads the value of a property from a bean. Instances are linked to a single read method once, so that reading the
+ * property repeatedly does not pay for reflective lookup and access checks on every call.
+ * 
+ * @see PropertyInformation#getPropertyGetter()
+ */
+@FunctionalInterface
+public interface PropertyGetter {
+
+	/**
+	 * Read the property from the specified bean.
+	 * 
+	 * @param bean
+	 *            The object to read the property from.
+	 * 
+	 * @return The value returned by the property's read method.
+	 * 
+	 * @throws IllegalAccessException
+	 *             If the read method is inaccessible.
+	 * @throws IllegalArgumentException
+	 *             If the bean is not an instance of the type declaring the read method.
+	 * @throws InvocationTargetException
+	 *             If the read method itself throws an exception.
+	 */
+	Object get(Object bean) throws IllegalAccessException, IllegalArgumentException, InvocationTargetException;
+}
@@ -99,4 +99,30 @@ public interface PropertyInformation {
 	 *             If the write method takes more than one parameter, or zero parameters.
 	 */
 	Type getWriteMethodParameterType() throws IllegalArgumentException;
+
+	/**
+	 * Get an object that reads the property via its read method (getter method).
+	 * 
+	 * Implementations should link the returned object to the read method once, so that it is cheaper to call
+	 * repeatedly than Method.invoke. The default implementation simply delegates to Method.invoke.
+	 * 
+	 * @return A PropertyGetter for the property. If the property is not publicly readable, <code>null</code> is
+	 *         returned.
+	 */
+	default PropertyGetter getPropertyGetter() {
+		return PropertyAccessors.reflectiveGetter(getReadMethod());
+	}
+
+	/**
+	 * Get an object that writes the property via its write method (setter method).
+	 * 
+	 * Implementations should link the returned object to the write method once, so that it is cheaper to call
+	 * repeatedly than Method.invoke. The default implementation simply delegates to Method.invoke.
+	 * 
+	 * @return A PropertySetter for the property. If the property is not publicly writable, <code>null</code> is
+	 *         returned.
+	 */
+	default PropertySetter getPropertySetter() {
+		return PropertyAccessors.reflectiveSetter(getWriteMethod());
+	}
 }
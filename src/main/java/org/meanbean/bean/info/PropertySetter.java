@@ -0,0 +1,52 @@
+/*-
+ * ​​​
+ * meanbean
+ * ⁣⁣⁣
+ * Copyright (C) 2010 - 2020 the original author or authors.
+ * ⁣⁣⁣
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * ﻿﻿﻿﻿﻿
+ */
+
+package org.meanbean.bean.info;
+
+import java.lang.reflect.InvocationTargetException;
+
+/**
+ * Writes the value of a property on a bean. Instances are linked to a single write method once, so that writing the
+ * property repeatedly does not pay for reflective lookup and access checks on every call.
+ * 
+ * @see PropertyInformation#getPropertySetter()
+ */
+@FunctionalInterface
+public interface PropertySetter {
+
+	/**
+	 * Write the specified value to the property of the specified bean.
+	 * 
+	 * @param bean
+	 *            The object to write the property on.
+	 * @param value
+	 *            The value to pass to the property's write method.
+	 * 
+	 * @throws IllegalAccessException
+	 *             If the write method is inaccessible.
+	 * @throws IllegalArgumentException
+	 *             If the bean is not an instance of the type declaring the write method, or the value cannot be
+	 *             passed to the write method.
+	 * @throws InvocationTargetException
+	 *             If the write method itself throws an exception.
+	 */
+	void set(Object bean, Object value) throws IllegalAccessException, IllegalArgumentException,
+	        InvocationTargetException;
+}
@@ -0,0 +1,75 @@
+/*-
+ * ​​​
+ * meanbean
+ * ⁣⁣⁣
+ * Copyright (C) 2010 - 2020 the original author or authors.
+ * ⁣⁣⁣
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * ﻿﻿﻿﻿﻿
+ */
+
+package org.meanbean.bean.info;
+
+import org.meanbean.util.Types;
+
+import java.lang.reflect.Method;
+import java.lang.reflect.Type;
+
+/**
+ * Resolves the generic types of property accessors against the concrete bean class, so that a property declared as
+ * <code>T getId()</code> in <code>BaseEntity&lt;T&gt;</code> has type <code>Long</code> in
+ * <code>OrderBean extends BaseEntity&lt;Long&gt;</code>.
+ */
+final class PropertyTypes {
+
+	private PropertyTypes() {
+		// Static utility class
+	}
+
+	/**
+	 * Get the return type of the specified read method, resolved against the beanClass and canonicalized.
+	 * 
+	 * @param beanClass
+	 *            The type the property belongs to, or <code>null</code> to use the method's declaring class.
+	 * @param readMethod
+	 *            The read method, or <code>null</code>.
+	 * 
+	 * @return The resolved type, or <code>null</code> if there is no read method.
+	 */
+	static Type resolveReturnType(Class<?> beanClass, Method readMethod) {
+		return readMethod == null ? null : resolve(beanClass, readMethod, readMethod.getGenericReturnType());
+	}
+
+	/**
+	 * Get the type of the single parameter of the specified write method, resolved against the beanClass and
+	 * canonicalized.
+	 * 
+	 * @param beanClass
+	 *            The type the property belongs to, or <code>null</code> to use the method's declaring class.
+	 * @param writeMethod
+	 *            The write method, or <code>null</code>.
+	 * 
+	 * @return The resolved type, or <code>null</code> if there is no write method.
+	 */
+	static Type resolveParameterType(Class<?> beanClass, Method writeMethod) {
+		return writeMethod == null ? null : resolve(beanClass, writeMethod, writeMethod.getGenericParameterTypes()[0]);
+	}
+
+	private static Type resolve(Class<?> beanClass, Method method, Type type) {
+		if (type instanceof Class) {
+			return type;
+		}
+		Class<?> context = beanClass != null ? beanClass : method.getDeclaringClass();
+		return Types.canonicalize(Types.resolve(context, context, type));
+	}
+}
@@ -0,0 +1,112 @@
+/*-
+ * ​​​
+ * meanbean
+ * ⁣⁣⁣
+ * Copyright (C) 2010 - 2020 the original author or authors.
+ * ⁣⁣⁣
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * ﻿﻿﻿﻿﻿
+ */
+
+package org.meanbean.bean.info;
+
+import org.meanbean.util.ValidationHelper;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.function.Supplier;
+
+/**
+ * Concrete BeanInformation whose properties and constructor are supplied up front, typically by code generated by
+ * {@link org.meanbean.bean.info.processor.BeanInformationProcessor}. No introspection takes place.
+ */
+public class StaticBeanInformation implements BeanInformation {
+
+	/** The type of object this object contains information about. */
+	private final Class<?> beanClass;
+
+	/** Creates new instances of the bean; may be <code>null</code>. */
+	private final Supplier<?> noArgConstructor;
+
+	/** Information about each property of the type, keyed by property name. */
+	private final Map<String, PropertyInformation> properties;
+
+	/**
+	 * Construct a new Static Bean Information object.
+	 * 
+	 * @param beanClass
+	 *            The type of the bean.
+	 * @param noArgConstructor
+	 *            Creates new instances of the bean. May be <code>null</code> if the bean has no accessible
+	 *            no-argument constructor.
+	 * @param properties
+	 *            Information about each property of the bean.
+	 * 
+	 * @throws IllegalArgumentException
+	 *             If the beanClass or properties are deemed illegal. For example, if either is null.
+	 */
+	public StaticBeanInformation(Class<?> beanClass, Supplier<?> noArgConstructor, PropertyInformation... properties)
+	        throws IllegalArgumentException {
+		ValidationHelper.ensureExists("beanClass", "construct BeanInformation", beanClass);
+		ValidationHelper.ensureExists("properties", "construct BeanInformation", properties);
+		this.beanClass = beanClass;
+		this.noArgConstructor = noArgConstructor;
+		Map<String, PropertyInformation> propertiesByName = new LinkedHashMap<>();
+		for (PropertyInformation property : properties) {
+			propertiesByName.put(property.getName(), property);
+		}
+		this.properties = Collections.unmodifiableMap(propertiesByName);
+	}
+
+	/**
+	 * Get the type of bean this object contains information about.
+	 * 
+	 * @return The type of bean this object contains information about.
+	 */
+	@Override
+	public Class<?> getBeanClass() {
+		return beanClass;
+	}
+
+	/**
+	 * Get the names of all properties of the bean.
+	 * 
+	 * @return A Collection of names of all properties of the bean.
+	 */
+	@Override
+	public Collection<String> getPropertyNames() {
+		return properties.keySet();
+	}
+
+	/**
+	 * Get information about all properties of the bean.
+	 * 
+	 * @return A Collection of all properties of the bean.
+	 */
+	@Override
+	public Collection<PropertyInformation> getProperties() {
+		return properties.values();
+	}
+
+	@Override
+	public Supplier<?> getNoArgConstructor() {
+		return noArgConstructor;
+	}
+
+	@Override
+	public String toString() {
+		return "StaticBeanInformation[beanClass=" + beanClass.getName() + ",properties=" + properties.keySet() + "]";
+	}
+}
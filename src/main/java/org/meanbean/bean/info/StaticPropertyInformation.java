@@ -0,0 +1,224 @@
+/*-
+ * ​​​
+ * meanbean
+ * ⁣⁣⁣
+ * Copyright (C) 2010 - 2020 the original author or authors.
+ * ⁣⁣⁣
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * ﻿﻿﻿﻿﻿
+ */
+
+package org.meanbean.bean.info;
+
+import org.meanbean.util.ValidationHelper;
+import org.meanbean.util.reflect.ReflectionAccessor;
+
+import java.lang.invoke.MethodType;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Type;
+import java.util.function.BiConsumer;
+import java.util.function.Function;
+
+/**
+ * Concrete PropertyInformation whose accessors are supplied up front as direct-call lambdas, typically by code
+ * generated by {@link org.meanbean.bean.info.processor.BeanInformationProcessor}.
+ * 
+ * The read and write Method objects are only looked up (by name) if something asks for them, or for the generic
+ * property type.
+ */
+public class StaticPropertyInformation implements PropertyInformation {
+
+	private final Class<?> beanClass;
+
+	private final String name;
+
+	private final String readMethodName;
+
+	private final String writeMethodName;
+
+	private final Class<?> writeParameterType;
+
+	private final Class<?> wrappedWriteParameterType;
+
+	private final PropertyGetter propertyGetter;
+
+	private final PropertySetter propertySetter;
+
+	private volatile Method readMethod;
+
+	private volatile Method writeMethod;
+
+	private volatile Type readMethodReturnType;
+
+	private volatile Type writeMethodParameterType;
+
+	/**
+	 * Construct a new Static Property Information.
+	 * 
+	 * @param beanClass
+	 *            The type declaring the property.
+	 * @param name
+	 *            The name of the property.
+	 * @param readMethodName
+	 *            The name of the public no-argument read method, or <code>null</code> if the property is not readable.
+	 * @param reader
+	 *            Calls the read method directly on a bean. Must be <code>null</code> only if readMethodName is.
+	 * @param writeMethodName
+	 *            The name of the public write method, or <code>null</code> if the property is not writable.
+	 * @param writeParameterType
+	 *            The (erased) parameter type of the write method. Must be <code>null</code> only if writeMethodName
+	 *            is.
+	 * @param writer
+	 *            Calls the write method directly on a bean. Must be <code>null</code> only if writeMethodName is.
+	 */
+	public StaticPropertyInformation(Class<?> beanClass, String name, String readMethodName,
+	        Function<Object, Object> reader, String writeMethodName, Class<?> writeParameterType,
+	        BiConsumer<Object, Object> writer) {
+		ValidationHelper.ensureExists("beanClass", "construct PropertyInformation", beanClass);
+		ValidationHelper.ensureExists("name", "construct PropertyInformation", name);
+		ValidationHelper.ensure((readMethodName == null) == (reader == null), "readMethodName and reader must both be set");
+		ValidationHelper.ensure((writeMethodName == null) == (writer == null) && (writer == null) == (writeParameterType == null),
+		        "writeMethodName, writeParameterType and writer must all be set");
+		this.beanClass = beanClass;
+		this.name = name;
+		this.readMethodName = readMethodName;
+		this.writeMethodName = writeMethodName;
+		this.writeParameterType = writeParameterType;
+		this.wrappedWriteParameterType =
+		        writeParameterType == null ? null : MethodType.methodType(writeParameterType).wrap().returnType();
+		this.propertyGetter = reader == null ? null : bean -> read(reader, bean);
+		this.propertySetter = writer == null ? null : (bean, value) -> write(writer, bean, value);
+	}
+
+	private Object read(Function<Object, Object> reader, Object bean) throws InvocationTargetException {
+		if (!beanClass.isInstance(bean)) {
+			throw new IllegalArgumentException("object is not an instance of " + beanClass.getName());
+		}
+		try {
+			return reader.apply(bean);
+		} catch (Throwable e) {
+			throw new InvocationTargetException(e);
+		}
+	}
+
+	private void write(BiConsumer<Object, Object> writer, Object bean, Object value)
+	        throws IllegalAccessException, InvocationTargetException {
+		if (!beanClass.isInstance(bean)) {
+			throw new IllegalArgumentException("object is not an instance of " + beanClass.getName());
+		}
+		if (value == null ? writeParameterType.isPrimitive() : !wrappedWriteParameterType.isInstance(value)) {
+			// let reflection apply (or reject) primitive widening conversions
+			getWriteMethod().invoke(bean, value);
+			return;
+		}
+		try {
+			writer.accept(bean, value);
+		} catch (Throwable e) {
+			throw new InvocationTargetException(e);
+		}
+	}
+
+	@Override
+	public String getName() {
+		return name;
+	}
+
+	@Override
+	public boolean isReadable() {
+		return readMethodName != null;
+	}
+
+	@Override
+	public boolean isWritable() {
+		return writeMethodName != null;
+	}
+
+	@Override
+	public boolean isReadableWritable() {
+		return isReadable() && isWritable();
+	}
+
+	@Override
+	public Method getReadMethod() {
+		if (readMethodName == null) {
+			return null;
+		}
+		Method method = readMethod;
+		if (method == null) {
+			method = readMethod = findMethod(readMethodName);
+		}
+		return method;
+	}
+
+	@Override
+	public Method getWriteMethod() {
+		if (writeMethodName == null) {
+			return null;
+		}
+		Method method = writeMethod;
+		if (method == null) {
+			method = writeMethod = findMethod(writeMethodName, writeParameterType);
+		}
+		return method;
+	}
+
+	private Method findMethod(String methodName, Class<?>... parameterTypes) {
+		try {
+			Method method = beanClass.getMethod(methodName, parameterTypes);
+			if (!method.isAccessible()) {
+				ReflectionAccessor.getInstance().makeAccessible(method);
+			}
+			return method;
+		} catch (NoSuchMethodException e) {
+			throw new BeanInformationException("Generated information about beanClass [" + beanClass.getName()
+			        + "] is out of date: method [" + methodName + "] not found.", e);
+		}
+	}
+
+	@Override
+	public Type getReadMethodReturnType() {
+		Type type = readMethodReturnType;
+		if (type == null && isReadable()) {
+			type = PropertyTypes.resolveReturnType(beanClass, getReadMethod());
+			readMethodReturnType = type;
+		}
+		return type;
+	}
+
+	@Override
+	public Type getWriteMethodParameterType() {
+		Type type = writeMethodParameterType;
+		if (type == null && isWritable()) {
+			type = PropertyTypes.resolveParameterType(beanClass, getWriteMethod());
+			writeMethodParameterType = type;
+		}
+		return type;
+	}
+
+	@Override
+	public PropertyGetter getPropertyGetter() {
+		return propertyGetter;
+	}
+
+	@Override
+	public PropertySetter getPropertySetter() {
+		return propertySetter;
+	}
+
+	@Override
+	public String toString() {
+		return "StaticPropertyInformation[name=" + name + ",readMethod=" + readMethodName + ",writeMethod="
+		        + writeMethodName + "]";
+	}
+}
@@ -0,0 +1,362 @@
+/*-
+ * ​​​
+ * meanbean
+ * ⁣⁣⁣
+ * Copyright (C) 2010 - 2020 the original author or authors.
+ * ⁣⁣⁣
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * ﻿﻿﻿﻿﻿
+ */
+
+package org.meanbean.bean.info.processor;
+
+import org.meanbean.bean.info.BeanInformationFactory;
+import org.meanbean.bean.info.GenerateBeanInformation;
+import org.meanbean.bean.info.GeneratedBeanInformationFactory;
+import org.meanbean.bean.info.MethodSignatures;
+import org.meanbean.bean.info.StaticBeanInformation;
+import org.meanbean.bean.info.StaticPropertyInformation;
+
+import javax.annotation.processing.AbstractProcessor;
+import javax.annotation.processing.Filer;
+import javax.annotation.processing.RoundEnvironment;
+import javax.lang.model.SourceVersion;
+import javax.lang.model.element.Element;
+import javax.lang.model.element.ElementKind;
+import javax.lang.model.element.ExecutableElement;
+import javax.lang.model.element.Modifier;
+import javax.lang.model.element.NestingKind;
+import javax.lang.model.element.PackageElement;
+import javax.lang.model.element.TypeElement;
+import javax.lang.model.element.VariableElement;
+import javax.lang.model.type.ArrayType;
+import javax.lang.model.type.DeclaredType;
+import javax.lang.model.type.TypeKind;
+import javax.lang.model.type.TypeMirror;
+import javax.lang.model.util.ElementFilter;
+import javax.lang.model.util.Types;
+import javax.tools.Diagnostic;
+import javax.tools.FileObject;
+import javax.tools.StandardLocation;
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.Reader;
+import java.io.Writer;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.TreeSet;
+
+import static java.lang.Character.toLowerCase;
+
+/**
+ * Annotation processor that generates a {@link StaticBeanInformation} subclass for every bean annotated with
+ * {@link GenerateBeanInformation}. The generated class reads and writes properties, and instantiates the bean, through
+ * direct-call lambdas. It also registers {@link GeneratedBeanInformationFactory} as a BeanInformationFactory service,
+ * so that <code>BeanInformationFactory.getInstance()</code> uses the generated information first.
+ * 
+ * Properties are discovered with the same rules as {@link org.meanbean.bean.info.MethodScanningBeanInformationFactory}
+ * (public get/is/set methods, falling back to fluent setters).
+ * 
+ * The processor is opt-in: it is not registered in this library's <code>META-INF/services</code>, so it has to be
+ * named explicitly, e.g. with <code>javac -processor org.meanbean.bean.info.processor.BeanInformationProcessor</code>
+ * or through the <code>annotationProcessors</code> setting of the maven-compiler-plugin.
+ */
+public class BeanInformationProcessor extends AbstractProcessor {
+
+	private static final String SERVICE_FILE = "META-INF/services/" + BeanInformationFactory.class.getName();
+
+	private final Set<String> generatedTypes = new TreeSet<>();
+
+	@Override
+	public Set<String> getSupportedAnnotationTypes() {
+		return Collections.singleton(GenerateBeanInformation.class.getCanonicalName());
+	}
+
+	@Override
+	public SourceVersion getSupportedSourceVersion() {
+		return SourceVersion.latestSupported();
+	}
+
+	@Override
+	public boolean process(Set<? extends TypeElement> annotations, RoundEnvironment roundEnv) {
+		if (roundEnv.processingOver()) {
+			if (!generatedTypes.isEmpty()) {
+				registerFactory();
+			}
+			return false;
+		}
+		for (Element element : roundEnv.getElementsAnnotatedWith(GenerateBeanInformation.class)) {
+			if (element.getKind() != ElementKind.CLASS) {
+				error(element, "@GenerateBeanInformation is only supported on classes");
+				continue;
+			}
+			TypeElement beanType = (TypeElement) element;
+			if (!isAccessible(beanType)) {
+				error(element, "@GenerateBeanInformation requires a non-private, top-level or static nested class");
+				continue;
+			}
+			try {
+				generate(beanType);
+			} catch (IOException e) {
+				error(element, "Failed to generate BeanInformation: " + e);
+			}
+		}
+		return true;
+	}
+
+	private boolean isAccessible(TypeElement type) {
+		for (Element element = type; element instanceof TypeElement; element = element.getEnclosingElement()) {
+			TypeElement enclosing = (TypeElement) element;
+			if (enclosing.getModifiers().contains(Modifier.PRIVATE)) {
+				return false;
+			}
+			if (enclosing.getNestingKind() == NestingKind.MEMBER && !enclosing.getModifiers().contains(Modifier.STATIC)) {
+				return false;
+			}
+			if (enclosing.getNestingKind() == NestingKind.LOCAL || enclosing.getNestingKind() == NestingKind.ANONYMOUS) {
+				return false;
+			}
+		}
+		return true;
+	}
+
+	private void generate(TypeElement beanType) throws IOException {
+		PackageElement packageElement = processingEnv.getElementUtils().getPackageOf(beanType);
+		String packageName = packageElement.isUnnamed() ? "" : packageElement.getQualifiedName().toString();
+		String binaryName = processingEnv.getElementUtils().getBinaryName(beanType).toString();
+		String generatedSimpleName =
+		        (packageName.isEmpty() ? binaryName : binaryName.substring(packageName.length() + 1))
+		                + GeneratedBeanInformationFactory.SUFFIX;
+		String generatedName = packageName.isEmpty() ? generatedSimpleName : packageName + "." + generatedSimpleName;
+		String beanName = processingEnv.getTypeUtils().erasure(beanType.asType()).toString();
+
+		StringBuilder source = new StringBuilder();
+		if (!packageName.isEmpty()) {
+			source.append("package ").append(packageName).append(";\n\n");
+		}
+		source.append("/**\n * BeanInformation for {@link ").append(beanName).append("}.\n")
+		        .append(" * Generated by ").append(BeanInformationProcessor.class.getName()).append(" - do not edit.\n */\n")
+		        .append("public final class ").append(generatedSimpleName).append(" extends ")
+		        .append(StaticBeanInformation.class.getName()).append(" {\n\n")
+		        .append("\t@SuppressWarnings({ \"unchecked\", \"rawtypes\" })\n")
+		        .append("\tpublic ").append(generatedSimpleName).append("() {\n")
+		        .append("\t\tsuper(").append(beanName).append(".class,\n")
+		        .append("\t\t\t\t").append(hasNoArgConstructor(beanType) ? beanName + "::new" : "null");
+		for (Property property : findProperties(beanType).values()) {
+			source.append(",\n\t\t\t\tnew ").append(StaticPropertyInformation.class.getName()).append("(")
+			        .append(beanName).append(".class, \"").append(property.name).append("\", ");
+			if (property.readMethod != null) {
+				source.append('"').append(property.readMethod.getSimpleName()).append("\", bean -> ((").append(beanName)
+				        .append(") bean).").append(property.readMethod.getSimpleName()).append("(), ");
+			} else {
+				source.append("null, null, ");
+			}
+			if (property.writeMethod != null) {
+				TypeMirror parameterType = erasure(property.writeMethod.getParameters().get(0).asType());
+				source.append('"').append(property.writeMethod.getSimpleName()).append("\", ").append(parameterType)
+				        .append(".class, (bean, value) -> ((").append(beanName).append(") bean).")
+				        .append(property.writeMethod.getSimpleName()).append("((").append(boxed(parameterType))
+				        .append(") value))");
+			} else {
+				source.append("null, null, null)");
+			}
+		}
+		source.append(");\n\t}\n}\n");
+
+		try (Writer writer = processingEnv.getFiler().createSourceFile(generatedName, beanType).openWriter()) {
+			writer.write(source.toString());
+		}
+		generatedTypes.add(generatedName);
+	}
+
+	private boolean hasNoArgConstructor(TypeElement beanType) {
+		if (beanType.getModifiers().contains(Modifier.ABSTRACT)) {
+			return false;
+		}
+		for (ExecutableElement constructor : ElementFilter.constructorsIn(beanType.getEnclosedElements())) {
+			if (constructor.getParameters().isEmpty()) {
+				return !constructor.getModifiers().contains(Modifier.PRIVATE);
+			}
+		}
+		return false;
+	}
+
+	/**
+	 * Find the properties of the bean, following the rules of MethodScanningBeanInformation.
+	 */
+	private Map<String, Property> findProperties(TypeElement beanType) {
+		List<ExecutableElement> methods = new ArrayList<>();
+		for (ExecutableElement method : ElementFilter.methodsIn(processingEnv.getElementUtils().getAllMembers(beanType))) {
+			Set<Modifier> modifiers = method.getModifiers();
+			if (modifiers.contains(Modifier.PUBLIC) && !modifiers.contains(Modifier.STATIC)) {
+				methods.add(method);
+			}
+		}
+		methods.sort(Comparator.comparing(this::signatureKey));
+
+		Map<String, ExecutableElement> getters = new HashMap<>();
+		Map<String, ExecutableElement> booleanGetters = new HashMap<>();
+		Map<String, List<ExecutableElement>> setters = new HashMap<>();
+		Map<String, ExecutableElement> fluentSetters = new HashMap<>();
+		for (ExecutableElement method : methods) {
+			String name = method.getSimpleName().toString();
+			int parameterCount = method.getParameters().size();
+			TypeKind returnKind = method.getReturnType().getKind();
+			if (parameterCount == 0 && name.length() > 3 && name.startsWith("get") && returnKind != TypeKind.VOID) {
+				getters.putIfAbsent(decapitalize(name.substring(3)), method);
+			} else if (parameterCount == 0 && name.length() > 2 && name.startsWith("is") && returnKind == TypeKind.BOOLEAN) {
+				booleanGetters.putIfAbsent(decapitalize(name.substring(2)), method);
+			} else if (parameterCount == 1 && name.length() > 3 && name.startsWith("set")) {
+				if (returnKind == TypeKind.VOID) {
+					setters.computeIfAbsent(decapitalize(name.substring(3)), key -> new ArrayList<>()).add(method);
+				} else {
+					fluentSetters.putIfAbsent(toLowerCase(name.charAt(3)) + name.substring(4), method);
+				}
+			}
+		}
+		getters.putAll(booleanGetters);
+
+		Set<String> names = new LinkedHashSet<>(getters.keySet());
+		names.addAll(setters.keySet());
+		Map<String, Property> properties = new TreeMap<>();
+		for (String name : names) {
+			if ("class".equals(name)) {
+				continue;
+			}
+			ExecutableElement readMethod = getters.get(name);
+			ExecutableElement writeMethod = selectWriteMethod(readMethod, setters.get(name));
+			if (writeMethod == null) {
+				writeMethod = fluentSetters.get(name);
+			}
+			properties.put(name, new Property(name, readMethod, writeMethod));
+		}
+		return properties;
+	}
+
+	private ExecutableElement selectWriteMethod(ExecutableElement readMethod, List<ExecutableElement> writeMethods) {
+		if (writeMethods == null) {
+			return null;
+		}
+		if (readMethod == null) {
+			return writeMethods.get(writeMethods.size() - 1);
+		}
+		Types types = processingEnv.getTypeUtils();
+		for (ExecutableElement writeMethod : writeMethods) {
+			if (types.isSameType(erasure(writeMethod.getParameters().get(0).asType()), erasure(readMethod.getReturnType()))) {
+				return writeMethod;
+			}
+		}
+		return null;
+	}
+
+	private String signatureKey(ExecutableElement method) {
+		List<String> parameterTypeNames = new ArrayList<>();
+		for (VariableElement parameter : method.getParameters()) {
+			parameterTypeNames.add(canonicalName(parameter.asType()));
+		}
+		return MethodSignatures.key(method.getSimpleName().toString(), parameterTypeNames);
+	}
+
+	private String canonicalName(TypeMirror type) {
+		TypeMirror erased = erasure(type);
+		if (erased.getKind() == TypeKind.ARRAY) {
+			return canonicalName(((ArrayType) erased).getComponentType()) + "[]";
+		}
+		if (erased.getKind() == TypeKind.DECLARED) {
+			return ((TypeElement) ((DeclaredType) erased).asElement()).getQualifiedName().toString();
+		}
+		if (erased.getKind().isPrimitive()) {
+			return erased.getKind().name().toLowerCase(Locale.ROOT);
+		}
+		return erased.toString();
+	}
+
+	private TypeMirror erasure(TypeMirror type) {
+		return processingEnv.getTypeUtils().erasure(type);
+	}
+
+	private String boxed(TypeMirror type) {
+		if (type.getKind().isPrimitive()) {
+			return processingEnv.getTypeUtils().boxedClass((javax.lang.model.type.PrimitiveType) type).getQualifiedName()
+			        .toString();
+		}
+		return type.toString();
+	}
+
+	/**
+	 * Equivalent of java.beans.Introspector#decapitalize.
+	 */
+	static String decapitalize(String name) {
+		if (name.length() > 1 && Character.isUpperCase(name.charAt(1)) && Character.isUpperCase(name.charAt(0))) {
+			return name;
+		}
+		return toLowerCase(name.charAt(0)) + name.substring(1);
+	}
+
+	/**
+	 * Add GeneratedBeanInformationFactory to the BeanInformationFactory service file of the compilation output,
+	 * keeping any entries that are already there.
+	 */
+	private void registerFactory() {
+		Filer filer = processingEnv.getFiler();
+		Set<String> entries = new LinkedHashSet<>();
+		try {
+			FileObject existing = filer.getResource(StandardLocation.CLASS_OUTPUT, "", SERVICE_FILE);
+			try (Reader reader = existing.openReader(true); BufferedReader lines = new BufferedReader(reader)) {
+				for (String line = lines.readLine(); line != null; line = lines.readLine()) {
+					if (!line.trim().isEmpty()) {
+						entries.add(line.trim());
+					}
+				}
+			}
+		} catch (IOException | IllegalArgumentException e) {
+			// no existing service file
+		}
+		entries.add(GeneratedBeanInformationFactory.class.getName());
+		try (Writer writer = filer.createResource(StandardLocation.CLASS_OUTPUT, "", SERVICE_FILE).openWriter()) {
+			for (String entry : entries) {
+				writer.write(entry);
+				writer.write('\n');
+			}
+		} catch (IOException e) {
+			processingEnv.getMessager().printMessage(Diagnostic.Kind.ERROR, "Failed to write " + SERVICE_FILE + ": " + e);
+		}
+	}
+
+	private void error(Element element, String message) {
+		processingEnv.getMessager().printMessage(Diagnostic.Kind.ERROR, message, element);
+	}
+
+	private static final class Property {
+
+		private final String name;
+
+		private final ExecutableElement readMethod;
+
+		private final ExecutableElement writeMethod;
+
+		Property(String name, ExecutableElement readMethod, ExecutableElement writeMethod) {
+			this.name = name;
+			this.readMethod = readMethod;
+			this.writeMethod = writeMethod;
+		}
+	}
+}
@@ -0,0 +1,294 @@
+/*-
+ * ​​​
+ * meanbean
+ * ⁣⁣⁣
+ * Copyright (C) 2010 - 2020 the original author or authors.
+ * ⁣⁣⁣
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * ﻿﻿﻿﻿﻿
+ */
+
+package org.meanbean.bean.util;
+
+import org.meanbean.bean.info.PropertyInformation;
+import org.meanbean.util.ValidationHelper;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.lang.reflect.Method;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Recognises properties whose getter and setter do nothing but read and write the same field, by inspecting the
+ * bytecode of the accessor methods in the class file. No agent or bytecode library is involved.
+ * 
+ * A trivial getter is <code>aload_0; getfield; return</code>. A trivial setter is
+ * <code>aload_0; load_1; putfield; return</code>, or <code>aload_0; load_1; putfield; aload_0; areturn</code> for a
+ * fluent setter. A property is trivial only if both accessors are trivial, are declared by the same class, and access
+ * the same field of that class. Anything else, including a class file that cannot be read, is not trivial.
+ */
+public final class TrivialAccessorDetector {
+
+	private static final int ALOAD_0 = 0x2a;
+
+	private static final int GETFIELD = 0xb4;
+
+	private static final int PUTFIELD = 0xb5;
+
+	private static final int RETURN = 0xb1;
+
+	private static final int ARETURN = 0xb0;
+
+	/** The field accessed by each trivial accessor, keyed by method name and descriptor, parsed once per class. */
+	private static final ClassValue<Map<String, String>> TRIVIAL_ACCESSORS = new ClassValue<Map<String, String>>() {
+		@Override
+		protected Map<String, String> computeValue(Class<?> type) {
+			return findTrivialAccessors(type);
+		}
+	};
+
+	private TrivialAccessorDetector() {
+		// Static utility class
+	}
+
+	/**
+	 * Is the specified property read and written directly through a single field, with no other logic in either
+	 * accessor?
+	 * 
+	 * @param property
+	 *            The property to inspect.
+	 * 
+	 * @return <code>true</code> if the property's getter and setter are proven to be plain field accessors of the same
+	 *         field; <code>false</code> otherwise.
+	 * 
+	 * @throws IllegalArgumentException
+	 *             If the property is deemed illegal. For example, if it is null.
+	 */
+	public static boolean isTrivial(PropertyInformation property) throws IllegalArgumentException {
+		ValidationHelper.ensureExists("property", "inspect property accessors", property);
+		Method readMethod = property.getReadMethod();
+		Method writeMethod = property.getWriteMethod();
+		if (readMethod == null || writeMethod == null || readMethod.getDeclaringClass() != writeMethod.getDeclaringClass()) {
+			return false;
+		}
+		Map<String, String> accessors = TRIVIAL_ACCESSORS.get(readMethod.getDeclaringClass());
+		String readField = accessors.get(key(readMethod));
+		return readField != null && readField.equals(accessors.get(key(writeMethod)));
+	}
+
+	private static String key(Method method) {
+		StringBuilder descriptor = new StringBuilder(method.getName()).append('(');
+		for (Class<?> parameterType : method.getParameterTypes()) {
+			descriptor.append(descriptor(parameterType));
+		}
+		return descriptor.append(')').append(descriptor(method.getReturnType())).toString();
+	}
+
+	private static String descriptor(Class<?> type) {
+		if (type.isArray()) {
+			return type.getName().replace('.', '/');
+		}
+		if (type.isPrimitive()) {
+			if (type == void.class) {
+				return "V";
+			} else if (type == boolean.class) {
+				return "Z";
+			} else if (type == long.class) {
+				return "J";
+			}
+			return String.valueOf(Character.toUpperCase(type.getName().charAt(0)));
+		}
+		return "L" + type.getName().replace('.', '/') + ";";
+	}
+
+	private static Map<String, String> findTrivialAccessors(Class<?> type) {
+		byte[] classFile = readClassFile(type);
+		if (classFile == null) {
+			return Collections.emptyMap();
+		}
+		try {
+			return parse(classFile);
+		} catch (IOException | RuntimeException e) {
+			return Collections.emptyMap(); // not a class file this parser understands
+		}
+	}
+
+	private static byte[] readClassFile(Class<?> type) {
+		ClassLoader classLoader = type.getClassLoader();
+		if (classLoader == null) {
+			return null;
+		}
+		try (InputStream in = classLoader.getResourceAsStream(type.getName().replace('.', '/') + ".class")) {
+			if (in == null) {
+				return null;
+			}
+			ByteArrayOutputStream out = new ByteArrayOutputStream(4096);
+			byte[] buffer = new byte[4096];
+			for (int read = in.read(buffer); read != -1; read = in.read(buffer)) {
+				out.write(buffer, 0, read);
+			}
+			return out.toByteArray();
+		} catch (IOException e) {
+			return null;
+		}
+	}
+
+	private static Map<String, String> parse(byte[] classFile) throws IOException {
+		DataInputStream in = new DataInputStream(new ByteArrayInputStream(classFile));
+		if (in.readInt() != 0xCAFEBABE) {
+			return Collections.emptyMap();
+		}
+		in.readUnsignedShort(); // minor version
+		in.readUnsignedShort(); // major version
+		int constantPoolCount = in.readUnsignedShort();
+		String[] utf8 = new String[constantPoolCount];
+		int[] first = new int[constantPoolCount];
+		int[] second = new int[constantPoolCount];
+		for (int idx = 1; idx < constantPoolCount; idx++) {
+			int tag = in.readUnsignedByte();
+			switch (tag) {
+			case 1: // Utf8
+				utf8[idx] = in.readUTF();
+				break;
+			case 7: // Class
+			case 8: // String
+			case 16: // MethodType
+			case 19: // Module
+			case 20: // Package
+				first[idx] = in.readUnsignedShort();
+				break;
+			case 9: // Fieldref
+			case 10: // Methodref
+			case 11: // InterfaceMethodref
+			case 12: // NameAndType
+			case 17: // Dynamic
+			case 18: // InvokeDynamic
+				first[idx] = in.readUnsignedShort();
+				second[idx] = in.readUnsignedShort();
+				break;
+			case 3: // Integer
+			case 4: // Float
+				in.readInt();
+				break;
+			case 5: // Long
+			case 6: // Double
+				in.readLong();
+				idx++;
+				break;
+			case 15: // MethodHandle
+				in.readUnsignedByte();
+				in.readUnsignedShort();
+				break;
+			default:
+				return Collections.emptyMap();
+			}
+		}
+		in.readUnsignedShort(); // access flags
+		String thisClass = utf8[first[in.readUnsignedShort()]];
+		in.readUnsignedShort(); // super class
+		skip(in, in.readUnsignedShort() * 2); // interfaces
+		int fieldCount = in.readUnsignedShort();
+		for (int idx = 0; idx < fieldCount; idx++) {
+			skip(in, 6);
+			skipAttributes(in);
+		}
+
+		Map<String, String> accessors = new HashMap<>();
+		int methodCount = in.readUnsignedShort();
+		for (int idx = 0; idx < methodCount; idx++) {
+			in.readUnsignedShort(); // access flags
+			String name = utf8[in.readUnsignedShort()];
+			String descriptor = utf8[in.readUnsignedShort()];
+			int attributeCount = in.readUnsignedShort();
+			for (int attribute = 0; attribute < attributeCount; attribute++) {
+				String attributeName = utf8[in.readUnsignedShort()];
+				int length = in.readInt();
+				if (!"Code".equals(attributeName)) {
+					skip(in, length);
+					continue;
+				}
+				byte[] attributeBytes = new byte[length];
+				in.readFully(attributeBytes);
+				int fieldref = accessedField(attributeBytes);
+				if (fieldref > 0) {
+					int fieldClass = first[first[fieldref]];
+					int nameAndType = second[fieldref];
+					if (thisClass.equals(utf8[fieldClass])) {
+						accessors.put(name + descriptor, utf8[first[nameAndType]] + ":" + utf8[second[nameAndType]]);
+					}
+				}
+			}
+		}
+		return accessors;
+	}
+
+	/**
+	 * Get the constant pool index of the field a trivial getter or setter accesses.
+	 * 
+	 * @return The Fieldref index, or <code>0</code> if the code is not a trivial accessor.
+	 */
+	private static int accessedField(byte[] codeAttribute) {
+		// max_stack (2), max_locals (2), code_length (4), code
+		int codeLength = ((codeAttribute[4] & 0xff) << 24) | ((codeAttribute[5] & 0xff) << 16)
+		        | ((codeAttribute[6] & 0xff) << 8) | (codeAttribute[7] & 0xff);
+		int offset = 8;
+		if (codeLength < 5 || (codeAttribute[offset] & 0xff) != ALOAD_0) {
+			return 0;
+		}
+		int opcode = codeAttribute[offset + 1] & 0xff;
+		if (codeLength == 5 && opcode == GETFIELD && isReturn(codeAttribute[offset + 4] & 0xff)) {
+			return fieldIndex(codeAttribute, offset + 2);
+		}
+		if (isLoad1(opcode) && (codeAttribute[offset + 2] & 0xff) == PUTFIELD) {
+			int tail = offset + 5;
+			boolean plainSetter = codeLength == 6 && (codeAttribute[tail] & 0xff) == RETURN;
+			boolean fluentSetter = codeLength == 7 && (codeAttribute[tail] & 0xff) == ALOAD_0
+			        && (codeAttribute[tail + 1] & 0xff) == ARETURN;
+			if (plainSetter || fluentSetter) {
+				return fieldIndex(codeAttribute, offset + 3);
+			}
+		}
+		return 0;
+	}
+
+	private static int fieldIndex(byte[] code, int offset) {
+		return ((code[offset] & 0xff) << 8) | (code[offset + 1] & 0xff);
+	}
+
+	// iload_1, lload_1, fload_1, dload_1, aload_1
+	private static boolean isLoad1(int opcode) {
+		return opcode == 0x1b || opcode == 0x1f || opcode == 0x23 || opcode == 0x27 || opcode == 0x2b;
+	}
+
+	// ireturn, lreturn, freturn, dreturn, areturn
+	private static boolean isReturn(int opcode) {
+		return opcode >= 0xac && opcode <= ARETURN;
+	}
+
+	private static void skip(DataInputStream in, int bytes) throws IOException {
+		in.readFully(new byte[bytes]);
+	}
+
+	private static void skipAttributes(DataInputStream in) throws IOException {
+		int attributeCount = in.readUnsignedShort();
+		for (int idx = 0; idx < attributeCount; idx++) {
+			in.readUnsignedShort();
+			skip(in, in.readInt());
+		}
+	}
+}
@@ -21,10 +21,13 @@
 package org.meanbean.factories;
 
 import org.kohsuke.MetaInfServices;
+import org.meanbean.factories.basic.ByteFactory;
 import org.meanbean.lang.Factory;
+import org.meanbean.lang.PrimitiveFactory;
 import org.meanbean.util.Order;
 import org.meanbean.util.RandomValueGenerator;
 import org.meanbean.util.Types;
+import org.meanbean.util.ValidationHelper;
 
 import java.lang.reflect.Array;
 import java.lang.reflect.Type;
@@ -33,6 +36,9 @@ import static org.meanbean.util.Types.getRawType;
 
 /**
  * FactoryCollection for array types
+ * 
+ * Arrays of byte, char, int, long and double are filled directly, without boxing each element, as long as the Factory
+ * for the component type is a PrimitiveFactory.
  */
 @Order(5000)
 @MetaInfServices
@@ -41,20 +47,36 @@ public class ArrayFactoryLookup implements FactoryLookup {
 	// TODO is there a way to bias so that 50% of the time matching values are produced
 	// and 50% of the time, non-matching values are produced?
 	private final RandomValueGenerator randomValueGenerator = RandomValueGenerator.getInstance();
-	private int maxSize = 8;
+	private volatile SizeDistribution sizeDistribution = SizeDistribution.uniform(8);
 
 	public int getMaxSize() {
-		return maxSize;
+		return sizeDistribution.getMaxSize();
 	}
 
 	public void setMaxSize(int maxArrayLength) {
-		this.maxSize = maxArrayLength;
+		setSizeDistribution(SizeDistribution.uniform(maxArrayLength));
+	}
+
+	public SizeDistribution getSizeDistribution() {
+		return sizeDistribution;
+	}
+
+	/**
+	 * Set how the length of generated arrays is chosen, for example to occasionally generate very large arrays during
+	 * stress runs.
+	 * 
+	 * @param sizeDistribution
+	 *            The distribution of array lengths.
+	 */
+	public void setSizeDistribution(SizeDistribution sizeDistribution) {
+		ValidationHelper.ensureExists("sizeDistribution", "set array size distribution", sizeDistribution);
+		this.sizeDistribution = sizeDistribution;
 	}
 
 	@SuppressWarnings("unchecked")
 	@Override
 	public <T> Factory<T> getFactory(Type typeToken) throws IllegalArgumentException, NoSuchFactoryException {
-		return () -> (T) randomArray(typeToken);
+		return (Factory<T>) new ArrayFactory(Types.getRawType(typeToken).getComponentType());
 	}
 
 	@Override
@@ -62,19 +84,79 @@ public class ArrayFactoryLookup implements FactoryLookup {
 		return getRawType(type).isArray();
 	}
 
-	private Object randomArray(Type typeToken) {
-		Class<?> clazz = Types.getRawType(typeToken);
-		int length = randomValueGenerator.nextInt(maxSize);
-		Factory<?> componentFactory = getComponentFactory(clazz);
-		Object array = Array.newInstance(clazz.getComponentType(), length);
-		for (int i = 0; i < length; i++) {
-			Array.set(array, i, componentFactory.create());
+	/**
+	 * Creates arrays of one component type, resolving the Factory for that component type on first use.
+	 */
+	private class ArrayFactory implements Factory<Object> {
+
+		private final Class<?> componentType;
+
+		private volatile Factory<?> componentFactory;
+
+		ArrayFactory(Class<?> componentType) {
+			this.componentType = componentType;
 		}
-		return  array;
-	}
 
-	private Factory<?> getComponentFactory(Class<?> clazz) {
-		FactoryCollection instance = FactoryCollection.getInstance();
-		return instance.getFactory(clazz.getComponentType());
+		@Override
+		public Object create() {
+			int length = sizeDistribution.nextSize(randomValueGenerator);
+			Factory<?> factory = getComponentFactory();
+			if (factory instanceof ByteFactory && componentType == byte.class) {
+				return ((ByteFactory) factory).createBytes(length);
+			}
+			if (factory instanceof PrimitiveFactory.OfChar && componentType == char.class) {
+				PrimitiveFactory.OfChar characterFactory = (PrimitiveFactory.OfChar) factory;
+				char[] array = new char[length];
+				for (int i = 0; i < length; i++) {
+					array[i] = characterFactory.createChar();
+				}
+				return array;
+			}
+			if (factory instanceof PrimitiveFactory.OfInt && componentType == int.class) {
+				PrimitiveFactory.OfInt integerFactory = (PrimitiveFactory.OfInt) factory;
+				int[] array = new int[length];
+				for (int i = 0; i < length; i++) {
+					array[i] = integerFactory.createInt();
+				}
+				return array;
+			}
+			if (factory instanceof PrimitiveFactory.OfLong && componentType == long.class) {
+				PrimitiveFactory.OfLong longFactory = (PrimitiveFactory.OfLong) factory;
+				long[] array = new long[length];
+				for (int i = 0; i < length; i++) {
+					array[i] = longFactory.createLong();
+				}
+				return array;
+			}
+			if (factory instanceof PrimitiveFactory.OfDouble && componentType == double.class) {
+				PrimitiveFactory.OfDouble doubleFactory = (PrimitiveFactory.OfDouble) factory;
+				double[] array = new double[length];
+				for (int i = 0; i < length; i++) {
+					array[i] = doubleFactory.createDouble();
+				}
+				return array;
+			}
+			if (!componentType.isPrimitive()) {
+				Object[] array = (Object[]) Array.newInstance(componentType, length);
+				for (int i = 0; i < length; i++) {
+					array[i] = factory.create();
+				}
+				return array;
+			}
+			Object array = Array.newInstance(componentType, length);
+			for (int i = 0; i < length; i++) {
+				Array.set(array, i, factory.create());
+			}
+			return array;
+		}
+
+		private Factory<?> getComponentFactory() {
+			Factory<?> factory = componentFactory;
+			if (factory == null) {
+				factory = FactoryCollection.getInstance().getFactory(componentType);
+				componentFactory = factory;
+			}
+			return factory;
+		}
 	}
 }
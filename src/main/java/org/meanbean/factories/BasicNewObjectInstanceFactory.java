@@ -20,17 +20,25 @@
 
 package org.meanbean.factories;
 
+import org.meanbean.bean.info.BeanInformation;
 import org.meanbean.lang.Factory;
+import org.meanbean.util.ServiceFactory;
 import org.meanbean.util.ValidationHelper;
-import org.meanbean.util.reflect.ReflectionAccessor;
 
-import java.lang.reflect.Constructor;
 import java.lang.reflect.InvocationTargetException;
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
 
 /**
- * Concrete Factory that creates instances of the type of object specified during construction of the Factory. Only
- * classes that have a no-argument constructor can be successfully instantiated by this Factory. If the class does not
- * have a no-argument constructor, an exception will be thrown when <code>create()</code> is invoked.
+ * Concrete Factory that creates instances of the type of object specified during construction of the Factory. By
+ * default only classes that have a no-argument constructor can be successfully instantiated by this Factory; other
+ * classes need an {@link Instantiator} that supports them. If no way to create an instance can be found, an exception
+ * will be thrown when <code>create()</code> is invoked.
+ * 
+ * The way to create instances is resolved on the first call to <code>create()</code> and reused thereafter.
  * 
  * @author Graham Williamson
  */
@@ -39,6 +47,9 @@ public class BasicNewObjectInstanceFactory implements Factory<Object> {
 	/** The type of Object this Factory should create new instances of. */
 	private final Class<?> clazz;
 
+	/** Creates new instances of clazz, once resolved; otherwise <code>null</code>. */
+	private volatile Supplier<?> instantiator;
+
 	public static Factory<Object> findBeanFactory(Class<?> clazz) {
 		FactoryCollection factoryCollection = FactoryCollection.getInstance();
 		if (factoryCollection.hasFactory(clazz)) {
@@ -47,6 +58,19 @@ public class BasicNewObjectInstanceFactory implements Factory<Object> {
 		return new BasicNewObjectInstanceFactory(clazz);
 	}
 
+	/**
+	 * Find a Factory for the bean described by the specified BeanInformation, preferring a registered Factory, then
+	 * the no-arg constructor exposed by the BeanInformation, then reflection.
+	 */
+	public static Factory<Object> findBeanFactory(BeanInformation beanInformation) {
+		Class<?> clazz = beanInformation.getBeanClass();
+		FactoryCollection factoryCollection = FactoryCollection.getInstance();
+		if (factoryCollection.hasFactory(clazz)) {
+			return factoryCollection.getFactory(clazz);
+		}
+		return new BasicNewObjectInstanceFactory(clazz, beanInformation.getNoArgConstructor());
+	}
+
 	/**
 	 * Construct a basic new object instance Factory.
 	 * 
@@ -57,13 +81,30 @@ public class BasicNewObjectInstanceFactory implements Factory<Object> {
 	 *             If the specified clazz is deemed illegal. For example, if it is null.
 	 */
 	public BasicNewObjectInstanceFactory(Class<?> clazz) throws IllegalArgumentException {
+		this(clazz, null);
+	}
+
+	/**
+	 * Construct a basic new object instance Factory that creates instances with the specified no-arg constructor.
+	 * 
+	 * @param clazz
+	 *            The type of Object the Factory should create new instances of.
+	 * @param noArgConstructor
+	 *            Calls the no-arg constructor of clazz directly. If <code>null</code>, instances are created
+	 *            reflectively.
+	 * 
+	 * @throws IllegalArgumentException
+	 *             If the specified clazz is deemed illegal. For example, if it is null.
+	 */
+	public BasicNewObjectInstanceFactory(Class<?> clazz, Supplier<?> noArgConstructor) throws IllegalArgumentException {
 		ValidationHelper.ensureExists("clazz", "construct Factory", clazz);
 		this.clazz = clazz;
+		this.instantiator = noArgConstructor;
 	}
 
 	/**
 	 * Create a new instance of the type specified during construction of this Factory. The type must have a no-arg
-	 * constructor for this to work.
+	 * constructor, or be supported by a registered Instantiator, for this to work.
 	 * 
 	 * @return A new instance of the type specified during construction of this Factory.
 	 * 
@@ -72,25 +113,39 @@ public class BasicNewObjectInstanceFactory implements Factory<Object> {
 	 */
 	@Override
     public Object create() throws ObjectCreationException {
-		Object result = null;
+		Supplier<?> instantiator = this.instantiator;
+		if (instantiator == null) {
+			instantiator = findInstantiator();
+			this.instantiator = instantiator;
+		}
 		try {
-			Constructor<?> declaredConstructor = clazz.getDeclaredConstructor();
-			ReflectionAccessor.getInstance().makeAccessible(declaredConstructor);
-			result = declaredConstructor.newInstance();
-		} catch (InstantiationException e) {
-			wrapAndRethrowException(e);
-		} catch (IllegalAccessException e) {
-			wrapAndRethrowException(e);
-		} catch (SecurityException e) {
-			wrapAndRethrowException(e);
-		} catch (NoSuchMethodException e) {
-			wrapAndRethrowException(e);
-		} catch (IllegalArgumentException e) {
-			wrapAndRethrowException(e);
-		} catch (InvocationTargetException e) {
-			wrapAndRethrowException(e);
+			return instantiator.get();
+		} catch (RuntimeException e) {
+			wrapAndRethrowException(new InvocationTargetException(e));
+			return null;
 		}
-		return result;
+	}
+
+	private Supplier<?> findInstantiator() throws ObjectCreationException {
+		List<Instantiator> instantiators = getInstantiators();
+		for (Instantiator candidate : instantiators) {
+			Optional<? extends Supplier<?>> supplier = candidate.findSupplier(clazz);
+			if (supplier.isPresent()) {
+				return supplier.get();
+			}
+		}
+		String tried = instantiators.stream()
+				.map(candidate -> candidate.getClass().getSimpleName())
+				.collect(Collectors.joining(", "));
+		throw new ObjectCreationException("Failed to instantiate object of type [" + clazz.getName()
+				+ "] because it has no usable no-arg constructor and none of the Instantiators [" + tried
+				+ "] support it. Do you need to add a custom Factory?");
+	}
+
+	private static List<Instantiator> getInstantiators() {
+		// without a service context, fall back to the built-in Instantiator
+		return ServiceFactory.hasContext() ? Instantiator.getInstances()
+				: Collections.singletonList(new ConstructorInstantiator());
 	}
 
 	/**
@@ -106,9 +161,6 @@ public class BasicNewObjectInstanceFactory implements Factory<Object> {
 		String message =
 		        "Failed to instantiate object of type [" + clazz.getName() + "] due to "
 		                + exception.getClass().getSimpleName() + ".";
-		if (exception instanceof NoSuchMethodException) {
-			message = message + " Do you need to add a custom Factory?";
-		}
 		throw new ObjectCreationException(message, exception);
 	}
 }
@@ -25,7 +25,11 @@ import org.meanbean.lang.Factory;
 import org.meanbean.util.Order;
 import org.meanbean.util.RandomValueGenerator;
 import org.meanbean.util.Types;
+import org.meanbean.util.ValidationHelper;
 
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
 import java.lang.reflect.ParameterizedType;
 import java.lang.reflect.Type;
 import java.util.ArrayList;
@@ -54,11 +58,16 @@ import java.util.concurrent.LinkedBlockingDeque;
 import java.util.concurrent.LinkedBlockingQueue;
 import java.util.concurrent.LinkedTransferQueue;
 import java.util.concurrent.TransferQueue;
+import java.util.function.IntFunction;
 
 import static org.meanbean.util.Types.getRawType;
 
 /**
  * FactoryCollection for java.util.Collection types
+ * 
+ * How to create and populate a collection is worked out once per generic Type; only the Factories for its elements are
+ * looked up again each time a Factory is requested. ArrayList, HashMap, HashSet and ConcurrentHashMap instances are
+ * created with room for the number of elements they will be given.
  */
 @Order(4000)
 @MetaInfServices
@@ -66,30 +75,45 @@ public class CollectionFactoryLookup implements FactoryLookup {
 
 	private final RandomValueGenerator randomValueGenerator = RandomValueGenerator.getInstance();
 
-	private Map<Class<?>, Factory<?>> collectionFactories = buildDefaultCollectionFactories();
-	private int maxSize = 8;
+	private final Map<Class<?>, IntFunction<?>> collectionFactories = buildDefaultCollectionFactories();
+	private final Map<Type, CollectionType> collectionTypes = new ConcurrentHashMap<>();
+	private volatile SizeDistribution sizeDistribution = SizeDistribution.uniform(8);
 
 	public int getMaxSize() {
-		return maxSize;
+		return sizeDistribution.getMaxSize();
 	}
 
 	public void setMaxSize(int maxArrayLength) {
-		this.maxSize = maxArrayLength;
+		setSizeDistribution(SizeDistribution.uniform(maxArrayLength));
+	}
+
+	public SizeDistribution getSizeDistribution() {
+		return sizeDistribution;
+	}
+
+	/**
+	 * Set how the number of elements in generated collections and maps is chosen.
+	 * 
+	 * @param sizeDistribution
+	 *            The distribution of collection sizes.
+	 */
+	public void setSizeDistribution(SizeDistribution sizeDistribution) {
+		ValidationHelper.ensureExists("sizeDistribution", "set collection size distribution", sizeDistribution);
+		this.sizeDistribution = sizeDistribution;
 	}
 
 	@SuppressWarnings("unchecked")
 	@Override
 	public <T> Factory<T> getFactory(Type typeToken) throws IllegalArgumentException, NoSuchFactoryException {
-		return (Factory<T>) createCollectionPopulatingFactory(typeToken);
+		CollectionType collectionType = collectionTypes.computeIfAbsent(Types.canonicalize(typeToken),
+				this::createCollectionType);
+		return (Factory<T>) collectionType.createPopulatingFactory();
 	}
 
 	private Factory<?> findItemFactory(Type itemType) {
 		FactoryCollection factoryCollection = FactoryCollection.getInstance();
-		try {
-			return factoryCollection.getFactory(itemType);
-		} catch (NoSuchFactoryException e) {
-			return factoryCollection.getFactory(void.class);
-		}
+		return factoryCollection.findFactory(itemType)
+				.orElseGet(() -> factoryCollection.getFactory(void.class));
 	}
 
 	@Override
@@ -105,74 +129,92 @@ public class CollectionFactoryLookup implements FactoryLookup {
 		return String.class;
 	}
 
-	@SuppressWarnings({ "unchecked", "rawtypes" })
-	private Factory<?> createCollectionPopulatingFactory(Type typeToken) {
+	private CollectionType createCollectionType(Type typeToken) {
 		Class<?> rawType = getRawType(typeToken);
-		Factory<Object> instanceFactory = findCollectionInstanceFactory(typeToken, rawType);
-
+		IntFunction<?> instanceFactory = findCollectionInstanceFactory(typeToken, rawType);
 		Type itemType = findElementType(typeToken, 0);
-		Factory<?> itemFactory = findItemFactory(itemType);
+		Type valueType = Map.class.isAssignableFrom(rawType) ? findElementType(typeToken, 1) : null;
+		return new CollectionType(instanceFactory, itemType, valueType);
+	}
+
+	/**
+	 * What has been worked out about one generic collection or map Type.
+	 */
+	private class CollectionType {
+
+		private final IntFunction<?> instanceFactory;
+
+		private final Type itemType;
 
-		if (Map.class.isAssignableFrom(rawType)) {
-			return createMapPopulatingFactory(typeToken, instanceFactory, itemFactory);
+		/** The type of map values, or <code>null</code> for a collection. */
+		private final Type valueType;
 
-		} else {
-			Factory<Object> populatingFactory = () -> {
-				Collection collection = (Collection) instanceFactory.create();
+		CollectionType(IntFunction<?> instanceFactory, Type itemType, Type valueType) {
+			this.instanceFactory = instanceFactory;
+			this.itemType = itemType;
+			this.valueType = valueType;
+		}
 
-				int size = randomValueGenerator.nextInt(maxSize);
+		@SuppressWarnings({ "unchecked", "rawtypes" })
+		Factory<?> createPopulatingFactory() {
+			Factory<?> itemFactory = findItemFactory(itemType);
+			if (valueType != null) {
+				Factory<?> valueFactory = findItemFactory(valueType);
+				return () -> {
+					int size = sizeDistribution.nextSize(randomValueGenerator);
+					Map map = (Map) instanceFactory.apply(size);
+					for (int idx = 0; idx < size; idx++) {
+						map.put(itemFactory.create(), valueFactory.create());
+					}
+					return map;
+				};
+			}
+			return () -> {
+				int size = sizeDistribution.nextSize(randomValueGenerator);
+				Collection collection = (Collection) instanceFactory.apply(size);
 				for (int idx = 0; idx < size; idx++) {
 					collection.add(itemFactory.create());
 				}
 				return collection;
 			};
-
-			return populatingFactory;
 		}
 	}
 
 	@SuppressWarnings({ "unchecked", "rawtypes" })
-	private Factory<?> createMapPopulatingFactory(Type typeToken, Factory<Object> instanceFactory, Factory<?> itemFactory) {
-		Type valueType = findElementType(typeToken, 1);
-		Factory<?> valueFactory = findItemFactory(valueType);
-
-		Factory<Object> populatingFactory = () -> {
-			Map map = (Map) instanceFactory.create();
-
-			int size = randomValueGenerator.nextInt(maxSize);
-			for (int idx = 0; idx < size; idx++) {
-				map.put(itemFactory.create(), valueFactory.create());
-			}
-			return map;
-		};
-
-		return populatingFactory;
-	}
-
-	@SuppressWarnings({ "unchecked", "rawtypes" })
-	private <T> Factory<T> findCollectionInstanceFactory(Type type, Class<?> rawType) {
+	private IntFunction<?> findCollectionInstanceFactory(Type type, Class<?> rawType) {
 		if (isEnumMap(type, rawType)) {
 			Type keyType = findElementType(type, 0);
-			return () -> (T) new EnumMap((Class) keyType);
+			return size -> new EnumMap((Class) keyType);
 		}
 
 		if (isEnumSet(type, rawType)) {
 			Type keyType = findElementType(type, 0);
-			return () -> (T) EnumSet.noneOf((Class) keyType);
+			return size -> EnumSet.noneOf((Class) keyType);
 		}
 
-		Factory<?> factory = collectionFactories.get(rawType);
+		IntFunction<?> factory = collectionFactories.get(rawType);
 		if (factory == null) {
-			factory = () -> {
-				try {
-					return rawType.getConstructor().newInstance();
-				} catch (Exception e) {
-					throw new IllegalStateException("cannot create instance for " + rawType, e);
-				}
+			factory = findConstructor(rawType);
+		}
+		return factory;
+	}
+
+	private static IntFunction<?> findConstructor(Class<?> rawType) {
+		MethodHandle constructor;
+		try {
+			constructor = MethodHandles.publicLookup().findConstructor(rawType, MethodType.methodType(void.class));
+		} catch (NoSuchMethodException | IllegalAccessException e) {
+			return size -> {
+				throw new IllegalStateException("cannot create instance for " + rawType, e);
 			};
-			collectionFactories.put(rawType, factory);
 		}
-		return (Factory<T>) factory;
+		return size -> {
+			try {
+				return constructor.invoke();
+			} catch (Throwable e) {
+				throw new IllegalStateException("cannot create instance for " + rawType, e);
+			}
+		};
 	}
 
 	@SuppressWarnings("rawtypes")
@@ -199,30 +241,41 @@ public class CollectionFactoryLookup implements FactoryLookup {
 		return false;
 	}
 
-	private static Map<Class<?>, Factory<?>> buildDefaultCollectionFactories() {
-		Map<Class<?>, Factory<?>> collectionFactories = new ConcurrentHashMap<>();
+	private static Map<Class<?>, IntFunction<?>> buildDefaultCollectionFactories() {
+		Map<Class<?>, IntFunction<?>> collectionFactories = new HashMap<>();
 
 		// Lists
 		collectionFactories.put(List.class, ArrayList::new);
+		collectionFactories.put(ArrayList.class, ArrayList::new);
 
 		// Maps
-		collectionFactories.put(Map.class, HashMap::new);
+		collectionFactories.put(Map.class, size -> new HashMap<>(hashCapacity(size)));
+		collectionFactories.put(HashMap.class, size -> new HashMap<>(hashCapacity(size)));
 		collectionFactories.put(ConcurrentMap.class, ConcurrentHashMap::new);
-		collectionFactories.put(SortedMap.class, TreeMap::new);
-		collectionFactories.put(NavigableMap.class, TreeMap::new);
+		collectionFactories.put(ConcurrentHashMap.class, ConcurrentHashMap::new);
+		collectionFactories.put(SortedMap.class, size -> new TreeMap<>());
+		collectionFactories.put(NavigableMap.class, size -> new TreeMap<>());
 
 		// Sets
-		collectionFactories.put(Set.class, HashSet::new);
-		collectionFactories.put(SortedSet.class, TreeSet::new);
-		collectionFactories.put(NavigableSet.class, TreeSet::new);
+		collectionFactories.put(Set.class, size -> new HashSet<>(hashCapacity(size)));
+		collectionFactories.put(HashSet.class, size -> new HashSet<>(hashCapacity(size)));
+		collectionFactories.put(SortedSet.class, size -> new TreeSet<>());
+		collectionFactories.put(NavigableSet.class, size -> new TreeSet<>());
 
 		// Other
 		collectionFactories.put(Collection.class, ArrayList::new);
-		collectionFactories.put(Queue.class, LinkedList::new);
-		collectionFactories.put(Deque.class, LinkedList::new);
-		collectionFactories.put(BlockingQueue.class, LinkedBlockingQueue::new);
-		collectionFactories.put(BlockingDeque.class, LinkedBlockingDeque::new);
-		collectionFactories.put(TransferQueue.class, LinkedTransferQueue::new);
+		collectionFactories.put(Queue.class, size -> new LinkedList<>());
+		collectionFactories.put(Deque.class, size -> new LinkedList<>());
+		collectionFactories.put(BlockingQueue.class, size -> new LinkedBlockingQueue<>());
+		collectionFactories.put(BlockingDeque.class, size -> new LinkedBlockingDeque<>());
+		collectionFactories.put(TransferQueue.class, size -> new LinkedTransferQueue<>());
 		return collectionFactories;
 	}
+
+	/**
+	 * The initial capacity a hash based collection needs to hold size elements without being resized.
+	 */
+	private static int hashCapacity(int size) {
+		return (int) (size / 0.75f) + 1;
+	}
 }
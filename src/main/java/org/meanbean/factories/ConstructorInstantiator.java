@@ -0,0 +1,82 @@
+/*-
+ * ​​​
+ * meanbean
+ * ⁣⁣⁣
+ * Copyright (C) 2010 - 2020 the original author or authors.
+ * ⁣⁣⁣
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * ﻿﻿﻿﻿﻿
+ */
+
+package org.meanbean.factories;
+
+import org.kohsuke.MetaInfServices;
+import org.meanbean.util.Order;
+import org.meanbean.util.reflect.ReflectionAccessor;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Modifier;
+import java.lang.reflect.UndeclaredThrowableException;
+import java.util.Optional;
+import java.util.function.Supplier;
+
+/**
+ * Instantiator that calls the no-arg constructor of a class, whatever its visibility. The constructor is looked up and
+ * converted to a MethodHandle once per class; every instance is then created by invoking that handle.
+ */
+@MetaInfServices
+@Order(1000)
+public class ConstructorInstantiator implements Instantiator {
+
+	/** A Supplier calling the no-arg constructor of each class, or empty if it has none or it cannot be called. */
+	private static final ClassValue<Optional<Supplier<?>>> suppliers = new ClassValue<Optional<Supplier<?>>>() {
+		@Override
+		protected Optional<Supplier<?>> computeValue(Class<?> clazz) {
+			return Optional.ofNullable(createSupplier(clazz));
+		}
+	};
+
+	@SuppressWarnings({ "unchecked", "rawtypes" })
+	@Override
+	public <T> Optional<Supplier<T>> findSupplier(Class<T> clazz) {
+		return (Optional) suppliers.get(clazz);
+	}
+
+	private static Supplier<?> createSupplier(Class<?> clazz) {
+		if (Modifier.isAbstract(clazz.getModifiers()) || clazz.isInterface()) {
+			return null;
+		}
+		MethodHandle constructor;
+		try {
+			Constructor<?> declaredConstructor = clazz.getDeclaredConstructor();
+			ReflectionAccessor.getInstance().makeAccessible(declaredConstructor);
+			constructor = MethodHandles.lookup()
+					.unreflectConstructor(declaredConstructor)
+					.asType(MethodType.methodType(Object.class));
+		} catch (NoSuchMethodException | IllegalAccessException | RuntimeException e) {
+			return null;
+		}
+		return () -> {
+			try {
+				return (Object) constructor.invokeExact();
+			} catch (RuntimeException | Error e) {
+				throw e;
+			} catch (Throwable e) {
+				throw new UndeclaredThrowableException(e);
+			}
+		};
+	}
+}
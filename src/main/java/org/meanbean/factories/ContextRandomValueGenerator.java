@@ -0,0 +1,88 @@
+/*-
+ * ​​​
+ * meanbean
+ * ⁣⁣⁣
+ * Copyright (C) 2010 - 2020 the original author or authors.
+ * ⁣⁣⁣
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * ﻿﻿﻿﻿﻿
+ */
+
+package org.meanbean.factories;
+
+import org.meanbean.util.RandomValueGenerator;
+import org.meanbean.util.ServiceFactory;
+
+/**
+ * RandomValueGenerator given to the Factories of the shared base registry of {@link FactoryRepository}.
+ * 
+ * Every value is generated by the RandomValueGenerator of the service context current on the calling thread, so that
+ * shared Factories behave as if each context had created them with its own RandomValueGenerator. The context remembers
+ * its RandomValueGenerator, so a value costs a thread-local read rather than a service lookup. When no context is
+ * current, the RandomValueGenerator of the context that created the base registry is used.
+ */
+final class ContextRandomValueGenerator implements RandomValueGenerator {
+
+	/** The RandomValueGenerator used when no service context is current. */
+	private final RandomValueGenerator fallback;
+
+	ContextRandomValueGenerator(RandomValueGenerator fallback) {
+		this.fallback = fallback;
+	}
+
+	private RandomValueGenerator current() {
+		RandomValueGenerator randomValueGenerator = ServiceFactory.currentRandomValueGenerator();
+		return randomValueGenerator == null ? fallback : randomValueGenerator;
+	}
+
+	@Override
+	public byte nextByte() {
+		return current().nextByte();
+	}
+
+	@Override
+	public byte[] nextBytes(int size) throws IllegalArgumentException {
+		return current().nextBytes(size);
+	}
+
+	@Override
+	public int nextInt() {
+		return current().nextInt();
+	}
+
+	@Override
+	public int nextInt(int bound) {
+		return current().nextInt(bound);
+	}
+
+	@Override
+	public long nextLong() {
+		return current().nextLong();
+	}
+
+	@Override
+	public float nextFloat() {
+		return current().nextFloat();
+	}
+
+	@Override
+	public double nextDouble() {
+		return current().nextDouble();
+	}
+
+	@Override
+	public boolean nextBoolean() {
+		return current().nextBoolean();
+	}
+
+}
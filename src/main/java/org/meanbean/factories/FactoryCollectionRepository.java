@@ -28,46 +28,119 @@ import org.meanbean.util.ServiceFactory;
 
 import java.lang.reflect.Type;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.CopyOnWriteArrayList;
 import java.util.stream.Stream;
 
 /**
  * Mutable FactoryCollection that delegates to other FactoryCollection implementations
+ *
+ * The delegates are sorted once, on first use, and the Factory (or absence of a Factory) found for each Type is
+ * remembered. Both are discarded whenever a Factory or FactoryLookup is added through this collection. Factories should
+ * therefore be registered through this collection rather than directly with one of its delegates.
  */
 @MetaInfServices
 @Order(1000)
 public class FactoryCollectionRepository implements FactoryCollection {
 
+	/** The number of unresolvable types remembered before that record is started afresh. */
+	static final int MAX_UNRESOLVABLE_TYPES = 1000;
+
 	private final List<FactoryLookup> factoryLookups = new CopyOnWriteArrayList<>();
-	
+
+	/** All delegates, in the order they are consulted; <code>null</code> until first use or after a change. */
+	private volatile FactoryLookup[] sortedFactoryLookups;
+
+	/** The Factory found for each Type. */
+	private final Map<Type, Factory<?>> resolvedFactories = new ConcurrentHashMap<>();
+
+	/** Types for which no delegate has a Factory, bounded by MAX_UNRESOLVABLE_TYPES. */
+	private final Set<Type> unresolvableTypes = ConcurrentHashMap.newKeySet();
+
 	@Override
 	public void addFactory(Class<?> clazz, Factory<?> factory) throws IllegalArgumentException {
 		factoryCollections().forEach(factoryCollection -> factoryCollection.addFactory(clazz, factory));
+		invalidate();
 	}
 
 	@Override
 	public void addFactoryLookup(FactoryLookup factoryLookup) {
 		factoryLookups.add(0, factoryLookup);
+		invalidate();
 	}
 
+	@SuppressWarnings("unchecked")
 	@Override
 	public <T> Factory<T> getFactory(Type type) throws IllegalArgumentException, NoSuchFactoryException {
-		Optional<Factory<T>> resultOptional = factoryLookups()
-				.filter(factoryCollection -> factoryCollection.hasFactory(type))
-				.findFirst()
-				.map(factoryCollection -> factoryCollection.getFactory(type));
-
-		if (resultOptional.isPresent()) {
-			return resultOptional.get();
+		Factory<?> factory = resolve(type);
+		if (factory == null) {
+			throw new NoSuchFactoryException("No factory found for " + type);
 		}
+		return (Factory<T>) factory;
+	}
 
-		throw new NoSuchFactoryException("No factory found for " + type);
+	@SuppressWarnings("unchecked")
+	@Override
+	public <T> Optional<Factory<T>> findFactory(Type type) throws IllegalArgumentException {
+		return Optional.ofNullable((Factory<T>) resolve(type));
 	}
 
 	@Override
 	public boolean hasFactory(Type type) throws IllegalArgumentException {
-		return factoryLookups().anyMatch(factoryCollection -> factoryCollection.hasFactory(type));
+		return resolve(type) != null;
+	}
+
+	private Factory<?> resolve(Type type) {
+		if (type == null) {
+			return lookUp(sortedFactoryLookups(), null);
+		}
+		Factory<?> factory = resolvedFactories.get(type);
+		if (factory != null || unresolvableTypes.contains(type)) {
+			return factory;
+		}
+		FactoryLookup[] lookups = sortedFactoryLookups();
+		factory = lookUp(lookups, type);
+		if (factory != null) {
+			resolvedFactories.put(type, factory);
+		} else {
+			if (unresolvableTypes.size() >= MAX_UNRESOLVABLE_TYPES) {
+				unresolvableTypes.clear();
+			}
+			unresolvableTypes.add(type);
+		}
+		if (lookups != sortedFactoryLookups) {
+			// a Factory was added meanwhile; do not keep what may be a stale answer
+			resolvedFactories.remove(type);
+			unresolvableTypes.remove(type);
+		}
+		return factory;
+	}
+
+	private static Factory<?> lookUp(FactoryLookup[] lookups, Type type) {
+		for (FactoryLookup lookup : lookups) {
+			if (lookup.hasFactory(type)) {
+				return lookup.getFactory(type);
+			}
+		}
+		return null;
+	}
+
+	private void invalidate() {
+		sortedFactoryLookups = null;
+		resolvedFactories.clear();
+		unresolvableTypes.clear();
+	}
+
+	private FactoryLookup[] sortedFactoryLookups() {
+		FactoryLookup[] lookups = sortedFactoryLookups;
+		if (lookups == null) {
+			lookups = factoryLookups().toArray(FactoryLookup[]::new);
+			sortedFactoryLookups = lookups;
+		}
+		return lookups;
 	}
 
 	Stream<FactoryLookup> factoryLookups() {
@@ -76,7 +149,6 @@ public class FactoryCollectionRepository implements FactoryCollection {
 				.sorted(ServiceFactory.getComparator());
 		return Stream.concat(factoryLookups.stream(), services);
 	}
-
 	private Stream<FactoryCollection> factoryCollections() {
 		return servicesFrom(FactoryCollection.getServiceDefinition());
 	}
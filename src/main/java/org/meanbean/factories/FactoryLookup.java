@@ -24,6 +24,7 @@ import org.meanbean.lang.Factory;
 import org.meanbean.util.ServiceDefinition;
 
 import java.lang.reflect.Type;
+import java.util.Optional;
 import java.util.function.Supplier;
 
 /**
@@ -68,12 +69,30 @@ public interface FactoryLookup {
 	 *             If the clazz is deemed illegal.
 	 */
 	boolean hasFactory(Type type) throws IllegalArgumentException;
-	
-	default <T> Factory<T> getFactoryIfAvailable(Type type, Supplier<Factory<T>> fallback) {
+
+	/**
+	 * Find the Factory registered for the specified type, without the cost of a NoSuchFactoryException when there is
+	 * none.
+	 * 
+	 * @param type
+	 *            The type the Factory is registered against. This should be the type of object that the Factory
+	 *            creates.
+	 * 
+	 * @return The requested Factory, or an empty Optional if this does not contain a Factory registered against the
+	 *         specified type.
+	 * 
+	 * @throws IllegalArgumentException
+	 *             If the type is deemed illegal.
+	 */
+	default <T> Optional<Factory<T>> findFactory(Type type) throws IllegalArgumentException {
 		if (hasFactory(type)) {
-			return getFactory(type);
+			return Optional.of(getFactory(type));
 		}
-		return fallback.get();
+		return Optional.empty();
+	}
+
+	default <T> Factory<T> getFactoryIfAvailable(Type type, Supplier<Factory<T>> fallback) {
+		return this.<T> findFactory(type).orElseGet(fallback);
 	}
 
 	public static ServiceDefinition<FactoryLookup> getServiceDefinition() {
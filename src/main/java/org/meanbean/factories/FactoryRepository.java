@@ -26,27 +26,51 @@ import org.meanbean.util.Order;
 import org.meanbean.util.RandomValueGenerator;
 import org.meanbean.util.ValidationHelper;
 
+import java.lang.ref.SoftReference;
 import java.lang.reflect.Type;
+import java.util.Collections;
+import java.util.HashMap;
 import java.util.Map;
-import java.util.concurrent.ConcurrentHashMap;
+import java.util.Optional;
+import java.util.WeakHashMap;
+
+import static java.lang.Thread.currentThread;
 
 /**
  * Concrete collection factories of different types of objects.
  * 
+ * The Factories registered by the FactoryCollectionPlugins are created once per ClassLoader and shared, as an immutable
+ * base registry, by every FactoryRepository. Factories added to a FactoryRepository are held in a copy-on-write overlay
+ * that belongs to that FactoryRepository alone, so creating a FactoryRepository is cheap and registering a Factory with
+ * one never affects another. The shared Factories generate their values with the RandomValueGenerator of the service
+ * context they are used in.
+ * 
  * @author Graham Williamson
  */
 @Order(8000)
 @MetaInfServices
 public final class FactoryRepository implements FactoryCollection {
 
-	/** A Map of Factory objects */
-	private final Map<Type, Factory<?>> factories = new ConcurrentHashMap<>();
+	/** The base registry created for each ClassLoader, softly held so that it may be discarded under memory pressure. */
+	private static final Map<ClassLoader, SoftReference<Map<Type, Factory<?>>>> BASE_REGISTRIES = new WeakHashMap<>();
+
+	/** The Factory objects registered by the FactoryCollectionPlugins, shared with other FactoryRepository objects. */
+	private final Map<Type, Factory<?>> baseFactories;
+
+	/** The Factory objects added to this repository; replaced, never modified, when a Factory is added. */
+	private volatile Map<Type, Factory<?>> factories = Collections.emptyMap();
 
 	/** Random number generator used by factories to randomly generate values. */
-	private final RandomValueGenerator randomValueGenerator = RandomValueGenerator.getInstance();
+	private final RandomValueGenerator randomValueGenerator;
 
 	public FactoryRepository() throws IllegalArgumentException {
-		initialize();
+		this.baseFactories = getBaseRegistry();
+		this.randomValueGenerator = RandomValueGenerator.getInstance();
+	}
+
+	private FactoryRepository(RandomValueGenerator randomValueGenerator) {
+		this.baseFactories = Collections.emptyMap();
+		this.randomValueGenerator = randomValueGenerator;
 	}
 
 	/**
@@ -59,11 +83,54 @@ public final class FactoryRepository implements FactoryCollection {
 	}
 
 	/**
-	 * Initialize the repository prior to public use.
+	 * Get the base registry for the current ClassLoader, creating it if it does not exist yet.
+	 * 
+	 * The base registry is created outside of any lock, as the FactoryCollectionPlugins may themselves need to load
+	 * services. Should two threads create it at the same time, the first to finish wins.
 	 */
-	private void initialize() {
+	private static Map<Type, Factory<?>> getBaseRegistry() {
+		ClassLoader classLoader = currentThread().getContextClassLoader();
+		if (classLoader == null) {
+			classLoader = FactoryRepository.class.getClassLoader();
+		}
+		Map<Type, Factory<?>> baseRegistry = findBaseRegistry(classLoader);
+		if (baseRegistry != null) {
+			return baseRegistry;
+		}
+		baseRegistry = createBaseRegistry();
+		synchronized (BASE_REGISTRIES) {
+			Map<Type, Factory<?>> existing = findBaseRegistry(classLoader);
+			if (existing != null) {
+				return existing;
+			}
+			BASE_REGISTRIES.put(classLoader, new SoftReference<>(baseRegistry));
+		}
+		return baseRegistry;
+	}
+
+	private static Map<Type, Factory<?>> findBaseRegistry(ClassLoader classLoader) {
+		synchronized (BASE_REGISTRIES) {
+			SoftReference<Map<Type, Factory<?>>> reference = BASE_REGISTRIES.get(classLoader);
+			return reference == null ? null : reference.get();
+		}
+	}
+
+	private static Map<Type, Factory<?>> createBaseRegistry() {
+		FactoryRepository repository =
+				new FactoryRepository(new ContextRandomValueGenerator(RandomValueGenerator.getInstance()));
 		FactoryCollectionPlugin.getInstances()
-				.forEach(plugin -> plugin.initialize(this, randomValueGenerator));
+				.forEach(plugin -> plugin.initialize(repository, repository.randomValueGenerator));
+		return repository.factories;
+	}
+
+	/**
+	 * Discard the base registries of all ClassLoaders, so that the next FactoryRepository initializes the
+	 * FactoryCollectionPlugins afresh.
+	 */
+	static void clearBaseRegistries() {
+		synchronized (BASE_REGISTRIES) {
+			BASE_REGISTRIES.clear();
+		}
 	}
 
 	/**
@@ -89,7 +156,11 @@ public final class FactoryRepository implements FactoryCollection {
 	public void addFactory(Class<?> clazz, Factory<?> factory) throws IllegalArgumentException {
 		ValidationHelper.ensureExists("clazz", "add Factory", clazz);
 		ValidationHelper.ensureExists("factory", "add Factory", factory);
-		factories.put(clazz, factory);
+		synchronized (this) {
+			Map<Type, Factory<?>> copy = new HashMap<>(factories);
+			copy.put(clazz, factory);
+			factories = Collections.unmodifiableMap(copy);
+		}
 	}
 
 	@Override
@@ -121,8 +192,7 @@ public final class FactoryRepository implements FactoryCollection {
 	@Override
 	public <T> Factory<T> getFactory(Type type) throws IllegalArgumentException, NoSuchFactoryException {
 		ValidationHelper.ensureExists("type", "get Factory", type);
-		@SuppressWarnings("unchecked")
-		Factory<T> factory = (Factory<T>) factories.get(type);
+		Factory<T> factory = lookUp(type);
 		if (factory == null) {
             String message = "Failed to find a Factory registered against [" + type + "] in the Repository.";
 			throw new NoSuchFactoryException(message);
@@ -130,6 +200,21 @@ public final class FactoryRepository implements FactoryCollection {
 		return factory;
 	}
 
+	@Override
+	public <T> Optional<Factory<T>> findFactory(Type type) throws IllegalArgumentException {
+		ValidationHelper.ensureExists("type", "find Factory", type);
+		return Optional.ofNullable(lookUp(type));
+	}
+
+	@SuppressWarnings("unchecked")
+	private <T> Factory<T> lookUp(Type type) {
+		Factory<?> factory = factories.get(type);
+		if (factory == null) {
+			factory = baseFactories.get(type);
+		}
+		return (Factory<T>) factory;
+	}
+
 	/**
 	 * Does the collection contain a Factory registered against the specified class?
 	 * 
@@ -146,11 +231,17 @@ public final class FactoryRepository implements FactoryCollection {
 	@Override
 	public boolean hasFactory(Type type) throws IllegalArgumentException {
 		ValidationHelper.ensureExists("type", "check collection for Factory", type);
-		return factories.containsKey(type);
+		return factories.containsKey(type) || baseFactories.containsKey(type);
 	}
 
 	Map<Type, Factory<?>> getFactories() {
-		return factories;
+		Map<Type, Factory<?>> all = new HashMap<>(baseFactories);
+		all.putAll(factories);
+		return Collections.unmodifiableMap(all);
+	}
+
+	Map<Type, Factory<?>> getBaseFactories() {
+		return baseFactories;
 	}
 
 }
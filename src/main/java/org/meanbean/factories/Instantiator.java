@@ -0,0 +1,59 @@
+/*-
+ * ​​​
+ * meanbean
+ * ⁣⁣⁣
+ * Copyright (C) 2010 - 2020 the original author or authors.
+ * ⁣⁣⁣
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * ﻿﻿﻿﻿﻿
+ */
+
+package org.meanbean.factories;
+
+import org.meanbean.util.ServiceDefinition;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.function.Supplier;
+
+/**
+ * Service that knows how to create new, unpopulated instances of bean classes for which no Factory is registered. It is
+ * used by {@link BasicNewObjectInstanceFactory}.
+ * 
+ * Instantiators are discovered through <code>META-INF/services</code> and consulted in {@link org.meanbean.util.Order}.
+ * The first Supplier found for a class is used for every instance of it created by a BasicNewObjectInstanceFactory, so
+ * the expensive work of finding a way to instantiate a class should happen in {@link #findSupplier(Class)}, not in the
+ * Supplier. The default {@link ConstructorInstantiator} uses the no-arg constructor; register an Instantiator of your
+ * own to support classes without one, for example by calling a static factory method.
+ */
+public interface Instantiator {
+
+	/**
+	 * Find a way to create new instances of the specified class.
+	 * 
+	 * @param clazz
+	 *            The class to instantiate.
+	 * 
+	 * @return A Supplier of new instances of clazz, or an empty Optional if this Instantiator cannot create them.
+	 */
+	<T> Optional<Supplier<T>> findSupplier(Class<T> clazz);
+
+	public static ServiceDefinition<Instantiator> getServiceDefinition() {
+		return new ServiceDefinition<>(Instantiator.class);
+	}
+
+	public static List<Instantiator> getInstances() {
+		return getServiceDefinition().getServiceFactory()
+				.getAll();
+	}
+}
@@ -51,4 +51,23 @@ public class NoSuchFactoryException extends RuntimeException {
 	public NoSuchFactoryException(String message, Throwable cause) {
 		super(message, cause);
 	}
+
+	/**
+	 * Construct a new No Such Factory Exception with the specified message and cause, optionally without capturing a
+	 * stack trace. Only suitable for misses that are expected and handled internally, such as those of a lookup that
+	 * merely probes for a Factory; a missing Factory reported to the user should keep its stack trace.
+	 * 
+	 * @param message
+	 *            A human-readable String message describing the problem that occurred.
+	 * @param cause
+	 *            The cause of the exception.
+	 * @param enableSuppression
+	 *            Whether or not suppression is enabled or disabled.
+	 * @param writableStackTrace
+	 *            Whether or not the stack trace should be writable.
+	 */
+	public NoSuchFactoryException(String message, Throwable cause, boolean enableSuppression,
+			boolean writableStackTrace) {
+		super(message, cause, enableSuppression, writableStackTrace);
+	}
 }
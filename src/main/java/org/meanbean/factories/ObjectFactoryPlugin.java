@@ -33,6 +33,7 @@ import org.meanbean.factories.basic.IntegerFactory;
 import org.meanbean.factories.basic.LongFactory;
 import org.meanbean.factories.basic.ShortFactory;
 import org.meanbean.factories.basic.StringFactory;
+import org.meanbean.factories.basic.UUIDFactory;
 import org.meanbean.util.RandomValueGenerator;
 
 import java.math.BigDecimal;
@@ -63,7 +64,6 @@ public class ObjectFactoryPlugin implements FactoryCollectionPlugin {
 		factoryCollection.addFactory(String.class, new StringFactory(randomValueGenerator));
 		factoryCollection.addFactory(Void.TYPE, () -> null);
 		factoryCollection.addFactory(Date.class, new DateFactory(randomValueGenerator));
-		factoryCollection.addFactory(UUID.class, UUID::randomUUID);
-		
+		factoryCollection.addFactory(UUID.class, new UUIDFactory(randomValueGenerator));
 	}
 }
@@ -63,11 +63,8 @@ public class OptionalFactoryLookup implements FactoryLookup {
 
 	private Factory<?> findItemFactory(Type itemType) {
 		FactoryCollection factoryCollection = FactoryCollection.getInstance();
-		try {
-			return factoryCollection.getFactory(itemType);
-		} catch (NoSuchFactoryException e) {
-			return factoryCollection.getFactory(void.class);
-		}
+		return factoryCollection.findFactory(itemType)
+				.orElseGet(() -> factoryCollection.getFactory(void.class));
 	}
 
 	@Override
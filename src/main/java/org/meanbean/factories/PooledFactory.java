@@ -0,0 +1,165 @@
+/*-
+ * ​​​
+ * meanbean
+ * ⁣⁣⁣
+ * Copyright (C) 2010 - 2020 the original author or authors.
+ * ⁣⁣⁣
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * ﻿﻿﻿﻿﻿
+ */
+
+package org.meanbean.factories;
+
+import org.meanbean.lang.Factory;
+import org.meanbean.logging.$Logger;
+import org.meanbean.logging.$LoggerFactory;
+import org.meanbean.util.ServiceFactory;
+import org.meanbean.util.ValidationHelper;
+
+import java.util.Objects;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Factory that hands out values pre-generated by a delegate Factory whose values are expensive to create.
+ * 
+ * Up to poolSize distinct values are generated once, into a ring buffer, and then handed out in turn. They are
+ * generated either by the first call to create, or by a background thread started when the PooledFactory is
+ * constructed; until the background thread has finished, create falls back to the delegate. Consecutive values never
+ * equal each other, provided the delegate can create at least two distinct values.
+ * 
+ * Values are reused once the ring buffer wraps around, so pooling suits immutable values, or values that nothing
+ * modifies once they have been created.
+ */
+public class PooledFactory<T> implements Factory<T> {
+
+	private static final $Logger logger = $LoggerFactory.getLogger(PooledFactory.class);
+
+	/** How many times as many values as poolSize the delegate may be asked for while looking for distinct values. */
+	private static final int ATTEMPTS_PER_VALUE = 4;
+
+	private final Factory<T> delegate;
+
+	private final Object[] pool;
+
+	/** Whether a background thread fills the pool, rather than the first call to create. */
+	private final boolean background;
+
+	/** The number of leading pool entries that hold values; only ever grows. */
+	private final AtomicInteger filled = new AtomicInteger();
+
+	/** Whether the pool has been filled as far as it will be. */
+	private volatile boolean complete;
+
+	private final AtomicLong next = new AtomicLong();
+
+	private volatile Object last;
+
+	/**
+	 * Construct a new PooledFactory.
+	 * 
+	 * @param delegate
+	 *            The Factory that creates the pooled values.
+	 * @param poolSize
+	 *            The number of distinct values to pre-generate. This must be at least 2.
+	 * @param background
+	 *            Whether to generate the values on a background thread, in the service context of the calling thread.
+	 * 
+	 * @throws IllegalArgumentException
+	 *             If any of the parameters are deemed illegal. For example, if the delegate is null.
+	 */
+	public PooledFactory(Factory<T> delegate, int poolSize, boolean background) throws IllegalArgumentException {
+		ValidationHelper.ensureExists("delegate", "construct PooledFactory", delegate);
+		ValidationHelper.ensure(poolSize >= 2, "poolSize must be at least 2");
+		this.delegate = delegate;
+		this.pool = new Object[poolSize];
+		this.background = background;
+		if (background) {
+			Thread filler = new Thread(ServiceFactory.withCurrentContext(this::fill), "meanbean-pool-filler");
+			filler.setDaemon(true);
+			filler.start();
+		}
+	}
+
+	/**
+	 * Create a new value, from the pool if it is ready.
+	 * 
+	 * @return A value that differs from the value previously returned.
+	 */
+	@SuppressWarnings("unchecked")
+	@Override
+	public T create() {
+		if (!complete && !background) {
+			fill();
+		}
+		Object value;
+		int size = filled.get();
+		if (complete && size >= 2) {
+			value = pool[(int) (next.getAndIncrement() % size)];
+			if (Objects.equals(value, last)) {
+				value = pool[(int) (next.getAndIncrement() % size)];
+			}
+		} else {
+			value = delegate.create();
+		}
+		last = value;
+		return (T) value;
+	}
+
+	/**
+	 * Get the number of distinct values in the pool.
+	 * 
+	 * @return The number of values handed out in turn, or 0 if the pool is not yet ready or is not used.
+	 */
+	public int getPoolSize() {
+		int size = filled.get();
+		return complete && size >= 2 ? size : 0;
+	}
+
+	private synchronized void fill() {
+		if (complete) {
+			return;
+		}
+		int attempts = pool.length * ATTEMPTS_PER_VALUE;
+		try {
+			for (int attempt = 0; attempt < attempts && filled.get() < pool.length; attempt++) {
+				Object value = delegate.create();
+				if (!contains(value)) {
+					pool[filled.get()] = value;
+					filled.incrementAndGet();
+				}
+			}
+		} catch (RuntimeException e) {
+			logger.debug("Stopped pre-generating values from [{}]: {}", delegate, e.toString());
+		}
+		complete = true;
+		if (filled.get() < 2) {
+			logger.debug("[{}] did not create enough distinct values to pool; values will not be pooled", delegate);
+		}
+	}
+
+	private boolean contains(Object value) {
+		int size = filled.get();
+		for (int index = 0; index < size; index++) {
+			if (Objects.equals(pool[index], value)) {
+				return true;
+			}
+		}
+		return false;
+	}
+
+	@Override
+	public String toString() {
+		return "PooledFactory[" + delegate + ", poolSize=" + pool.length + "]";
+	}
+}
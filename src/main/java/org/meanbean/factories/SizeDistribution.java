@@ -0,0 +1,118 @@
+/*-
+ * ​​​
+ * meanbean
+ * ⁣⁣⁣
+ * Copyright (C) 2010 - 2020 the original author or authors.
+ * ⁣⁣⁣
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * ﻿﻿﻿﻿﻿
+ */
+
+package org.meanbean.factories;
+
+import org.meanbean.util.RandomValueGenerator;
+import org.meanbean.util.ValidationHelper;
+
+/**
+ * Chooses how many elements a generated array or collection should contain
+ */
+public interface SizeDistribution {
+
+	/**
+	 * Choose the size of the next array or collection.
+	 * 
+	 * @param randomValueGenerator
+	 *            The source of randomness to use.
+	 * 
+	 * @return A size between 0 (inclusive) and getMaxSize() (exclusive).
+	 */
+	int nextSize(RandomValueGenerator randomValueGenerator);
+
+	/**
+	 * Get the exclusive upper bound of the sizes that this distribution can produce.
+	 * 
+	 * @return A value greater than every size returned by nextSize.
+	 */
+	int getMaxSize();
+
+	/**
+	 * Sizes chosen uniformly between 0 (inclusive) and maxSize (exclusive).
+	 * 
+	 * @param maxSize
+	 *            The exclusive upper bound of sizes. This must be positive.
+	 * 
+	 * @return A uniform SizeDistribution.
+	 */
+	public static SizeDistribution uniform(int maxSize) {
+		ValidationHelper.ensure(maxSize > 0, "maxSize must be positive");
+		return new SizeDistribution() {
+
+			@Override
+			public int nextSize(RandomValueGenerator randomValueGenerator) {
+				return randomValueGenerator.nextInt(maxSize);
+			}
+
+			@Override
+			public int getMaxSize() {
+				return maxSize;
+			}
+
+			@Override
+			public String toString() {
+				return "uniform(" + maxSize + ")";
+			}
+		};
+	}
+
+	/**
+	 * Sizes that are usually chosen uniformly between 0 (inclusive) and maxSize (exclusive), but with the given
+	 * probability are exactly largeSize. Useful for stress runs that should occasionally exercise very large arrays or
+	 * collections without making every generated value expensive.
+	 * 
+	 * @param maxSize
+	 *            The exclusive upper bound of ordinary sizes. This must be positive.
+	 * @param largeSize
+	 *            The size used for occasional large values. This cannot be negative or Integer.MAX_VALUE.
+	 * @param largeProbability
+	 *            The probability, between 0.0 and 1.0, of choosing largeSize.
+	 * 
+	 * @return A SizeDistribution with occasional large sizes.
+	 */
+	public static SizeDistribution withOccasionalLarge(int maxSize, int largeSize, double largeProbability) {
+		ValidationHelper.ensure(largeSize >= 0, "largeSize cannot be negative");
+		ValidationHelper.ensure(largeSize < Integer.MAX_VALUE, "largeSize must be less than Integer.MAX_VALUE");
+		ValidationHelper.ensure(largeProbability >= 0.0 && largeProbability <= 1.0,
+				"largeProbability must be between 0.0 and 1.0");
+		SizeDistribution ordinary = uniform(maxSize);
+		return new SizeDistribution() {
+
+			@Override
+			public int nextSize(RandomValueGenerator randomValueGenerator) {
+				if (randomValueGenerator.nextDouble() < largeProbability) {
+					return largeSize;
+				}
+				return ordinary.nextSize(randomValueGenerator);
+			}
+
+			@Override
+			public int getMaxSize() {
+				return Math.max(maxSize, largeSize + 1);
+			}
+
+			@Override
+			public String toString() {
+				return "withOccasionalLarge(" + maxSize + ", " + largeSize + ", " + largeProbability + ")";
+			}
+		};
+	}
+}
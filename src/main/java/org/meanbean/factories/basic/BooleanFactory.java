@@ -20,6 +20,7 @@
 
 package org.meanbean.factories.basic;
 
+import org.meanbean.lang.PrimitiveFactory;
 import org.meanbean.util.RandomValueGenerator;
 
 /**
@@ -27,7 +28,7 @@ import org.meanbean.util.RandomValueGenerator;
  * 
  * @author Graham Williamson
  */
-public final class BooleanFactory extends RandomFactoryBase<Boolean> {
+public final class BooleanFactory extends RandomFactoryBase<Boolean> implements PrimitiveFactory.OfBoolean {
 
 	/**
 	 * Construct a new Boolean object factory.
@@ -49,6 +50,16 @@ public final class BooleanFactory extends RandomFactoryBase<Boolean> {
 	 */
 	@Override
 	public Boolean create() {
+		return createBoolean();
+	}
+
+	/**
+	 * Create a new random boolean.
+	 * 
+	 * @return A new boolean.
+	 */
+	@Override
+	public boolean createBoolean() {
 		return getRandomValueGenerator().nextBoolean();
 	}
 }
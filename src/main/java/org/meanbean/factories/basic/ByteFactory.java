@@ -20,6 +20,7 @@
 
 package org.meanbean.factories.basic;
 
+import org.meanbean.lang.PrimitiveFactory;
 import org.meanbean.util.RandomValueGenerator;
 
 /**
@@ -27,7 +28,7 @@ import org.meanbean.util.RandomValueGenerator;
  * 
  * @author Graham Williamson
  */
-public final class ByteFactory extends RandomFactoryBase<Byte> {
+public final class ByteFactory extends RandomFactoryBase<Byte> implements PrimitiveFactory.OfByte {
 
 	/**
 	 * Construct a new Byte object factory.
@@ -49,6 +50,28 @@ public final class ByteFactory extends RandomFactoryBase<Byte> {
 	 */
 	@Override
 	public Byte create() {
+		return createByte();
+	}
+
+	/**
+	 * Create a new random byte.
+	 * 
+	 * @return A new byte.
+	 */
+	@Override
+	public byte createByte() {
 		return getRandomValueGenerator().nextByte();
 	}
+
+	/**
+	 * Create a new array of random bytes in one go.
+	 * 
+	 * @param length
+	 *            The number of bytes to create. This cannot be a negative number.
+	 * 
+	 * @return A new array of <i>length</i> random bytes.
+	 */
+	public byte[] createBytes(int length) {
+		return getRandomValueGenerator().nextBytes(length);
+	}
 }
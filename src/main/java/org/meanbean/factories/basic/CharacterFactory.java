@@ -20,6 +20,7 @@
 
 package org.meanbean.factories.basic;
 
+import org.meanbean.lang.PrimitiveFactory;
 import org.meanbean.util.RandomValueGenerator;
 
 /**
@@ -27,7 +28,7 @@ import org.meanbean.util.RandomValueGenerator;
  * 
  * @author Graham Williamson
  */
-public final class CharacterFactory extends RandomFactoryBase<Character> {
+public final class CharacterFactory extends RandomFactoryBase<Character> implements PrimitiveFactory.OfChar {
 
 	/**
 	 * Construct a new Character object factory.
@@ -49,6 +50,16 @@ public final class CharacterFactory extends RandomFactoryBase<Character> {
 	 */
 	@Override
 	public Character create() {
+		return createChar();
+	}
+
+	/**
+	 * Create a new random char.
+	 * 
+	 * @return A new char.
+	 */
+	@Override
+	public char createChar() {
 		// Basis of our random number. This value is always positive.
 		double randomNumber = getRandomValueGenerator().nextDouble();
 		char result = (char) (Character.MAX_VALUE * randomNumber);
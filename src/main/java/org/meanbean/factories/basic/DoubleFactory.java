@@ -20,6 +20,7 @@
 
 package org.meanbean.factories.basic;
 
+import org.meanbean.lang.PrimitiveFactory;
 import org.meanbean.util.RandomValueGenerator;
 
 /**
@@ -27,7 +28,7 @@ import org.meanbean.util.RandomValueGenerator;
  * 
  * @author Graham Williamson
  */
-public final class DoubleFactory extends RandomFactoryBase<Double> {
+public final class DoubleFactory extends RandomFactoryBase<Double> implements PrimitiveFactory.OfDouble {
 
 	/**
 	 * Construct a new Double object factory.
@@ -49,6 +50,16 @@ public final class DoubleFactory extends RandomFactoryBase<Double> {
 	 */
 	@Override
 	public Double create() {
+		return createDouble();
+	}
+
+	/**
+	 * Create a new random double.
+	 * 
+	 * @return A new double.
+	 */
+	@Override
+	public double createDouble() {
 		// Basis of our random number. This value is always positive, so we need to decide the sign
 		double result = getRandomValueGenerator().nextDouble();
 		// Our double is either based on MAX_VALUE, else MIN_VALUE
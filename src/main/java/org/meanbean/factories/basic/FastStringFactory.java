@@ -0,0 +1,209 @@
+/*-
+ * ​​​
+ * meanbean
+ * ⁣⁣⁣
+ * Copyright (C) 2010 - 2020 the original author or authors.
+ * ⁣⁣⁣
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * ﻿﻿﻿﻿﻿
+ */
+
+package org.meanbean.factories.basic;
+
+import org.meanbean.factories.SizeDistribution;
+import org.meanbean.util.RandomValueGenerator;
+import org.meanbean.util.ValidationHelper;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Concrete Factory that creates random String objects of configurable length and alphabet.
+ * 
+ * Characters are written into a char buffer that is reused by each thread, so that creating a String allocates only
+ * the String itself. Each random long supplies several characters.
+ * 
+ * In distinct mode, which is the default, every String starts with a self-delimiting encoding of a counter, so no two
+ * Strings created by the same Factory are equal. Such a String may be longer than the length chosen by the
+ * SizeDistribution.
+ */
+public final class FastStringFactory extends RandomFactoryBase<String> {
+
+	/**
+	 * The characters a FastStringFactory chooses from.
+	 */
+	public enum Alphabet {
+
+		/** Printable ASCII characters, from space to tilde. */
+		ASCII,
+
+		/** Characters of the Basic Multilingual Plane from space upwards, excluding surrogates. */
+		BMP,
+
+		/** Supplementary characters, each written as a surrogate pair. */
+		SURROGATE_PAIRS
+	}
+
+	private static final int ASCII_FIRST = 0x20;
+
+	private static final int ASCII_SIZE = 0x7F - ASCII_FIRST;
+
+	/** The BMP characters from space to U+FFFD, less the surrogate range. */
+	private static final int BMP_SIZE = 0xFFFE - ASCII_FIRST - (Character.MAX_SURROGATE + 1 - Character.MIN_SURROGATE);
+
+	private static final int SUPPLEMENTARY_SIZE = Character.MAX_CODE_POINT + 1 - Character.MIN_SUPPLEMENTARY_CODE_POINT;
+
+	private static final ThreadLocal<char[]> BUFFER = ThreadLocal.withInitial(() -> new char[64]);
+
+	private final SizeDistribution lengths;
+
+	private final Alphabet alphabet;
+
+	private final boolean distinct;
+
+	private final AtomicLong counter = new AtomicLong();
+
+	/**
+	 * Construct a new FastStringFactory that creates distinct ASCII Strings of up to 23 characters, including the
+	 * distinct prefix. A String is only longer when its prefix alone is longer.
+	 * 
+	 * @param randomValueGenerator
+	 *            A random value generator used by the Factory to generate random values.
+	 * 
+	 * @throws IllegalArgumentException
+	 *             If the specified randomValueGenerator is deemed illegal. For example, if it is null.
+	 */
+	public FastStringFactory(RandomValueGenerator randomValueGenerator) throws IllegalArgumentException {
+		this(randomValueGenerator, SizeDistribution.uniform(24), Alphabet.ASCII, true);
+	}
+
+	/**
+	 * Construct a new FastStringFactory.
+	 * 
+	 * @param randomValueGenerator
+	 *            A random value generator used by the Factory to generate random values.
+	 * @param lengths
+	 *            The distribution of String lengths, in chars.
+	 * @param alphabet
+	 *            The characters to choose from.
+	 * @param distinct
+	 *            Whether every String created must differ from every other.
+	 * 
+	 * @throws IllegalArgumentException
+	 *             If any of the parameters are deemed illegal. For example, if any are null.
+	 */
+	public FastStringFactory(RandomValueGenerator randomValueGenerator, SizeDistribution lengths, Alphabet alphabet,
+	        boolean distinct) throws IllegalArgumentException {
+		super(randomValueGenerator);
+		ValidationHelper.ensureExists("lengths", "construct FastStringFactory", lengths);
+		ValidationHelper.ensureExists("alphabet", "construct FastStringFactory", alphabet);
+		this.lengths = lengths;
+		this.alphabet = alphabet;
+		this.distinct = distinct;
+	}
+
+	/**
+	 * Create a new String object.
+	 * 
+	 * @return A new String object.
+	 */
+	@Override
+	public String create() {
+		int length = lengths.nextSize(getRandomValueGenerator());
+		// the distinct prefix is at most 1 + 13 chars for a long in base 36
+		char[] buffer = buffer(length + 14);
+		int position = distinct ? writeDistinctPrefix(buffer, counter.incrementAndGet()) : 0;
+		length = Math.max(length, position);
+		switch (alphabet) {
+			case ASCII:
+				fillAscii(buffer, position, length);
+				break;
+			case BMP:
+				fillBmp(buffer, position, length);
+				break;
+			default:
+				fillSupplementary(buffer, position, length);
+				break;
+		}
+		return new String(buffer, 0, length);
+	}
+
+	private static char[] buffer(int capacity) {
+		char[] buffer = BUFFER.get();
+		if (buffer.length < capacity) {
+			buffer = new char[Math.max(capacity, buffer.length * 2)];
+			BUFFER.set(buffer);
+		}
+		return buffer;
+	}
+
+	/**
+	 * Write the number of base 36 digits in value, then the digits, so that no prefix is the start of another.
+	 */
+	private static int writeDistinctPrefix(char[] buffer, long value) {
+		int digits = 1;
+		for (long remaining = value / 36; remaining > 0; remaining /= 36) {
+			digits++;
+		}
+		buffer[0] = Character.forDigit(digits, 36);
+		long remaining = value;
+		for (int index = digits; index > 0; index--) {
+			buffer[index] = Character.forDigit((int) (remaining % 36), 36);
+			remaining /= 36;
+		}
+		return digits + 1;
+	}
+
+	private void fillAscii(char[] buffer, int from, int to) {
+		RandomValueGenerator random = getRandomValueGenerator();
+		int index = from;
+		while (index < to) {
+			long bits = random.nextLong();
+			for (int chunk = 0; chunk < 4 && index < to; chunk++, bits >>>= 16) {
+				buffer[index++] = (char) (ASCII_FIRST + (((bits & 0xFFFF) * ASCII_SIZE) >>> 16));
+			}
+		}
+	}
+
+	private void fillBmp(char[] buffer, int from, int to) {
+		RandomValueGenerator random = getRandomValueGenerator();
+		int index = from;
+		while (index < to) {
+			long bits = random.nextLong();
+			for (int chunk = 0; chunk < 4 && index < to; chunk++, bits >>>= 16) {
+				int c = ASCII_FIRST + (int) (((bits & 0xFFFF) * BMP_SIZE) >>> 16);
+				if (c >= Character.MIN_SURROGATE) {
+					c += Character.MAX_SURROGATE + 1 - Character.MIN_SURROGATE;
+				}
+				buffer[index++] = (char) c;
+			}
+		}
+	}
+
+	private void fillSupplementary(char[] buffer, int from, int to) {
+		RandomValueGenerator random = getRandomValueGenerator();
+		int index = from;
+		while (index + 1 < to) {
+			long bits = random.nextLong();
+			for (int chunk = 0; chunk < 2 && index + 1 < to; chunk++, bits >>>= 32) {
+				int codePoint = Character.MIN_SUPPLEMENTARY_CODE_POINT
+				        + (int) (((bits & 0xFFFFFFFFL) * SUPPLEMENTARY_SIZE) >>> 32);
+				buffer[index++] = Character.highSurrogate(codePoint);
+				buffer[index++] = Character.lowSurrogate(codePoint);
+			}
+		}
+		if (index < to) {
+			// an odd length leaves room for one more char, which cannot be half a pair
+			fillAscii(buffer, index, to);
+		}
+	}
+}
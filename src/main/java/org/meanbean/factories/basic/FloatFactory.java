@@ -20,6 +20,7 @@
 
 package org.meanbean.factories.basic;
 
+import org.meanbean.lang.PrimitiveFactory;
 import org.meanbean.util.RandomValueGenerator;
 
 /**
@@ -27,7 +28,7 @@ import org.meanbean.util.RandomValueGenerator;
  * 
  * @author Graham Williamson
  */
-public final class FloatFactory extends RandomFactoryBase<Float> {
+public final class FloatFactory extends RandomFactoryBase<Float> implements PrimitiveFactory.OfFloat {
 
 	/**
 	 * Construct a new Float object factory.
@@ -49,6 +50,16 @@ public final class FloatFactory extends RandomFactoryBase<Float> {
 	 */
 	@Override
 	public Float create() {
+		return createFloat();
+	}
+
+	/**
+	 * Create a new random float.
+	 * 
+	 * @return A new float.
+	 */
+	@Override
+	public float createFloat() {
 		// Basis of our random number. This value is always positive, so we need to decide the sign
 		float result = getRandomValueGenerator().nextFloat();
 		// Our float is either based on MAX_VALUE, else MIN_VALUE
@@ -20,6 +20,7 @@
 
 package org.meanbean.factories.basic;
 
+import org.meanbean.lang.PrimitiveFactory;
 import org.meanbean.util.RandomValueGenerator;
 
 /**
@@ -27,7 +28,7 @@ import org.meanbean.util.RandomValueGenerator;
  * 
  * @author Graham Williamson
  */
-public final class IntegerFactory extends RandomFactoryBase<Integer> {
+public final class IntegerFactory extends RandomFactoryBase<Integer> implements PrimitiveFactory.OfInt {
 
 	/**
 	 * Construct a new Integer object factory.
@@ -49,6 +50,16 @@ public final class IntegerFactory extends RandomFactoryBase<Integer> {
 	 */
 	@Override
 	public Integer create() {
+		return createInt();
+	}
+
+	/**
+	 * Create a new random int.
+	 * 
+	 * @return A new int.
+	 */
+	@Override
+	public int createInt() {
 		return getRandomValueGenerator().nextInt();
 	}
 }
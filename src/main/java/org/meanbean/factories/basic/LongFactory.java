@@ -20,6 +20,7 @@
 
 package org.meanbean.factories.basic;
 
+import org.meanbean.lang.PrimitiveFactory;
 import org.meanbean.util.RandomValueGenerator;
 
 /**
@@ -27,7 +28,7 @@ import org.meanbean.util.RandomValueGenerator;
  * 
  * @author Graham Williamson
  */
-public final class LongFactory extends RandomFactoryBase<Long> {
+public final class LongFactory extends RandomFactoryBase<Long> implements PrimitiveFactory.OfLong {
 
 	/**
 	 * Construct a new Long object factory.
@@ -49,6 +50,16 @@ public final class LongFactory extends RandomFactoryBase<Long> {
 	 */
 	@Override
 	public Long create() {
+		return createLong();
+	}
+
+	/**
+	 * Create a new random long.
+	 * 
+	 * @return A new long.
+	 */
+	@Override
+	public long createLong() {
 		return getRandomValueGenerator().nextLong();
 	}
 }
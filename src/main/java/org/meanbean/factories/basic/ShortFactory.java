@@ -20,6 +20,7 @@
 
 package org.meanbean.factories.basic;
 
+import org.meanbean.lang.PrimitiveFactory;
 import org.meanbean.util.RandomValueGenerator;
 
 /**
@@ -27,7 +28,7 @@ import org.meanbean.util.RandomValueGenerator;
  * 
  * @author Graham Williamson
  */
-public final class ShortFactory extends RandomFactoryBase<Short> {
+public final class ShortFactory extends RandomFactoryBase<Short> implements PrimitiveFactory.OfShort {
 
 	/**
 	 * Construct a new Short object factory.
@@ -49,6 +50,16 @@ public final class ShortFactory extends RandomFactoryBase<Short> {
 	 */
 	@Override
 	public Short create() {
+		return createShort();
+	}
+
+	/**
+	 * Create a new random short.
+	 * 
+	 * @return A new short.
+	 */
+	@Override
+	public short createShort() {
 		short result = 0;
 		// Basis of our random number. This value is always positive, so we need to decide the sign
 		double randomNumber = getRandomValueGenerator().nextDouble();
@@ -0,0 +1,127 @@
+/*-
+ * ​​​
+ * meanbean
+ * ⁣⁣⁣
+ * Copyright (C) 2010 - 2020 the original author or authors.
+ * ⁣⁣⁣
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * ﻿﻿﻿﻿﻿
+ */
+
+package org.meanbean.factories.beans;
+
+import org.meanbean.test.Configuration;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * The object graph being generated by the outermost PopulatedBeanFactory on a thread. Nested PopulatedBeanFactories
+ * consult it to decide whether to populate, create or reuse a bean. Only ever used by a single thread.
+ */
+final class ObjectGraph {
+
+	/** The maximum number of populated levels. */
+	private final int maxDepth;
+
+	/** The maximum number of beans created. */
+	private final int maxNodes;
+
+	/** The first bean created of each type, if beans are reused. Otherwise null. */
+	private final Map<Class<?>, Object> instances;
+
+	/** The number of beans currently being populated, from the root down. */
+	private int depth;
+
+	private int deepestLevel;
+
+	private int nodes;
+
+	private int truncatedNodes;
+
+	private int reusedInstances;
+
+	ObjectGraph(Configuration configuration) {
+		this(configuration, configuration.getMaxGraphDepth());
+	}
+
+	/**
+	 * Construct a graph limited to the specified number of populated levels rather than the configured one, so that a
+	 * graph generated inside another can be kept to the levels the other has left.
+	 */
+	ObjectGraph(Configuration configuration, int maxDepth) {
+		this.maxDepth = maxDepth;
+		this.maxNodes = configuration.getMaxGraphNodes();
+		this.instances = configuration.isReuseGraphInstances() ? new HashMap<>() : null;
+	}
+
+	/**
+	 * Get a previously created bean of the specified type to reuse, or null if a new one should be created.
+	 */
+	Object findInstance(Class<?> beanClass) {
+		Object instance = instances == null ? null : instances.get(beanClass);
+		if (instance != null) {
+			reusedInstances++;
+		}
+		return instance;
+	}
+
+	/**
+	 * Record that a bean has been created, and decide whether it may be populated.
+	 * 
+	 * @return true if the bean should be populated; false if a limit has been reached.
+	 */
+	boolean addInstance(Class<?> beanClass, Object instance) {
+		nodes++;
+		if (instances != null) {
+			instances.putIfAbsent(beanClass, instance);
+		}
+		if (depth >= maxDepth || nodes > maxNodes) {
+			truncatedNodes++;
+			return false;
+		}
+		return true;
+	}
+
+	void enter() {
+		depth++;
+		deepestLevel = Math.max(deepestLevel, depth);
+	}
+
+	void exit() {
+		depth--;
+	}
+
+	/**
+	 * Get the number of levels that may still be populated below the bean currently being populated.
+	 */
+	int getRemainingDepth() {
+		return maxDepth - depth;
+	}
+
+	int getNodes() {
+		return nodes;
+	}
+
+	int getDeepestLevel() {
+		return deepestLevel;
+	}
+
+	int getTruncatedNodes() {
+		return truncatedNodes;
+	}
+
+	int getReusedInstances() {
+		return reusedInstances;
+	}
+}
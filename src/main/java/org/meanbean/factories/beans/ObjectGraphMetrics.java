@@ -0,0 +1,107 @@
+/*-
+ * ​​​
+ * meanbean
+ * ⁣⁣⁣
+ * Copyright (C) 2010 - 2020 the original author or authors.
+ * ⁣⁣⁣
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * ﻿﻿﻿﻿﻿
+ */
+
+package org.meanbean.factories.beans;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Statistics about the object graphs generated by a PopulatedBeanFactory: how many graphs were generated, how large and
+ * deep they were, and how often the configured limits were reached.
+ */
+public final class ObjectGraphMetrics {
+
+	/** The number of graphs generated. */
+	private final LongAdder graphs = new LongAdder();
+
+	/** The number of beans created across all graphs. */
+	private final LongAdder nodes = new LongAdder();
+
+	/** The number of beans left unpopulated because a limit was reached. */
+	private final LongAdder truncatedNodes = new LongAdder();
+
+	/** The number of times a bean was reused instead of created. */
+	private final LongAdder reusedInstances = new LongAdder();
+
+	/** The number of beans in the largest graph. */
+	private final AtomicInteger largestGraph = new AtomicInteger();
+
+	/** The number of populated levels in the deepest graph. */
+	private final AtomicInteger deepestGraph = new AtomicInteger();
+
+	void record(ObjectGraph graph) {
+		graphs.increment();
+		nodes.add(graph.getNodes());
+		truncatedNodes.add(graph.getTruncatedNodes());
+		reusedInstances.add(graph.getReusedInstances());
+		largestGraph.accumulateAndGet(graph.getNodes(), Math::max);
+		deepestGraph.accumulateAndGet(graph.getDeepestLevel(), Math::max);
+	}
+
+	/**
+	 * Get the number of object graphs generated.
+	 */
+	public long getGraphCount() {
+		return graphs.sum();
+	}
+
+	/**
+	 * Get the number of beans created across all generated object graphs.
+	 */
+	public long getNodeCount() {
+		return nodes.sum();
+	}
+
+	/**
+	 * Get the number of beans that were left unpopulated because the maximum depth or node count was reached.
+	 */
+	public long getTruncatedNodeCount() {
+		return truncatedNodes.sum();
+	}
+
+	/**
+	 * Get the number of times an already created bean was reused within an object graph.
+	 */
+	public long getReusedInstanceCount() {
+		return reusedInstances.sum();
+	}
+
+	/**
+	 * Get the number of beans in the largest generated object graph.
+	 */
+	public int getLargestGraph() {
+		return largestGraph.get();
+	}
+
+	/**
+	 * Get the number of populated levels in the deepest generated object graph.
+	 */
+	public int getDeepestGraph() {
+		return deepestGraph.get();
+	}
+
+	@Override
+	public String toString() {
+		return "ObjectGraphMetrics[graphs=" + getGraphCount() + ", nodes=" + getNodeCount() + ", largest="
+				+ getLargestGraph() + ", deepest=" + getDeepestGraph() + ", truncated=" + getTruncatedNodeCount()
+				+ ", reused=" + getReusedInstanceCount() + "]";
+	}
+}
@@ -27,6 +27,8 @@ import org.meanbean.bean.util.BeanPropertyValuesFactory;
 import org.meanbean.factories.BasicNewObjectInstanceFactory;
 import org.meanbean.factories.util.FactoryLookupStrategy;
 import org.meanbean.lang.Factory;
+import org.meanbean.logging.$Logger;
+import org.meanbean.logging.$LoggerFactory;
 import org.meanbean.test.Configuration;
 import org.meanbean.util.ValidationHelper;
 
@@ -35,10 +37,21 @@ import java.util.Map;
 /**
  * Factory that creates object instances based on provided BeanInformation, assigning each instance different values.
  * 
+ * Properties that are themselves beans are populated by nested PopulatedBeanFactories, which together generate an
+ * object graph per bean created by the outermost factory. The Configuration limits the depth and size of each graph and
+ * may ask for beans to be reused within it; beans beyond the limits are created but left unpopulated, so mutually
+ * referencing and very large domain models are generated in bounded time. See {@link #getGraphMetrics()}.
+ * 
  * @author Graham Williamson
  */
 public class PopulatedBeanFactory implements Factory<Object> {
 
+	/** Logging mechanism. */
+	private static final $Logger logger = $LoggerFactory.getLogger(PopulatedBeanFactory.class);
+
+	/** The object graph being generated on the current thread, if any. */
+	private static final ThreadLocal<ObjectGraph> currentGraph = new ThreadLocal<>();
+
 	/** The BeanInformation that should be used to create instances of a bean. */
 	private final BeanInformation beanInformation;
 
@@ -48,6 +61,15 @@ public class PopulatedBeanFactory implements Factory<Object> {
 	/** Affords functionality to populate a bean (set its fields) with specified values. */
 	private final BeanPopulator beanPopulator = new BasicBeanPopulator();
 
+	/** Creates unpopulated instances of the bean, once resolved; otherwise <code>null</code>. */
+	private volatile Factory<Object> beanFactory;
+
+	/** Limits the object graphs generated by this factory. */
+	private final Configuration configuration;
+
+	/** Statistics about the object graphs generated by this factory as the outermost factory. */
+	private final ObjectGraphMetrics graphMetrics = new ObjectGraphMetrics();
+
 	/**
 	 * Construct a new Factory that creates object instances based on provided BeanInformation, assigning each instance
 	 * different field values.
@@ -66,6 +88,7 @@ public class PopulatedBeanFactory implements Factory<Object> {
 		ValidationHelper.ensureExists("beanInformation", "construct Factory", beanInformation);
 		ValidationHelper.ensureExists("factoryLookupStrategy", "construct Factory", factoryLookupStrategy);
 		this.beanInformation = beanInformation;
+		this.configuration = configuration;
 		beanPropertyValuesFactory = new BeanPropertyValuesFactory(beanInformation, factoryLookupStrategy, configuration);
 	}
 
@@ -77,10 +100,83 @@ public class PopulatedBeanFactory implements Factory<Object> {
 	 */
 	@Override
     public Object create() throws BeanCreationException {
-		Map<String, Object> propertyValues = beanPropertyValuesFactory.create();
-		Factory<Object> beanFactory = BasicNewObjectInstanceFactory.findBeanFactory(beanInformation.getBeanClass());
-		Object result = beanFactory.create();
-		beanPopulator.populate(result, beanInformation, propertyValues);
+		ObjectGraph graph = currentGraph.get();
+		if (graph != null) {
+			return create(graph);
+		}
+		return createInOwnGraph();
+	}
+
+	/**
+	 * Create a new instance of the Bean described in the provided BeanInformation as the root of a new object graph,
+	 * even if this factory is called while another PopulatedBeanFactory is generating a graph. The graph in progress is
+	 * left untouched, so a throwaway instance does not count towards its limits or become a bean it reuses. The new
+	 * graph is only as deep as the levels the graph in progress has left, so mutually referencing beans still end.
+	 * 
+	 * @throws BeanCreationException
+	 *             If an error occurs when creating an instance of the Bean.
+	 */
+	public Object createInOwnGraph() throws BeanCreationException {
+		ObjectGraph outerGraph = currentGraph.get();
+		int maxDepth = configuration.getMaxGraphDepth();
+		if (outerGraph != null) {
+			maxDepth = Math.min(maxDepth, outerGraph.getRemainingDepth());
+		}
+		ObjectGraph graph = new ObjectGraph(configuration, maxDepth);
+		currentGraph.set(graph);
+		try {
+			return create(graph);
+		} finally {
+			if (outerGraph == null) {
+				currentGraph.remove();
+			} else {
+				currentGraph.set(outerGraph);
+			}
+			graphMetrics.record(graph);
+			if (graph.getTruncatedNodes() > 0) {
+				logger.debug("create: object graph of [{}] reached its limits; {} of {} beans were left unpopulated.",
+				        beanInformation.getBeanClass().getName(), graph.getTruncatedNodes(), graph.getNodes());
+			}
+		}
+	}
+
+	private Object create(ObjectGraph graph) {
+		Class<?> beanClass = beanInformation.getBeanClass();
+		Object result = graph.findInstance(beanClass);
+		if (result != null) {
+			return result;
+		}
+		Factory<Object> beanFactory = getBeanFactory();
+		result = beanFactory.create();
+		if (graph.addInstance(beanClass, result)) {
+			Map<String, Object> propertyValues;
+			graph.enter();
+			try {
+				propertyValues = beanPropertyValuesFactory.create();
+			} finally {
+				graph.exit();
+			}
+			beanPopulator.populate(result, beanInformation, propertyValues);
+		}
 		return result;
 	}
+
+	/**
+	 * Get statistics about the object graphs generated by this factory. Graphs generated while this factory was nested
+	 * inside another PopulatedBeanFactory are counted by the outermost factory only.
+	 * 
+	 * @return Metrics of the generated object graphs.
+	 */
+	public ObjectGraphMetrics getGraphMetrics() {
+		return graphMetrics;
+	}
+
+	private Factory<Object> getBeanFactory() {
+		Factory<Object> beanFactory = this.beanFactory;
+		if (beanFactory == null) {
+			beanFactory = BasicNewObjectInstanceFactory.findBeanFactory(beanInformation);
+			this.beanFactory = beanFactory;
+		}
+		return beanFactory;
+	}
 }
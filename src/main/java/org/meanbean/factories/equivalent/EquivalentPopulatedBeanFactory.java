@@ -54,6 +54,9 @@ public class EquivalentPopulatedBeanFactory implements EquivalentFactory<Object>
 	/** Affords functionality to populate a bean (set its fields) with specified values. */
 	private final BeanPopulator beanPopulator = new BasicBeanPopulator();
 
+	/** Creates unpopulated instances of the bean, once resolved; otherwise <code>null</code>. */
+	private volatile Factory<Object> beanFactory;
+
 	/**
 	 * Construct a new Factory that creates object instances based on provided BeanInformation, assigning every instance
 	 * the same field values.
@@ -88,9 +91,18 @@ public class EquivalentPopulatedBeanFactory implements EquivalentFactory<Object>
 		if (propertyValues == null) {
 			propertyValues = beanPropertyValuesFactory.create();
 		}
-		Factory<Object> beanFactory = BasicNewObjectInstanceFactory.findBeanFactory(beanInformation.getBeanClass());
+		Factory<Object> beanFactory = getBeanFactory();
 		Object result = beanFactory.create();
 		beanPopulator.populate(result, beanInformation, propertyValues);
 		return result;
 	}
+
+	private Factory<Object> getBeanFactory() {
+		Factory<Object> beanFactory = this.beanFactory;
+		if (beanFactory == null) {
+			beanFactory = BasicNewObjectInstanceFactory.findBeanFactory(beanInformation);
+			this.beanFactory = beanFactory;
+		}
+		return beanFactory;
+	}
 }
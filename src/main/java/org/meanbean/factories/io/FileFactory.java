@@ -26,31 +26,30 @@ import org.meanbean.factories.FactoryCollectionPlugin;
 import org.meanbean.util.RandomValueGenerator;
 
 import java.io.File;
-import java.io.IOException;
-import java.io.UncheckedIOException;
-import java.nio.file.Files;
 import java.nio.file.Path;
 
+/**
+ * Concrete FactoryCollectionPlugin that registers Factories for File and Path. Values are generated in memory by a
+ * {@link PathFactory}; see BeanTesterBuilder#setPathFactory for a different root or for on-disk generation.
+ */
 @MetaInfServices(FactoryCollectionPlugin.class)
 public class FileFactory implements FactoryCollectionPlugin {
 
 	@Override
 	public void initialize(FactoryCollection factoryCollection, RandomValueGenerator randomValueGenerator) {
-		factoryCollection.addFactory(File.class, this::generateTempFile);
-		factoryCollection.addFactory(Path.class, this::generateTempPath);
-	}
-
-	private File generateTempFile() {
-		return generateTempPath().toFile();
+		register(factoryCollection, new PathFactory(randomValueGenerator));
 	}
 
-	private Path generateTempPath() {
-		try {
-			Path path = Files.createTempFile("mean-bean-file-factory-", ".txt");
-			Files.delete(path);
-			return path;
-		} catch (IOException e) {
-			throw new UncheckedIOException(e);
-		}
+	/**
+	 * Register the specified pathFactory for Path, and a Factory derived from it for File.
+	 * 
+	 * @param factoryCollection
+	 *            The collection to register Factories with.
+	 * @param pathFactory
+	 *            The Factory to create Paths, and through them Files, with.
+	 */
+	public static void register(FactoryCollection factoryCollection, PathFactory pathFactory) {
+		factoryCollection.addFactory(File.class, () -> pathFactory.create().toFile());
+		factoryCollection.addFactory(Path.class, pathFactory);
 	}
 }
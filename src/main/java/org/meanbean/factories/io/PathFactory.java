@@ -0,0 +1,145 @@
+/*-
+ * ​​​
+ * meanbean
+ * ⁣⁣⁣
+ * Copyright (C) 2010 - 2020 the original author or authors.
+ * ⁣⁣⁣
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * ﻿﻿﻿﻿﻿
+ */
+
+package org.meanbean.factories.io;
+
+import org.meanbean.factories.basic.RandomFactoryBase;
+import org.meanbean.util.RandomValueGenerator;
+import org.meanbean.util.ValidationHelper;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Concrete Factory that creates unique Path objects.
+ * 
+ * By default Paths are generated purely in memory, as children of a virtual root directory that is never touched. Each
+ * file name combines a sequence number, which makes it unique within the factory, with a random part drawn from the
+ * RandomValueGenerator. Alternatively the factory can reserve each name on disk by creating and deleting a temporary
+ * file, which guarantees that no such file exists at the cost of several filesystem operations per value.
+ */
+public class PathFactory extends RandomFactoryBase<Path> {
+
+	/** Prefix of every generated file name. */
+	static final String PREFIX = "mean-bean-file-factory-";
+
+	/** Suffix of every generated file name. */
+	static final String SUFFIX = ".txt";
+
+	/** The virtual root used when none is specified. */
+	public static final Path DEFAULT_ROOT = Paths.get(System.getProperty("java.io.tmpdir"));
+
+	/** The directory that generated Paths are resolved against. */
+	private final Path root;
+
+	/** Whether names are reserved by creating and deleting a real file. */
+	private final boolean onDisk;
+
+	/** Sequence number of the next generated Path. */
+	private final AtomicLong sequence = new AtomicLong();
+
+	/**
+	 * Construct a new Path factory that generates Paths in memory under the default temporary directory.
+	 * 
+	 * @param randomValueGenerator
+	 *            A random value generator used by the Factory to generate random values.
+	 * 
+	 * @throws IllegalArgumentException
+	 *             If the specified randomValueGenerator is deemed illegal. For example, if it is null.
+	 */
+	public PathFactory(RandomValueGenerator randomValueGenerator) throws IllegalArgumentException {
+		this(randomValueGenerator, DEFAULT_ROOT, false);
+	}
+
+	/**
+	 * Construct a new Path factory.
+	 * 
+	 * @param randomValueGenerator
+	 *            A random value generator used by the Factory to generate random values.
+	 * @param root
+	 *            The directory that generated Paths are children of. It need not exist unless onDisk is true.
+	 * @param onDisk
+	 *            Whether each Path should be reserved by creating and then deleting a temporary file in root, as
+	 *            opposed to being generated purely in memory.
+	 * 
+	 * @throws IllegalArgumentException
+	 *             If any of the parameters are deemed illegal. For example, if either is null.
+	 */
+	public PathFactory(RandomValueGenerator randomValueGenerator, Path root, boolean onDisk)
+	        throws IllegalArgumentException {
+		super(randomValueGenerator);
+		ValidationHelper.ensureExists("root", "construct PathFactory", root);
+		this.root = root;
+		this.onDisk = onDisk;
+	}
+
+	/**
+	 * Get the directory that generated Paths are children of.
+	 * 
+	 * @return The root of generated Paths.
+	 */
+	public Path getRoot() {
+		return root;
+	}
+
+	/**
+	 * Whether Paths are reserved on disk rather than generated in memory.
+	 * 
+	 * @return true if each Path is reserved by creating and deleting a temporary file.
+	 */
+	public boolean isOnDisk() {
+		return onDisk;
+	}
+
+	/**
+	 * Create a new Path object.
+	 * 
+	 * @return A new Path that does not name any other Path created by this factory.
+	 */
+	@Override
+	public Path create() {
+		return onDisk ? createOnDisk() : root.resolve(createFileName());
+	}
+
+	private String createFileName() {
+		long random = getRandomValueGenerator().nextLong() >>> 1;
+		return new StringBuilder(PREFIX.length() + SUFFIX.length() + 24)
+		        .append(PREFIX)
+		        .append(Long.toString(sequence.getAndIncrement(), 36))
+		        .append('-')
+		        .append(Long.toString(random, 36))
+		        .append(SUFFIX)
+		        .toString();
+	}
+
+	private Path createOnDisk() {
+		try {
+			Path path = Files.createTempFile(root, PREFIX, SUFFIX);
+			Files.delete(path);
+			return path;
+		} catch (IOException e) {
+			throw new UncheckedIOException(e);
+		}
+	}
+}
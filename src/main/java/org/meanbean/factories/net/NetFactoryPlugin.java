@@ -35,7 +35,7 @@ public final class NetFactoryPlugin implements FactoryCollectionPlugin {
 	public void initialize(FactoryCollection factoryCollection, RandomValueGenerator randomValueGenerator) {
 		UrlFactory urlFactory = new UrlFactory(randomValueGenerator);
 		factoryCollection.addFactory(URL.class, urlFactory);
-		factoryCollection.addFactory(URI.class, () -> URI.create(urlFactory.create().toString()));
+		factoryCollection.addFactory(URI.class, urlFactory::createUri);
 	}
 
 }
@@ -25,20 +25,26 @@ import org.meanbean.util.RandomValueGenerator;
 import org.meanbean.util.RandomValueSampler;
 
 import java.net.MalformedURLException;
+import java.net.URI;
+import java.net.URISyntaxException;
 import java.net.URL;
 import java.util.Arrays;
 import java.util.List;
-import java.util.UUID;
-import java.util.stream.Collectors;
-import java.util.stream.IntStream;
 
+/**
+ * Concrete Factory that creates random URL objects.
+ * 
+ * Host names are derived from the configured RandomValueGenerator, so no SecureRandom is involved and the created
+ * values can be reproduced from a seed. URLs are assembled from their components rather than parsed from a string.
+ */
 public class UrlFactory extends RandomFactoryBase<URL> {
 
 	private RandomValueSampler sampler;
 
-	private List<String> schemes = Arrays.asList("http://", "https://", "ftp://");
+	private List<String> schemes = Arrays.asList("http", "https", "ftp");
 	private List<String> tlds = Arrays.asList(".example", ".invalid", ".test");
-	private List<String> paths = Arrays.asList("", "/foo", "/foo/bar/", "/foo/bar/index?a=b");
+	private List<String> paths = Arrays.asList("", "/foo", "/foo/bar/", "/foo/bar/index");
+	private List<String> queries = Arrays.asList("", "a=b");
 
 	public UrlFactory(RandomValueGenerator randomValueGenerator) {
 		super(randomValueGenerator);
@@ -48,22 +54,49 @@ public class UrlFactory extends RandomFactoryBase<URL> {
 	@Override
 	public URL create() {
 		String scheme = sampler.getFrom(schemes);
-		String domain = getRandomDomain();
-		String tld = sampler.getFrom(tlds);
-		String path = sampler.getFrom(paths);
-		String url = String.join("", scheme, domain, tld, path);
+		String host = getRandomDomain() + sampler.getFrom(tlds);
+		String file = getRandomFile();
 		try {
-			return new URL(url);
+			return new URL(scheme, host, -1, file);
 		} catch (MalformedURLException e) {
-			throw new IllegalStateException(url, e);
+			throw new IllegalStateException(scheme + "://" + host + file, e);
+		}
+	}
+
+	/**
+	 * Create a new random URI, assembled from the same kind of components as the URLs created by this factory.
+	 * 
+	 * @return A new URI object.
+	 */
+	public URI createUri() {
+		String scheme = sampler.getFrom(schemes);
+		String host = getRandomDomain() + sampler.getFrom(tlds);
+		String path = sampler.getFrom(paths);
+		String query = sampler.getFrom(queries);
+		try {
+			return new URI(scheme, null, host, -1, path, query.isEmpty() ? null : query, null);
+		} catch (URISyntaxException e) {
+			throw new IllegalStateException(scheme + "://" + host + path, e);
 		}
 	}
 
 	protected String getRandomDomain() {
 		int subdomainCount = getRandomValueGenerator().nextInt(1) + 1;
-		return IntStream.range(0, subdomainCount)
-				.mapToObj(num -> UUID.randomUUID().toString())
-				.collect(Collectors.joining("."));
+		StringBuilder domain = new StringBuilder(subdomainCount * 14);
+		for (int idx = 0; idx < subdomainCount; idx++) {
+			if (idx > 0) {
+				domain.append('.');
+			}
+			// a base 36 label of at most 13 characters; always starts with a letter to keep hosts valid
+			domain.append('h').append(Long.toString(getRandomValueGenerator().nextLong() >>> 1, 36));
+		}
+		return domain.toString();
+	}
+
+	private String getRandomFile() {
+		String path = sampler.getFrom(paths);
+		String query = sampler.getFrom(queries);
+		return query.isEmpty() ? path : path + '?' + query;
 	}
 
 }
@@ -21,29 +21,26 @@
 package org.meanbean.factories.time;
 
 import org.meanbean.util.RandomValueGenerator;
-import org.meanbean.util.RandomValueSampler;
 
 import java.time.Clock;
 import java.time.Instant;
+import java.time.OffsetDateTime;
 import java.time.ZoneId;
-import java.util.Set;
+import java.time.ZoneOffset;
+import java.time.ZonedDateTime;
 
 public class RandomClock extends Clock {
 
 	private RandomValueGenerator randomValueGenerator;
-	private RandomValueSampler randomValueSampler;
 
 	public RandomClock(RandomValueGenerator randomValueGenerator) {
 		this.randomValueGenerator = randomValueGenerator;
-		this.randomValueSampler = new RandomValueSampler(randomValueGenerator);
 	}
 
 	@Override
 	public ZoneId getZone() {
-		Set<String> availableZoneIds = ZoneId.getAvailableZoneIds();
-		return randomValueSampler.findFrom(availableZoneIds)
-				.map(ZoneId::of)
-				.orElse(ZoneId.systemDefault());
+		int zoneCount = ZoneCatalog.getZoneCount();
+		return zoneCount == 0 ? ZoneId.systemDefault() : ZoneCatalog.getZoneId(randomValueGenerator.nextInt(zoneCount));
 	}
 
 	@Override
@@ -56,4 +53,29 @@ public class RandomClock extends Clock {
 		return Instant.ofEpochMilli(randomValueGenerator.nextLong());
 	}
 
+	/**
+	 * Equivalent to {@link ZonedDateTime#now(Clock)}, but without going through {@link #getZone()}.
+	 */
+	ZonedDateTime zonedDateTime() {
+		Instant instant = instant();
+		int zoneCount = ZoneCatalog.getZoneCount();
+		if (zoneCount == 0) {
+			return ZonedDateTime.ofInstant(instant, ZoneId.systemDefault());
+		}
+		return ZonedDateTime.ofInstant(instant, ZoneCatalog.getZoneId(randomValueGenerator.nextInt(zoneCount)));
+	}
+
+	/**
+	 * Equivalent to {@link OffsetDateTime#now(Clock)}, but using the precomputed rules of the random zone.
+	 */
+	OffsetDateTime offsetDateTime() {
+		Instant instant = instant();
+		int zoneCount = ZoneCatalog.getZoneCount();
+		if (zoneCount == 0) {
+			return OffsetDateTime.ofInstant(instant, ZoneId.systemDefault());
+		}
+		ZoneOffset offset = ZoneCatalog.getZoneRules(randomValueGenerator.nextInt(zoneCount)).getOffset(instant);
+		return OffsetDateTime.ofInstant(instant, offset);
+	}
+
 }
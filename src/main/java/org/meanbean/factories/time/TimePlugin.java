@@ -73,12 +73,14 @@ public class TimePlugin implements FactoryCollectionPlugin {
 		addFactory(LocalDate.class, newFactory(LocalDate::now));
 		addFactory(LocalDateTime.class, newFactory(LocalDateTime::now));
 		addFactory(LocalTime.class, newFactory(LocalTime::now));
-		addFactory(OffsetDateTime.class, newFactory(OffsetDateTime::now));
+		addFactory(OffsetDateTime.class, clock instanceof RandomClock ? ((RandomClock) clock)::offsetDateTime
+				: newFactory(OffsetDateTime::now));
 		addFactory(OffsetTime.class, newFactory(OffsetTime::now));
 		addFactory(MonthDay.class, newFactory(MonthDay::now));
 		addFactory(Year.class, newFactory(Year::now));
 		addFactory(YearMonth.class, newFactory(YearMonth::now));
-		addFactory(ZonedDateTime.class, newFactory(ZonedDateTime::now));
+		addFactory(ZonedDateTime.class, clock instanceof RandomClock ? ((RandomClock) clock)::zonedDateTime
+				: newFactory(ZonedDateTime::now));
 		addFactory(ZoneId.class, clock::getZone);
 		addFactory(ZoneOffset.class, newZoneOffsetFactory());
 
@@ -87,13 +89,8 @@ public class TimePlugin implements FactoryCollectionPlugin {
 	}
 
 	private Factory<ZoneOffset> newZoneOffsetFactory() {
-		return () -> {
-			int sign = randomValueGenerator.nextBoolean() ? 1 : -1;
-			int hours = randomValueGenerator.nextInt(18);
-			int minutes = randomValueGenerator.nextInt(59);
-			int seconds = randomValueGenerator.nextInt(59);
-			return ZoneOffset.ofHoursMinutesSeconds(sign * hours, sign * minutes, sign * seconds);
-		};
+		int zoneOffsetCount = ZoneCatalog.getZoneOffsetCount();
+		return () -> ZoneCatalog.getZoneOffset(randomValueGenerator.nextInt(zoneOffsetCount));
 	}
 
 	private Factory<Period> newPeroidFactory() {
@@ -0,0 +1,102 @@
+/*-
+ * ​​​
+ * meanbean
+ * ⁣⁣⁣
+ * Copyright (C) 2010 - 2020 the original author or authors.
+ * ⁣⁣⁣
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * ﻿﻿﻿﻿﻿
+ */
+
+package org.meanbean.factories.time;
+
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.time.zone.ZoneRules;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+/**
+ * Immutable catalog of the time zones and zone offsets that time factories sample from.
+ * 
+ * The catalog is built once, on first use, so that sampling a zone is an array access rather than a copy of
+ * {@link ZoneId#getAvailableZoneIds()} followed by parsing with {@link ZoneId#of(String)}. The rules of every zone are
+ * resolved at the same time.
+ */
+final class ZoneCatalog {
+
+	/** The largest offset, in minutes, that a ZoneOffset may have. */
+	private static final int MAX_OFFSET_MINUTES = (int) TimeUnit.HOURS.toMinutes(18);
+
+	private ZoneCatalog() {
+		// static methods only
+	}
+
+	/**
+	 * Get the number of available time zones.
+	 */
+	static int getZoneCount() {
+		return Zones.ZONE_IDS.length;
+	}
+
+	/**
+	 * Get the time zone at the specified index, which must be less than {@link #getZoneCount()}.
+	 */
+	static ZoneId getZoneId(int index) {
+		return Zones.ZONE_IDS[index];
+	}
+
+	/**
+	 * Get the rules of the time zone at the specified index, which must be less than {@link #getZoneCount()}.
+	 */
+	static ZoneRules getZoneRules(int index) {
+		return Zones.ZONE_RULES[index];
+	}
+
+	/**
+	 * Get the number of catalogued zone offsets: every whole minute from -18:00 to +18:00.
+	 */
+	static int getZoneOffsetCount() {
+		return Offsets.ZONE_OFFSETS.length;
+	}
+
+	/**
+	 * Get the zone offset at the specified index, which must be less than {@link #getZoneOffsetCount()}.
+	 */
+	static ZoneOffset getZoneOffset(int index) {
+		return Offsets.ZONE_OFFSETS[index];
+	}
+
+	/** Holder of the zone arrays, so they are only built when a zone is first needed. */
+	private static final class Zones {
+
+		static final ZoneId[] ZONE_IDS = ZoneId.getAvailableZoneIds()
+				.stream()
+				.sorted()
+				.map(ZoneId::of)
+				.toArray(ZoneId[]::new);
+
+		static final ZoneRules[] ZONE_RULES = Stream.of(ZONE_IDS)
+				.map(ZoneId::getRules)
+				.toArray(ZoneRules[]::new);
+	}
+
+	/** Holder of the offset array, so it is only built when an offset is first needed. */
+	private static final class Offsets {
+
+		static final ZoneOffset[] ZONE_OFFSETS = IntStream.rangeClosed(-MAX_OFFSET_MINUTES, MAX_OFFSET_MINUTES)
+				.mapToObj(minutes -> ZoneOffset.ofTotalSeconds((int) TimeUnit.MINUTES.toSeconds(minutes)))
+				.toArray(ZoneOffset[]::new);
+	}
+}
@@ -38,6 +38,10 @@ import org.meanbean.util.Types;
 import org.meanbean.util.ValidationHelper;
 
 import java.lang.reflect.Type;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Objects;
 import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
 
@@ -64,6 +68,12 @@ import static org.meanbean.test.Warning.DYNAMICALLY_CREATED_FACTORY;
  * thrown.</li>
  * </ol>
  * 
+ * <p>
+ * Factories created in the last step are remembered against the bean class, property and Configuration they were
+ * created for, so that the type is introspected and a trial instance created only once. See
+ * {@link #getDynamicFactories()}.
+ * </p>
+ * 
  * @author Graham Williamson
  */
 @MetaInfServices
@@ -71,6 +81,9 @@ public class BasicFactoryLookupStrategy implements FactoryLookupStrategy {
 
 	private static final Set<String> dynamicallyCreatedFactories = ConcurrentHashMap.newKeySet();
 
+	/** The number of dynamically created factories remembered before the cache is cleared. */
+	static final int MAX_DYNAMIC_FACTORIES = 1000;
+
 	/** Logging mechanism. */
 	private static final $Logger logger = $LoggerFactory.getLogger(BasicFactoryLookupStrategy.class);
 
@@ -80,6 +93,9 @@ public class BasicFactoryLookupStrategy implements FactoryLookupStrategy {
 	/** The collection of test data Factories. */
 	private final FactoryCollection factoryCollection;
 
+	/** Factories created for properties whose type has no registered Factory. */
+	private final Map<DynamicFactoryKey, Factory<?>> dynamicFactories = new ConcurrentHashMap<>();
+
 	/**
 	 * Construct a new Factory Lookup Strategy.
 	 * 
@@ -170,8 +186,28 @@ public class BasicFactoryLookupStrategy implements FactoryLookupStrategy {
 
 		} else if (propertyTypeHasRegisteredFactory(propertyInformation)) {
 			return getPropertyTypeRegisteredFactory(propertyInformation);
+		}
+
+		DynamicFactoryKey key = new DynamicFactoryKey(beanInformation.getBeanClass(), propertyName, propertyType,
+				configuration);
+		Factory<?> factory = dynamicFactories.get(key);
+		if (factory == null) {
+			factory = createDynamicFactory(beanInformation, propertyName, propertyType, configuration);
+			if (dynamicFactories.size() >= MAX_DYNAMIC_FACTORIES) {
+				dynamicFactories.clear();
+			}
+			// not computeIfAbsent: creating a bean factory looks up factories for the bean's own properties
+			Factory<?> existing = dynamicFactories.putIfAbsent(key, factory);
+			if (existing != null) {
+				factory = existing;
+			}
+		}
+		return factory;
+	}
 
-		} else if (propertyIsAnEnum(propertyType)) {
+	private Factory<?> createDynamicFactory(BeanInformation beanInformation, String propertyName, Class<?> propertyType,
+			Configuration configuration) {
+		if (propertyIsAnEnum(propertyType)) {
 			return getAndCachePropertyEnumFactory(propertyType);
 
 		} else if (propertyIsNotTheSameTypeAsItsParent(beanInformation, propertyType)) {
@@ -182,6 +218,16 @@ public class BasicFactoryLookupStrategy implements FactoryLookupStrategy {
 		}
 	}
 
+	/**
+	 * Get the factories this strategy has created for property types without a registered Factory, keyed by the bean
+	 * class, property and Configuration they were created for. Intended for diagnostics.
+	 * 
+	 * @return An unmodifiable snapshot of the dynamically created factories.
+	 */
+	public Map<DynamicFactoryKey, Factory<?>> getDynamicFactories() {
+		return Collections.unmodifiableMap(new HashMap<>(dynamicFactories));
+	}
+
 	private boolean propertyHasOverrideFactoryInConfiguration(String propertyName, Configuration configuration) {
 		return (configuration != null) && (configuration.hasOverrideFactory(propertyName));
 	}
@@ -227,7 +273,7 @@ public class BasicFactoryLookupStrategy implements FactoryLookupStrategy {
 		try {
 			onDynamicFactoryCreation(beanInformation, propertyName, propertyType, configuration);
 
-			Factory<?> populatedBeanFactory = createPopulatedBeanFactory(propertyType, configuration);
+			PopulatedBeanFactory populatedBeanFactory = createPopulatedBeanFactory(propertyType, configuration);
 			testPopulatedBeanFactory(populatedBeanFactory);
 			return populatedBeanFactory;
 		} catch (Exception e) {
@@ -268,14 +314,15 @@ public class BasicFactoryLookupStrategy implements FactoryLookupStrategy {
 		return dynamicallyCreatedFactories.add(key);
 	}
 
-	private Factory<?> createPopulatedBeanFactory(Class<?> propertyType, Configuration configuration) {
+	private PopulatedBeanFactory createPopulatedBeanFactory(Class<?> propertyType, Configuration configuration) {
 		BeanInformationFactory beanInformationFactory = BeanInformationFactory.getInstance();
 		BeanInformation propertyBeanInformation = beanInformationFactory.create(propertyType);
 		return new PopulatedBeanFactory(propertyBeanInformation, this, configuration);
 	}
 
-	private void testPopulatedBeanFactory(Factory<?> equivalentPopulatedBeanFactory) {
-		equivalentPopulatedBeanFactory.create();
+	private void testPopulatedBeanFactory(PopulatedBeanFactory equivalentPopulatedBeanFactory) {
+		// nested factories are found while a bean is being populated, so keep the test bean out of that object graph
+		equivalentPopulatedBeanFactory.createInOwnGraph();
 	}
 
 	private Factory<?> createTestedUnpopulatedBeanFactory(BeanInformation beanInformation, String propertyName,
@@ -300,4 +347,68 @@ public class BasicFactoryLookupStrategy implements FactoryLookupStrategy {
 	private void testUnpopulatedBeanFactory(Factory<?> basicFactory) {
 		basicFactory.create();
 	}
+
+	/**
+	 * Identifies a dynamically created factory: the bean class and property it was created for, the raw type of the
+	 * property, and the identity of the Configuration in effect.
+	 */
+	public static final class DynamicFactoryKey {
+
+		private final Class<?> beanClass;
+
+		private final String propertyName;
+
+		private final Class<?> propertyType;
+
+		private final Configuration configuration;
+
+		DynamicFactoryKey(Class<?> beanClass, String propertyName, Class<?> propertyType, Configuration configuration) {
+			this.beanClass = beanClass;
+			this.propertyName = propertyName;
+			this.propertyType = propertyType;
+			this.configuration = configuration;
+		}
+
+		public Class<?> getBeanClass() {
+			return beanClass;
+		}
+
+		public String getPropertyName() {
+			return propertyName;
+		}
+
+		public Class<?> getPropertyType() {
+			return propertyType;
+		}
+
+		public Configuration getConfiguration() {
+			return configuration;
+		}
+
+		@Override
+		public boolean equals(Object obj) {
+			if (this == obj) {
+				return true;
+			}
+			if (!(obj instanceof DynamicFactoryKey)) {
+				return false;
+			}
+			DynamicFactoryKey other = (DynamicFactoryKey) obj;
+			return beanClass == other.beanClass
+					&& propertyType == other.propertyType
+					&& configuration == other.configuration
+					&& Objects.equals(propertyName, other.propertyName);
+		}
+
+		@Override
+		public int hashCode() {
+			return Objects.hash(beanClass, propertyName, propertyType, System.identityHashCode(configuration));
+		}
+
+		@Override
+		public String toString() {
+			return (beanClass == null ? "?" : beanClass.getName()) + "." + propertyName + " ["
+					+ propertyType.getName() + "]";
+		}
+	}
 }
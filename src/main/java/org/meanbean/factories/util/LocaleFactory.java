@@ -25,26 +25,32 @@ import org.meanbean.factories.FactoryCollection;
 import org.meanbean.factories.FactoryCollectionPlugin;
 import org.meanbean.lang.Factory;
 import org.meanbean.util.RandomValueGenerator;
-import org.meanbean.util.RandomValueSampler;
 
-import java.util.Arrays;
-import java.util.List;
 import java.util.Locale;
 
 @MetaInfServices(FactoryCollectionPlugin.class)
 public class LocaleFactory implements Factory<Locale>, FactoryCollectionPlugin {
 
-	private RandomValueGenerator randomValueGenerator = RandomValueGenerator.getInstance();
-	private RandomValueSampler randomValueSampler = new RandomValueSampler(randomValueGenerator);
+	/** The available locales, copied once rather than for every created value. */
+	private static final Locale[] LOCALES = Locale.getAvailableLocales();
+
+	private final RandomValueGenerator randomValueGenerator;
+
+	public LocaleFactory() {
+		this(RandomValueGenerator.getInstance());
+	}
+
+	public LocaleFactory(RandomValueGenerator randomValueGenerator) {
+		this.randomValueGenerator = randomValueGenerator;
+	}
 
 	@Override
 	public Locale create() {
-		List<Locale> locales = Arrays.asList(Locale.getAvailableLocales());
-		return randomValueSampler.getFrom(locales);
+		return LOCALES[randomValueGenerator.nextInt(LOCALES.length)];
 	}
 
 	@Override
 	public void initialize(FactoryCollection factoryCollection, RandomValueGenerator randomValueGenerator) {
-		factoryCollection.addFactory(Locale.class, this);
+		factoryCollection.addFactory(Locale.class, new LocaleFactory(randomValueGenerator));
 	}
 }
@@ -0,0 +1,175 @@
+/*-
+ * ​​​
+ * meanbean
+ * ⁣⁣⁣
+ * Copyright (C) 2010 - 2020 the original author or authors.
+ * ⁣⁣⁣
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * ﻿﻿﻿﻿﻿
+ */
+
+package org.meanbean.lang;
+
+/**
+ * A Factory of primitive values, which can create each value without boxing it. The specializations for each primitive
+ * type are nested within this interface.
+ * 
+ * @param <T>
+ *            The wrapper type of the primitive values this Factory creates.
+ */
+public interface PrimitiveFactory<T> extends Factory<T> {
+
+	/**
+	 * A Factory of boolean values.
+	 */
+	interface OfBoolean extends PrimitiveFactory<Boolean> {
+
+		/**
+		 * Create a new boolean value.
+		 * 
+		 * @return A new boolean value.
+		 */
+		boolean createBoolean();
+
+		@Override
+		default Boolean create() {
+			return createBoolean();
+		}
+	}
+
+	/**
+	 * A Factory of byte values.
+	 */
+	interface OfByte extends PrimitiveFactory<Byte> {
+
+		/**
+		 * Create a new byte value.
+		 * 
+		 * @return A new byte value.
+		 */
+		byte createByte();
+
+		@Override
+		default Byte create() {
+			return createByte();
+		}
+	}
+
+	/**
+	 * A Factory of short values.
+	 */
+	interface OfShort extends PrimitiveFactory<Short> {
+
+		/**
+		 * Create a new short value.
+		 * 
+		 * @return A new short value.
+		 */
+		short createShort();
+
+		@Override
+		default Short create() {
+			return createShort();
+		}
+	}
+
+	/**
+	 * A Factory of int values.
+	 */
+	interface OfInt extends PrimitiveFactory<Integer> {
+
+		/**
+		 * Create a new int value.
+		 * 
+		 * @return A new int value.
+		 */
+		int createInt();
+
+		@Override
+		default Integer create() {
+			return createInt();
+		}
+	}
+
+	/**
+	 * A Factory of long values.
+	 */
+	interface OfLong extends PrimitiveFactory<Long> {
+
+		/**
+		 * Create a new long value.
+		 * 
+		 * @return A new long value.
+		 */
+		long createLong();
+
+		@Override
+		default Long create() {
+			return createLong();
+		}
+	}
+
+	/**
+	 * A Factory of float values.
+	 */
+	interface OfFloat extends PrimitiveFactory<Float> {
+
+		/**
+		 * Create a new float value.
+		 * 
+		 * @return A new float value.
+		 */
+		float createFloat();
+
+		@Override
+		default Float create() {
+			return createFloat();
+		}
+	}
+
+	/**
+	 * A Factory of double values.
+	 */
+	interface OfDouble extends PrimitiveFactory<Double> {
+
+		/**
+		 * Create a new double value.
+		 * 
+		 * @return A new double value.
+		 */
+		double createDouble();
+
+		@Override
+		default Double create() {
+			return createDouble();
+		}
+	}
+
+	/**
+	 * A Factory of char values.
+	 */
+	interface OfChar extends PrimitiveFactory<Character> {
+
+		/**
+		 * Create a new char value.
+		 * 
+		 * @return A new char value.
+		 */
+		char createChar();
+
+		@Override
+		default Character create() {
+			return createChar();
+		}
+	}
+}
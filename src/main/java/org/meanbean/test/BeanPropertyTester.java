@@ -20,7 +20,10 @@
 
 package org.meanbean.test;
 
+import org.meanbean.bean.info.PrimitivePropertyAccessor;
+import org.meanbean.bean.info.PrimitivePropertyAccessor.Mismatch;
 import org.meanbean.bean.info.PropertyInformation;
+import org.meanbean.lang.Factory;
 import org.meanbean.logging.$Logger;
 import org.meanbean.logging.$LoggerFactory;
 import org.meanbean.test.internal.EqualityTest;
@@ -86,8 +89,8 @@ public class BeanPropertyTester {
 			throw new IllegalArgumentException(msg);
 		}
 		try {
-			property.getWriteMethod().invoke(bean, testValue);
-			Object readMethodOutput = property.getReadMethod().invoke(bean);
+			property.getPropertySetter().set(bean, testValue);
+			Object readMethodOutput = property.getPropertyGetter().get(bean);
 			
 			UrlEqualityTestWarning.ifNeeded(equalityTest, bean, propertyName, testValue);
 			UrlEqualityTestWarning.ifNeeded(equalityTest, bean, propertyName, readMethodOutput);
@@ -102,6 +105,54 @@ public class BeanPropertyTester {
 		}
     }
 
+	/**
+	 * <p>
+	 * Test the property written and read by the specified accessor on the specified bean object, using a primitive
+	 * value created by the specified factory.
+	 * </p>
+	 * 
+	 * <p>
+	 * This is the same test as testProperty with a logical equality test, but the value is never boxed: it is created,
+	 * written, read and compared as a primitive.
+	 * </p>
+	 * 
+	 * @param bean
+	 *            The object the property should be tested on.
+	 * @param accessor
+	 *            Writes and reads the property to be tested.
+	 * @param factory
+	 *            The PrimitiveFactory that creates the value to use when testing the property.
+	 * 
+	 * @throws IllegalArgumentException
+	 *             If any of the parameters are deemed illegal. For example, if any are <code>null</code>, or if the
+	 *             factory does not create values of the property's primitive type.
+	 * @throws AssertionError
+	 *             If the test fails.
+	 * @throws BeanTestException
+	 *             If an unexpected exception occurs during testing.
+	 */
+	public void testPrimitiveProperty(Object bean, PrimitivePropertyAccessor accessor, Factory<?> factory)
+	        throws IllegalArgumentException, AssertionError, BeanTestException {
+		ValidationHelper.ensureExists("bean", "test property", bean);
+		ValidationHelper.ensureExists("accessor", "test property", accessor);
+		ValidationHelper.ensureExists("factory", "test property", factory);
+		PropertyInformation property = accessor.getProperty();
+		if (!accessor.supports(factory)) {
+			throw new IllegalArgumentException("Cannot test property [" + property.getName()
+			        + "] - factory must create values of the property's primitive type.");
+		}
+		try {
+			Mismatch mismatch = accessor.writeAndRead(bean, factory);
+			if (mismatch != null) {
+				String message = "Property [" + property.getName() + "] getter did not return test value. Expected ["
+						+ mismatch.getWritten() + "] but getter returned [" + mismatch.getRead() + "].";
+				AssertionUtils.fail(message);
+			}
+		} catch (Exception e) {
+			throw throwException(property, e);
+		}
+	}
+
     static BeanTestException throwException(PropertyInformation property, Exception e) {
         String propertyName = property.getName();
         String message = "Failed to test property [" + propertyName + "] due to Exception [" + e.getClass().getName()
@@ -0,0 +1,263 @@
+/*-
+ * ​​​
+ * meanbean
+ * ⁣⁣⁣
+ * Copyright (C) 2010 - 2020 the original author or authors.
+ * ⁣⁣⁣
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * ﻿﻿﻿﻿﻿
+ */
+
+package org.meanbean.test;
+
+import org.meanbean.bean.info.BeanInformation;
+import org.meanbean.bean.info.PrimitivePropertyAccessor;
+import org.meanbean.bean.info.PropertyInformation;
+import org.meanbean.bean.util.PropertyInformationFilter;
+import org.meanbean.bean.util.TrivialAccessorDetector;
+import org.meanbean.factories.BasicNewObjectInstanceFactory;
+import org.meanbean.factories.util.FactoryLookupStrategy;
+import org.meanbean.lang.Factory;
+import org.meanbean.test.BeanTestReport.PropertyClassification;
+import org.meanbean.test.internal.EqualityTest;
+import org.meanbean.test.internal.SideEffectDetector;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Everything BeanTester needs to test one type with one Configuration, worked out once and then executed for each
+ * iteration: the readable and writable properties, the Factory and equality test for each property's values, the bean
+ * Factory and the side-effect detector.
+ * 
+ * If the Configuration asks for it, properties with trivial accessors are tested in the first execution only.
+ * 
+ * Primitive properties whose values come from a PrimitiveFactory are tested without boxing, unless the
+ * BeanPropertyTester has been replaced by a subclass that may expect to see every property.
+ */
+final class BeanTestPlan {
+
+	private final BeanInformation beanInformation;
+
+	private final Configuration configuration;
+
+	private final Factory<Object> beanFactory;
+
+	private final PropertyInformation[] properties;
+
+	private final Map<PropertyInformation, PlannedProperty> plannedProperties = new IdentityHashMap<>();
+
+	private final SideEffectDetector sideEffectDetector;
+
+	private final BeanPropertyTester beanPropertyTester;
+
+	/** Whether properties classified as trivial are tested in the first execution only. */
+	private final boolean testTrivialAccessorsOnce;
+
+	/** The number of properties tested in executions after the first. */
+	private final int repeatedPropertyCount;
+
+	private final long planNanos;
+
+	private int executions;
+
+	private long propertyTests;
+
+	private long instantiationNanos;
+
+	private long valueCreationNanos;
+
+	private long propertyTestNanos;
+
+	private long sideEffectDetectionNanos;
+
+	BeanTestPlan(BeanInformation beanInformation, Configuration configuration, FactoryLookupStrategy factoryLookupStrategy,
+	        SideEffectDetector sideEffectDetector, BeanPropertyTester beanPropertyTester) {
+		long start = System.nanoTime();
+		this.beanInformation = beanInformation;
+		this.configuration = configuration;
+		this.sideEffectDetector = sideEffectDetector;
+		this.beanPropertyTester = beanPropertyTester;
+		// Get just the properties of the bean that are readable and writable
+		// Skip testing any 'ignored' properties
+		List<PropertyInformation> readableWritableProperties =
+		        PropertyInformationFilter.filter(beanInformation.getProperties(), configuration);
+		this.properties = readableWritableProperties.toArray(new PropertyInformation[0]);
+		this.beanFactory = BasicNewObjectInstanceFactory.findBeanFactory(beanInformation);
+		this.testTrivialAccessorsOnce = configuration != null && configuration.isTestTrivialAccessorsOnce();
+		boolean testPrimitivesUnboxed = beanPropertyTester.getClass() == BeanPropertyTester.class;
+		int repeated = 0;
+		for (PropertyInformation property : properties) {
+			PlannedProperty plannedProperty =
+			        new PlannedProperty(beanInformation, property, factoryLookupStrategy, configuration);
+			plannedProperty.classification = classify(property);
+			if (testPrimitivesUnboxed) {
+				plannedProperty.primitiveAccessor = plannedProperty.findPrimitiveAccessor();
+			}
+			if (plannedProperty.classification != PropertyClassification.TRIVIAL) {
+				repeated++;
+			}
+			plannedProperties.put(property, plannedProperty);
+		}
+		this.repeatedPropertyCount = repeated;
+		this.planNanos = System.nanoTime() - start;
+	}
+
+	/**
+	 * Is this the plan for testing the specified beanInformation with the specified configuration?
+	 */
+	boolean isFor(BeanInformation beanInformation, Configuration configuration) {
+		return this.beanInformation == beanInformation && this.configuration == configuration;
+	}
+
+	/**
+	 * Test each property of a new bean instance once.
+	 */
+	void execute() throws AssertionError, BeanTestException {
+		boolean repeat = executions++ > 0;
+		if (repeat && repeatedPropertyCount == 0) {
+			return;
+		}
+		long start = System.nanoTime();
+		Object bean;
+		try {
+			bean = beanFactory.create();
+		} catch (Exception e) {
+			String message = "Cannot test bean [" + beanInformation.getBeanClass().getName()
+					+ "]. Failed to instantiate an instance of the bean.";
+			throw new BeanTestException(message, e);
+		}
+		long instantiated = System.nanoTime();
+		instantiationNanos += instantiated - start;
+
+		// the detector may reorder the properties, so give it a fresh copy each time
+		List<PropertyInformation> testOrder = new ArrayList<>(Arrays.asList(properties));
+		sideEffectDetector.init(bean, testOrder);
+		long mark = System.nanoTime();
+		sideEffectDetectionNanos += mark - instantiated;
+
+		for (PropertyInformation property : testOrder) {
+			PlannedProperty plannedProperty = plannedProperties.get(property);
+			if (repeat && plannedProperty.classification == PropertyClassification.TRIVIAL) {
+				continue;
+			}
+			propertyTests++;
+			if (plannedProperty.primitiveAccessor != null) {
+				// the value is created as part of the test, so its creation is timed with the test
+				sideEffectDetector.beforeTestProperty(property, plannedProperty.equalityTest);
+				long detectedBefore = System.nanoTime();
+				beanPropertyTester.testPrimitiveProperty(bean, plannedProperty.primitiveAccessor,
+				        plannedProperty.valueFactory);
+				long tested = System.nanoTime();
+				sideEffectDetector.detectAfterTestProperty();
+				long detectedAfter = System.nanoTime();
+
+				propertyTestNanos += tested - detectedBefore;
+				sideEffectDetectionNanos += (detectedBefore - mark) + (detectedAfter - tested);
+				mark = detectedAfter;
+				continue;
+			}
+			Object testValue = plannedProperty.createTestValue(beanInformation);
+			long created = System.nanoTime();
+			valueCreationNanos += created - mark;
+
+			sideEffectDetector.beforeTestProperty(property, plannedProperty.equalityTest);
+			long detectedBefore = System.nanoTime();
+			beanPropertyTester.testProperty(bean, property, testValue, plannedProperty.equalityTest);
+			long tested = System.nanoTime();
+			sideEffectDetector.detectAfterTestProperty();
+			mark = System.nanoTime();
+
+			propertyTestNanos += tested - detectedBefore;
+			sideEffectDetectionNanos += (detectedBefore - created) + (mark - tested);
+		}
+	}
+
+	private PropertyClassification classify(PropertyInformation property) {
+		if (!testTrivialAccessorsOnce) {
+			return PropertyClassification.NOT_INSPECTED;
+		}
+		return TrivialAccessorDetector.isTrivial(property) ? PropertyClassification.TRIVIAL
+		        : PropertyClassification.NON_TRIVIAL;
+	}
+
+	BeanTestReport getReport() {
+		Map<String, PropertyClassification> classifications = new LinkedHashMap<>();
+		for (PropertyInformation property : properties) {
+			classifications.put(property.getName(), plannedProperties.get(property).classification);
+		}
+		return new BeanTestReport(beanInformation.getBeanClass(), executions, classifications, propertyTests,
+		        planNanos, instantiationNanos, valueCreationNanos, propertyTestNanos, sideEffectDetectionNanos);
+	}
+
+	/**
+	 * A property to test, with the Factory that creates its test values.
+	 */
+	private static final class PlannedProperty {
+
+		private final PropertyInformation property;
+
+		private final Factory<?> valueFactory;
+
+		/** Why no Factory could be found; reported when the property is reached, as if it was looked up then. */
+		private final Exception lookupFailure;
+
+		private final EqualityTest equalityTest;
+
+		private PropertyClassification classification;
+
+		/** Tests the property without boxing its values; <code>null</code> if that is not possible. */
+		private PrimitivePropertyAccessor primitiveAccessor;
+
+		PlannedProperty(BeanInformation beanInformation, PropertyInformation property,
+		        FactoryLookupStrategy factoryLookupStrategy, Configuration configuration) {
+			this.property = property;
+			Factory<?> factory = null;
+			Exception failure = null;
+			try {
+				factory = factoryLookupStrategy.getFactory(beanInformation, property, configuration);
+			} catch (Exception e) {
+				failure = e;
+			}
+			this.valueFactory = factory;
+			this.lookupFailure = failure;
+			this.equalityTest =
+			        factory instanceof BasicNewObjectInstanceFactory ? EqualityTest.ABSOLUTE : EqualityTest.LOGICAL;
+		}
+
+		PrimitivePropertyAccessor findPrimitiveAccessor() {
+			if (valueFactory == null || equalityTest != EqualityTest.LOGICAL) {
+				return null;
+			}
+			PrimitivePropertyAccessor accessor = PrimitivePropertyAccessor.of(property);
+			return accessor != null && accessor.supports(valueFactory) ? accessor : null;
+		}
+
+		Object createTestValue(BeanInformation beanInformation) throws BeanTestException {
+			try {
+				if (lookupFailure != null) {
+					throw lookupFailure;
+				}
+				return valueFactory.create();
+			} catch (Exception e) {
+				String message = "Cannot test bean [" + beanInformation.getBeanClass().getName()
+						+ "]. Failed to instantiate a test value for property [" + property.getName() + "].";
+				throw new BeanTestException(message, e);
+			}
+		}
+	}
+}
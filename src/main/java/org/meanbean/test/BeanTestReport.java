@@ -0,0 +1,173 @@
+/*-
+ * ​​​
+ * meanbean
+ * ⁣⁣⁣
+ * Copyright (C) 2010 - 2020 the original author or authors.
+ * ⁣⁣⁣
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * ﻿﻿﻿﻿﻿
+ */
+
+package org.meanbean.test;
+
+import java.util.Collections;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Summary of one {@link BeanTester#testBean(Class)} run: what was tested and how long each phase took, accumulated
+ * over all iterations.
+ * 
+ * @see BeanTester#getLastReport()
+ */
+public final class BeanTestReport {
+
+	/**
+	 * How a property's accessors were classified before testing.
+	 * 
+	 * @see Configuration#isTestTrivialAccessorsOnce()
+	 */
+	public enum PropertyClassification {
+
+		/** The getter and setter read and write the same field and nothing else; tested in the first iteration only. */
+		TRIVIAL,
+
+		/** The accessors contain other logic, or could not be inspected; tested in every iteration. */
+		NON_TRIVIAL,
+
+		/** The accessors were not inspected; tested in every iteration. */
+		NOT_INSPECTED
+	}
+
+	private final Class<?> beanClass;
+
+	private final int iterations;
+
+	private final Map<String, PropertyClassification> propertyClassifications;
+
+	private final long propertyTestCount;
+
+	private final long planNanos;
+
+	private final long instantiationNanos;
+
+	private final long valueCreationNanos;
+
+	private final long propertyTestNanos;
+
+	private final long sideEffectDetectionNanos;
+
+	BeanTestReport(Class<?> beanClass, int iterations, Map<String, PropertyClassification> propertyClassifications,
+	        long propertyTestCount, long planNanos, long instantiationNanos, long valueCreationNanos,
+	        long propertyTestNanos, long sideEffectDetectionNanos) {
+		this.beanClass = beanClass;
+		this.iterations = iterations;
+		this.propertyClassifications = Collections.unmodifiableMap(propertyClassifications);
+		this.propertyTestCount = propertyTestCount;
+		this.planNanos = planNanos;
+		this.instantiationNanos = instantiationNanos;
+		this.valueCreationNanos = valueCreationNanos;
+		this.propertyTestNanos = propertyTestNanos;
+		this.sideEffectDetectionNanos = sideEffectDetectionNanos;
+	}
+
+	/**
+	 * @return The type that was tested.
+	 */
+	public Class<?> getBeanClass() {
+		return beanClass;
+	}
+
+	/**
+	 * @return The number of iterations that were executed.
+	 */
+	public int getIterations() {
+		return iterations;
+	}
+
+	/**
+	 * @return The number of readable and writable properties under test.
+	 */
+	public int getPropertyCount() {
+		return propertyClassifications.size();
+	}
+
+	/**
+	 * @return The classification of each property under test, keyed by property name.
+	 */
+	public Map<String, PropertyClassification> getPropertyClassifications() {
+		return propertyClassifications;
+	}
+
+	/**
+	 * @return The number of times a property was tested, over all iterations.
+	 */
+	public long getPropertyTestCount() {
+		return propertyTestCount;
+	}
+
+	/**
+	 * @return Time spent once, up front, selecting properties and resolving factories.
+	 */
+	public long getPlanNanos() {
+		return planNanos;
+	}
+
+	/**
+	 * @return Time spent instantiating beans.
+	 */
+	public long getInstantiationNanos() {
+		return instantiationNanos;
+	}
+
+	/**
+	 * @return Time spent creating test values.
+	 */
+	public long getValueCreationNanos() {
+		return valueCreationNanos;
+	}
+
+	/**
+	 * @return Time spent setting, getting and comparing property values.
+	 */
+	public long getPropertyTestNanos() {
+		return propertyTestNanos;
+	}
+
+	/**
+	 * @return Time spent detecting setter side-effects on other properties.
+	 */
+	public long getSideEffectDetectionNanos() {
+		return sideEffectDetectionNanos;
+	}
+
+	/**
+	 * @return The sum of all phases.
+	 */
+	public long getTotalNanos() {
+		return planNanos + instantiationNanos + valueCreationNanos + propertyTestNanos + sideEffectDetectionNanos;
+	}
+
+	@Override
+	public String toString() {
+		return "BeanTestReport[beanClass=" + beanClass.getName() + ", iterations=" + iterations + ", properties="
+		        + propertyClassifications + ", propertyTests=" + propertyTestCount + ", plan=" + micros(planNanos) + ", instantiation=" + micros(instantiationNanos)
+		        + ", valueCreation=" + micros(valueCreationNanos) + ", propertyTest=" + micros(propertyTestNanos)
+		        + ", sideEffectDetection=" + micros(sideEffectDetectionNanos) + ", total=" + micros(getTotalNanos())
+		        + "]";
+	}
+
+	private static String micros(long nanos) {
+		return TimeUnit.NANOSECONDS.toMicros(nanos) + "us";
+	}
+}
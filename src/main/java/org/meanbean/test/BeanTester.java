@@ -22,13 +22,10 @@ package org.meanbean.test;
 
 import org.meanbean.bean.info.BeanInformation;
 import org.meanbean.bean.info.BeanInformationFactory;
-import org.meanbean.bean.info.PropertyInformation;
-import org.meanbean.bean.util.PropertyInformationFilter;
-import org.meanbean.factories.BasicNewObjectInstanceFactory;
 import org.meanbean.factories.FactoryCollection;
 import org.meanbean.factories.util.FactoryLookupStrategy;
-import org.meanbean.lang.Factory;
-import org.meanbean.test.internal.EqualityTest;
+import org.meanbean.logging.$Logger;
+import org.meanbean.logging.$LoggerFactory;
 import org.meanbean.test.internal.NoopSideEffectDetector;
 import org.meanbean.test.internal.SideEffectDetector;
 import org.meanbean.util.RandomValueGenerator;
@@ -36,7 +33,6 @@ import org.meanbean.util.ServiceFactory;
 import org.meanbean.util.ServiceLoader;
 import org.meanbean.util.ValidationHelper;
 
-import java.util.List;
 import java.util.function.Function;
 
 /**
@@ -122,6 +118,8 @@ import java.util.function.Function;
  */
 public class BeanTester {
 
+	private static final $Logger logger = $LoggerFactory.getLogger(BeanTester.class);
+
 	/** Default number of times a bean should be tested. */
 	public static final int TEST_ITERATIONS_PER_BEAN = 100;
 
@@ -143,6 +141,12 @@ public class BeanTester {
 	/** Object that tests the getters and setters of a Bean's property. */
 	private final BeanPropertyTester beanPropertyTester;
 
+	/** Timings of the most recent successful test. */
+	private volatile BeanTestReport lastReport;
+
+	/** The plan of the <code>testBean(Class&lt;?&gt;, Configuration)</code> call in progress on each thread. */
+	private final ThreadLocal<BeanTestPlan> activePlan = new ThreadLocal<>();
+
 	/**
 	 * Prefer {@link BeanVerifier} or {@link BeanTesterBuilder#newBeanTester()}
 	 */
@@ -292,9 +296,19 @@ public class BeanTester {
 		
 		// Get all information about a potential JavaBean class
 		BeanInformation beanInformation = beanInformationFactory.create(beanClass);
-		// Test the JavaBean 'iterations' times
-		for (int idx = 0; idx < iterations; idx++) {
-			testBean(beanInformation, customConfiguration);
+		// Resolve properties and factories once, then test the JavaBean 'iterations' times
+		BeanTestPlan plan = createTestPlan(beanInformation, customConfiguration);
+		activePlan.set(plan);
+		try {
+			for (int idx = 0; idx < iterations; idx++) {
+				testBean(beanInformation, customConfiguration);
+			}
+		} finally {
+			activePlan.remove();
+		}
+		lastReport = plan.getReport();
+		if (logger.isDebugEnabled()) {
+			logger.debug("testBean: {}", lastReport);
 		}
 	}
 
@@ -316,6 +330,11 @@ public class BeanTester {
 	 * When a test is failed, an AssertionError is thrown.
 	 * </p>
 	 * 
+	 * <p>
+	 * <code>testBean(Class&lt;?&gt;, Configuration)</code> calls this method once per iteration. Those calls share
+	 * the test plan worked out before the first iteration, so properties and factories are resolved only once.
+	 * </p>
+	 * 
 	 * @param beanInformation
 	 *            Information about the type to be tested.
 	 * @param configuration
@@ -332,47 +351,33 @@ public class BeanTester {
 	protected void testBean(BeanInformation beanInformation, Configuration configuration)
 			throws IllegalArgumentException, AssertionError, BeanTestException {
 		ValidationHelper.ensureExists("beanInformation", "test bean", beanInformation);
-
-		// Get just the properties of the bean that are readable and writable
-		// Skip testing any 'ignored' properties
-		List<PropertyInformation> readableWritableProperties = PropertyInformationFilter.filter(beanInformation.getProperties(),
-				configuration);
-
-		// Instantiate
-		Factory<Object> beanFactory = BasicNewObjectInstanceFactory.findBeanFactory(beanInformation.getBeanClass());
-		Object bean;
-		try {
-			bean = beanFactory.create();
-		} catch (Exception e) {
-			String message = "Cannot test bean [" + beanInformation.getBeanClass().getName()
-					+ "]. Failed to instantiate an instance of the bean.";
-			throw new BeanTestException(message, e);
+		BeanTestPlan plan = activePlan.get();
+		if (plan != null && plan.isFor(beanInformation, configuration)) {
+			// the report is published by testBean(Class, Configuration) once every iteration has passed
+			plan.execute();
+			return;
 		}
+		plan = createTestPlan(beanInformation, configuration);
+		plan.execute();
+		lastReport = plan.getReport();
+	}
 
-		SideEffectDetector sideEffectDetector = createSideEffectDetector(configuration);
-		sideEffectDetector.init(bean, readableWritableProperties);
-
-		// Test each property
-		for (PropertyInformation property : readableWritableProperties) {
-			EqualityTest equalityTest = EqualityTest.LOGICAL;
-			Object testValue = null;
-			try {
-				Factory<?> valueFactory = factoryLookupStrategy.getFactory(beanInformation, property, configuration);
-				testValue = valueFactory.create();
-				if (valueFactory instanceof BasicNewObjectInstanceFactory) {
-					equalityTest = EqualityTest.ABSOLUTE;
-				}
-			} catch (Exception e) {
-				String message = "Cannot test bean [" + beanInformation.getBeanClass().getName()
-						+ "]. Failed to instantiate a test value for property [" + property.getName()
-						+ "].";
-				throw new BeanTestException(message, e);
-			}
+	/**
+	 * Work out, once, what testing the specified type involves: which properties to test, the Factory for each
+	 * property's test values and how to create the bean itself.
+	 */
+	BeanTestPlan createTestPlan(BeanInformation beanInformation, Configuration configuration) {
+		return new BeanTestPlan(beanInformation, configuration, factoryLookupStrategy,
+				createSideEffectDetector(configuration), beanPropertyTester);
+	}
 
-			sideEffectDetector.beforeTestProperty(property, equalityTest);
-			beanPropertyTester.testProperty(bean, property, testValue, equalityTest);
-			sideEffectDetector.detectAfterTestProperty();
-		}
+	/**
+	 * Get timings for the most recent <code>testBean</code> call that completed successfully.
+	 * 
+	 * @return A report of the last successful test, or <code>null</code> if no bean has been tested yet.
+	 */
+	public BeanTestReport getLastReport() {
+		return lastReport;
 	}
 
 	/**
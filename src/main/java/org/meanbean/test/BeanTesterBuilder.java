@@ -22,9 +22,16 @@ package org.meanbean.test;
 
 import com.github.meanbeanlib.mirror.SerializableLambdas.SerializableFunction1;
 import org.meanbean.bean.info.BeanInformationFactory;
+import org.meanbean.bean.info.BeanInformationPreloader;
 import org.meanbean.factories.FactoryCollection;
 import org.meanbean.factories.FactoryLookup;
 import org.meanbean.factories.NoSuchFactoryException;
+import org.meanbean.factories.PooledFactory;
+import org.meanbean.factories.beans.PopulatedBeanFactory;
+import org.meanbean.factories.basic.FastStringFactory;
+import org.meanbean.factories.basic.StringFactory;
+import org.meanbean.factories.io.FileFactory;
+import org.meanbean.factories.io.PathFactory;
 import org.meanbean.factories.util.FactoryLookupStrategy;
 import org.meanbean.lang.Factory;
 import org.meanbean.util.RandomValueGenerator;
@@ -32,6 +39,7 @@ import org.meanbean.util.ServiceFactory;
 import org.meanbean.util.ValidationHelper;
 
 import java.lang.reflect.Type;
+import java.nio.file.Path;
 import java.util.Map;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.function.Consumer;
@@ -61,6 +69,8 @@ public class BeanTesterBuilder {
 
 	private Configuration defaultConfiguration;
 
+	private int preloadParallelism;
+
 	public static BeanTesterBuilder newBeanTesterBuilder() {
 		return new BeanTesterBuilder();
 	}
@@ -98,6 +108,7 @@ public class BeanTesterBuilder {
 		beanPropertyTester = new BeanPropertyTester();
 		customConfigurations = new ConcurrentHashMap<>();
 		defaultConfiguration = Configuration.defaultConfiguration();
+		preloadParallelism = BeanInformationPreloader.getDefaultParallelism();
 	}
 
 	public RandomValueGenerator getRandomValueGenerator() {
@@ -176,6 +187,56 @@ public class BeanTesterBuilder {
 		return this;
 	}
 
+	/**
+	 * Create String test values with a FastStringFactory, or go back to the default StringFactory.
+	 */
+	public BeanTesterBuilder setFastStringFactory(boolean fastStringFactory) {
+		Factory<String> factory = fastStringFactory ? new FastStringFactory(getRandomValueGenerator())
+		        : new StringFactory(getRandomValueGenerator());
+		return registerFactory(String.class, factory);
+	}
+
+	/**
+	 * Create Path and File test values under the specified root, either purely in memory or, if onDisk is true, by
+	 * creating and deleting a temporary file for each value.
+	 * 
+	 * @see PathFactory
+	 */
+	public BeanTesterBuilder setPathFactory(Path root, boolean onDisk) {
+		FileFactory.register(getFactoryCollection(), new PathFactory(getRandomValueGenerator(), root, onDisk));
+		return this;
+	}
+
+	/**
+	 * Hand out values of the specified type from a ring buffer of poolSize distinct values, pre-generated by the
+	 * Factory currently registered for the type or, if there is none, by a PopulatedBeanFactory.
+	 * 
+	 * @see PooledFactory
+	 */
+	@SuppressWarnings("unchecked")
+	public <T> BeanTesterBuilder registerPooledFactory(Class<T> clazz, int poolSize, boolean background) {
+		ValidationHelper.ensureExists("clazz", "register pooled factory", clazz);
+		Factory<T> factory = getFactoryCollection().<T> findFactory(clazz)
+		        .orElseGet(() -> (Factory<T>) new PopulatedBeanFactory(getBeanInformationFactory().create(clazz),
+		                getFactoryLookupStrategy(), createConfigurationProvider().apply(clazz)));
+		return registerFactory(clazz, new PooledFactory<>(factory, poolSize, background));
+	}
+
+	public int getPreloadParallelism() {
+		return preloadParallelism;
+	}
+
+	/**
+	 * Set the number of threads that gather BeanInformation for all types up front when many types are verified
+	 * together. <code>0</code> disables preloading; the default is set by the <code>meanbean.preload.parallelism</code>
+	 * system property, or the number of processors.
+	 */
+	public BeanTesterBuilder setPreloadParallelism(int preloadParallelism) {
+		ValidationHelper.ensure(preloadParallelism >= 0, "preloadParallelism must not be negative");
+		this.preloadParallelism = preloadParallelism;
+		return this;
+	}
+
 	public int getDefaultIterations() {
 		return defaultConfiguration.getIterations();
 	}
@@ -197,6 +258,31 @@ public class BeanTesterBuilder {
 		return this;
 	}
 
+	/**
+	 * Test properties of the specified type whose getter and setter merely read and write the same field in the first
+	 * iteration only.
+	 */
+	public BeanTesterBuilder setTestTrivialAccessorsOnce(Class<?> beanClass, boolean testTrivialAccessorsOnce) {
+		ValidationHelper.ensureExists("beanClass", "configure trivial accessor testing", beanClass);
+		getConfigurationFor(beanClass).setTestTrivialAccessorsOnce(testTrivialAccessorsOnce);
+		return this;
+	}
+
+	/**
+	 * Limit the object graphs generated for nested bean properties of the specified type: populate at most maxDepth
+	 * nested levels, create at most maxNodes beans per graph and, if reuseInstances is true, reuse the first bean
+	 * created of each type within a graph.
+	 */
+	public BeanTesterBuilder setObjectGraphLimits(Class<?> beanClass, int maxDepth, int maxNodes,
+	        boolean reuseInstances) {
+		ValidationHelper.ensureExists("beanClass", "configure object graph limits", beanClass);
+		Configuration configuration = getConfigurationFor(beanClass);
+		configuration.setMaxGraphDepth(maxDepth);
+		configuration.setMaxGraphNodes(maxNodes);
+		configuration.setReuseGraphInstances(reuseInstances);
+		return this;
+	}
+
 	/**
 	 * Mark the specified property as one to be disregarded/ignored during testing.
 	 */
@@ -214,7 +300,7 @@ public class BeanTesterBuilder {
 	 */
 	public <T, S> BeanTesterBuilder addIgnoredProperty(Class<T> beanClass, SerializableFunction1<T, S> beanGetter)
 			throws IllegalArgumentException {
-		String propertyName = findPropertyName(beanClass, beanGetter);
+		String propertyName = findPropertyName(beanInformationFactory, beanClass, beanGetter);
 		return addIgnoredPropertyName(beanClass, propertyName);
 	}
 
@@ -245,7 +331,7 @@ public class BeanTesterBuilder {
 		ValidationHelper.ensureExists("beanGetter", "add override Factory", beanGetter);
 		ValidationHelper.ensureExists("factory", "add override Factory", factory);
 
-		String propertyName = findPropertyName(beanClass, beanGetter);
+		String propertyName = findPropertyName(beanInformationFactory, beanClass, beanGetter);
 		getConfigurationFor(beanClass).getOverrideFactories().put(propertyName, factory);
 		return this;
 	}
@@ -271,7 +357,7 @@ public class BeanTesterBuilder {
 		ValidationHelper.ensureExists("beanClass", "add equals insignificantProperty", beanClass);
 		ValidationHelper.ensureExists("beanGetter", "add equals insignificantProperty", beanGetter);
 
-		String propertyName = findPropertyName(beanClass, beanGetter);
+		String propertyName = findPropertyName(beanInformationFactory, beanClass, beanGetter);
 		return addEqualsInsignificantProperty(beanClass, propertyName);
     }
 
@@ -291,15 +377,15 @@ public class BeanTesterBuilder {
 	}
 
 	public EqualsMethodTester buildEqualsMethodTester() {
-		return EqualsMethodTester.createWithInheritedContext(createConfigurationProvider());
+		return EqualsMethodTester.createWithInheritedContext(createConfigurationProvider(), beanInformationFactory);
 	}
 
 	public HashCodeMethodTester buildHashCodeMethodTester() {
-		return HashCodeMethodTester.createWithInheritedContext(createConfigurationProvider());
+		return HashCodeMethodTester.createWithInheritedContext(createConfigurationProvider(), beanInformationFactory);
 	}
 
 	public ToStringMethodTester buildToStringMethodTester() {
-        return ToStringMethodTester.createWithInheritedContext(createConfigurationProvider());
+        return ToStringMethodTester.createWithInheritedContext(createConfigurationProvider(), beanInformationFactory);
 	}
 
     private Function<Class<?>, Configuration> createConfigurationProvider() {
@@ -61,24 +61,40 @@ public interface BeanVerifier {
 	}
 
 	/**
-	 * Verify that given beanClasses have valid bean getters/setters, equals/hashCode, and toString methods
+	 * Verify that given beanClasses have valid bean getters/setters, equals/hashCode, and toString methods.
+	 * <p>
+	 * Information about all the beanClasses is gathered in parallel first, using as many threads as the
+	 * <code>meanbean.preload.parallelism</code> system property specifies (default: the number of processors).
+	 * </p>
 	 */
 	public static void verifyBeans(Class<?>... beanClasses) {
-		for (Class<?> beanClass : beanClasses) {
-			try {
-				BeanVerifier.verifyBean(beanClass);
-			} catch (AssertionError | RuntimeException e) {
-				throw new AssertionError("Cannot verify bean type " + beanClass.getName(), e);
-			}
-		}
+		verifyBeans(settings -> {
+		}, beanClasses);
+	}
+
+	/**
+	 * Verify that given beanClasses have valid bean getters/setters, equals/hashCode, and toString methods, applying
+	 * the specified settings to the verification of each of them. Example:
+	 * <pre>
+	 *   BeanVerifier.verifyBeans(settings -&gt; settings.setPreloadParallelism(0), Company.class, Employee.class);
+	 * </pre>
+	 * 
+	 * @see VerifierSettings#setPreloadParallelism(int)
+	 */
+	public static void verifyBeans(Consumer<VerifierSettings> verifierSettingsEditor, Class<?>... beanClasses) {
+		new BulkBeanVerifier(verifierSettingsEditor).verify(beanClasses, 0);
 	}
 
 	/**
 	 * Verify that bean classes in given packageName have valid bean getters/setters, equals/hashCode, and toString methods
+	 * 
+	 * @see #verifyBeans(Class...)
 	 */
 	public static void verifyBeansIn(String packageName) {
+		long start = System.nanoTime();
 		Class<?>[] beanClasses = ClassPathUtils.findClassesIn(packageName);
-		verifyBeans(beanClasses);
+		new BulkBeanVerifier(settings -> {
+		}).verify(beanClasses, System.nanoTime() - start);
 	}
 
 	/**
@@ -28,6 +28,7 @@ import org.meanbean.lang.Factory;
 import org.meanbean.util.RandomValueGenerator;
 import org.meanbean.util.ServiceFactory;
 
+import java.nio.file.Path;
 import java.util.function.Consumer;
 
 import static org.meanbean.test.BeanTesterBuilder.newBeanTesterBuilderWithInheritedContext;
@@ -140,6 +141,35 @@ class BeanVerifierImpl implements BeanVerifier, VerifierSettings, VerifierSettin
 		return this;
 	}
 
+	@Override
+	public VerifierSettingsEditor setFastStringFactory(boolean fastStringFactory) {
+		builder.setFastStringFactory(fastStringFactory);
+		return this;
+	}
+
+	@Override
+	public VerifierSettingsEditor setPathFactory(Path root, boolean onDisk) {
+		builder.setPathFactory(root, onDisk);
+		return this;
+	}
+
+	@Override
+	public <T> VerifierSettingsEditor registerPooledFactory(Class<T> clazz, int poolSize, boolean background) {
+		builder.registerPooledFactory(clazz, poolSize, background);
+		return this;
+	}
+
+	@Override
+	public int getPreloadParallelism() {
+		return builder.getPreloadParallelism();
+	}
+
+	@Override
+	public VerifierSettingsEditor setPreloadParallelism(int preloadParallelism) {
+		builder.setPreloadParallelism(preloadParallelism);
+		return this;
+	}
+
 	@Override
 	public int getDefaultIterations() {
 		return builder.getDefaultIterations();
@@ -151,6 +181,18 @@ class BeanVerifierImpl implements BeanVerifier, VerifierSettings, VerifierSettin
 		return this;
 	}
 
+	@Override
+	public VerifierSettingsEditor setTestTrivialAccessorsOnce(boolean testTrivialAccessorsOnce) {
+		builder.setTestTrivialAccessorsOnce(beanClass, testTrivialAccessorsOnce);
+		return this;
+	}
+
+	@Override
+	public VerifierSettingsEditor setObjectGraphLimits(int maxDepth, int maxNodes, boolean reuseInstances) {
+		builder.setObjectGraphLimits(beanClass, maxDepth, maxNodes, reuseInstances);
+		return this;
+	}
+
 	@Override
 	public VerifierSettingsEditor addIgnoredPropertyName(String property) {
 		builder.addIgnoredPropertyName(beanClass(), property);
@@ -0,0 +1,104 @@
+/*-
+ * ​​​
+ * meanbean
+ * ⁣⁣⁣
+ * Copyright (C) 2010 - 2020 the original author or authors.
+ * ⁣⁣⁣
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * ﻿﻿﻿﻿﻿
+ */
+
+package org.meanbean.test;
+
+import org.meanbean.bean.info.BeanInformationFactory;
+import org.meanbean.bean.info.BeanInformationPreloader;
+import org.meanbean.logging.$Logger;
+import org.meanbean.logging.$LoggerFactory;
+import org.meanbean.util.ValidationHelper;
+
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+
+/**
+ * Verifies many bean types in turn, after gathering BeanInformation for all of them in parallel.
+ * 
+ * @see BeanVerifier#verifyBeans(Class...)
+ * @see BeanInformationPreloader
+ */
+final class BulkBeanVerifier {
+
+	private static final $Logger logger = $LoggerFactory.getLogger(BulkBeanVerifier.class);
+
+	/** The settings applied to the verification of each type, which also determine the preload parallelism. */
+	private final Consumer<VerifierSettings> verifierSettingsEditor;
+
+	BulkBeanVerifier(Consumer<VerifierSettings> verifierSettingsEditor) {
+		ValidationHelper.ensureExists("verifierSettingsEditor", "verify beans", verifierSettingsEditor);
+		this.verifierSettingsEditor = verifierSettingsEditor;
+	}
+
+	/**
+	 * Verify each of the specified types, failing on the first type that does not pass.
+	 * 
+	 * @param beanClasses
+	 *            The types to verify.
+	 * @param discoveryNanos
+	 *            The time already spent finding the types, for the timing summary.
+	 */
+	void verify(Class<?>[] beanClasses, long discoveryNanos) throws AssertionError {
+		long start = System.nanoTime();
+		BeanInformationPreloader.Result preloaded = preload(beanClasses);
+		long verificationStart = System.nanoTime();
+		for (Class<?> beanClass : beanClasses) {
+			try {
+				verifierFor(beanClass).verify();
+			} catch (AssertionError | RuntimeException e) {
+				throw new AssertionError("Cannot verify bean type " + beanClass.getName(), e);
+			}
+		}
+		if (logger.isDebugEnabled()) {
+			logger.debug("Verified {} bean types: discovery={}ms, preload={}ms, verification={}ms, {}",
+			        beanClasses.length, millis(discoveryNanos), millis(verificationStart - start),
+			        millis(System.nanoTime() - verificationStart), preloaded == null ? "not preloaded" : preloaded);
+		}
+	}
+
+	private BeanVerifierImpl verifierFor(Class<?> beanClass) {
+		BeanVerifierImpl verifier = new BeanVerifierImpl(beanClass);
+		verifier.withSettings(verifierSettingsEditor);
+		return verifier;
+	}
+
+	private BeanInformationPreloader.Result preload(Class<?>[] beanClasses) {
+		if (beanClasses.length < 2) {
+			return null;
+		}
+		// services are resolved per thread, so find the factory here rather than on the worker threads
+		BeanVerifierImpl settings = verifierFor(beanClasses[0]);
+		int parallelism = settings.getPreloadParallelism();
+		if (parallelism < 1) {
+			return null;
+		}
+		BeanInformationFactory beanInformationFactory = settings.getBeanInformationFactory();
+		BeanInformationPreloader.Result result =
+		        new BeanInformationPreloader(beanInformationFactory, parallelism).preload(beanClasses);
+		if (!result.getFailures().isEmpty() && logger.isDebugEnabled()) {
+			logger.debug("Failed to gather information about {}", result.getFailures().keySet());
+		}
+		return result;
+	}
+
+	private static long millis(long nanos) {
+		return TimeUnit.NANOSECONDS.toMillis(nanos);
+	}
+}
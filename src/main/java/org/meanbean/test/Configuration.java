@@ -61,6 +61,7 @@ import static java.util.EnumSet.noneOf;
  * <li>The number of times a type is tested.</li>
  * <li>Whether a property is tested or not, by specifying properties of a type that should be ignored.</li>
  * <li>The Factory that should be used when generating test data for a given property.</li>
+ * <li>The limits on the object graphs generated for nested bean properties.</li>
  * </ul>
  * <br>
  * <b>Prefer {@link BeanTesterBuilder}</b>
@@ -69,6 +70,12 @@ import static java.util.EnumSet.noneOf;
  */
 public class Configuration {
 
+	/** The default maximum number of nested bean levels that are populated in a generated object graph. */
+	public static final int DEFAULT_MAX_GRAPH_DEPTH = 8;
+
+	/** The default maximum number of beans created for a single generated object graph. */
+	public static final int DEFAULT_MAX_GRAPH_NODES = 1000;
+
 	/** The number of times a type should be tested. This will be null if it has not been overriden. */
 	private Integer iterations;
 
@@ -84,6 +91,18 @@ public class Configuration {
 	private List<String> equalsInsignificantProperties = new ArrayList<>();
 	
 	private Set<Warning> suppressedWarnings = EnumSet.noneOf(Warning.class);
+
+	/** Whether properties with plain field accessors should be tested in the first iteration only. */
+	private boolean testTrivialAccessorsOnce;
+
+	/** The maximum number of nested bean levels that are populated in a generated object graph. */
+	private int maxGraphDepth = DEFAULT_MAX_GRAPH_DEPTH;
+
+	/** The maximum number of beans created for a single generated object graph. */
+	private int maxGraphNodes = DEFAULT_MAX_GRAPH_NODES;
+
+	/** Whether a generated object graph reuses the first bean created of each type. */
+	private boolean reuseGraphInstances;
 	
 	/**
      * Construct a new Configuration.
@@ -170,6 +189,69 @@ public class Configuration {
         suppressedWarnings.add(warning);
     }
 
+	/**
+	 * Should properties whose getter and setter merely read and write the same field be tested in the first iteration
+	 * only, leaving the remaining iterations to properties with non-trivial accessors?
+	 * 
+	 * @return <code>true</code> if trivial accessors are tested once; <code>false</code> if every property is tested in
+	 *         every iteration.
+	 * 
+	 * @see org.meanbean.bean.util.TrivialAccessorDetector
+	 */
+	public boolean isTestTrivialAccessorsOnce() {
+		return testTrivialAccessorsOnce;
+	}
+
+	void setTestTrivialAccessorsOnce(boolean testTrivialAccessorsOnce) {
+		this.testTrivialAccessorsOnce = testTrivialAccessorsOnce;
+	}
+
+	/**
+	 * Get the maximum number of nested bean levels that are populated when generating a bean for a property. Beans
+	 * deeper than this are created but left unpopulated. The bean directly assigned to a property is at level 1.
+	 * 
+	 * @return The maximum depth of generated object graphs.
+	 * 
+	 * @see org.meanbean.factories.beans.PopulatedBeanFactory
+	 */
+	public int getMaxGraphDepth() {
+		return maxGraphDepth;
+	}
+
+	void setMaxGraphDepth(int maxGraphDepth) {
+		ValidationHelper.ensure(maxGraphDepth >= 1, "Max graph depth must be at least 1.");
+		this.maxGraphDepth = maxGraphDepth;
+	}
+
+	/**
+	 * Get the maximum number of beans created when generating a bean for a property, counting the bean itself and all
+	 * nested beans. Once it is reached, further nested beans are created but left unpopulated.
+	 * 
+	 * @return The maximum number of nodes in generated object graphs.
+	 */
+	public int getMaxGraphNodes() {
+		return maxGraphNodes;
+	}
+
+	void setMaxGraphNodes(int maxGraphNodes) {
+		ValidationHelper.ensure(maxGraphNodes >= 1, "Max graph nodes must be at least 1.");
+		this.maxGraphNodes = maxGraphNodes;
+	}
+
+	/**
+	 * Should a generated object graph reuse the first bean created of each type for later properties of that type,
+	 * rather than creating a new one? This keeps graphs of mutually referencing types small.
+	 * 
+	 * @return <code>true</code> if beans are reused within a generated object graph; <code>false</code> otherwise.
+	 */
+	public boolean isReuseGraphInstances() {
+		return reuseGraphInstances;
+	}
+
+	void setReuseGraphInstances(boolean reuseGraphInstances) {
+		this.reuseGraphInstances = reuseGraphInstances;
+	}
+
 	/**
 	 * <p>
 	 * Does the specified property have an override Factory?
@@ -256,7 +338,11 @@ public class Configuration {
 		str.append("Configuration[");
 		str.append("iterations=").append(iterations).append(",");
 		str.append("ignoredProperties=").append(ignoredProperties).append(",");
-		str.append("overrideFactories=").append(overrideFactories);
+		str.append("overrideFactories=").append(overrideFactories).append(",");
+		str.append("testTrivialAccessorsOnce=").append(testTrivialAccessorsOnce).append(",");
+		str.append("maxGraphDepth=").append(maxGraphDepth).append(",");
+		str.append("maxGraphNodes=").append(maxGraphNodes).append(",");
+		str.append("reuseGraphInstances=").append(reuseGraphInstances);
 		str.append("]");
         return str.toString();
     }
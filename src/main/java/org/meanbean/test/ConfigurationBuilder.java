@@ -55,6 +55,14 @@ public class ConfigurationBuilder {
 	private final Map<String, Factory<?>> overrideFactories = new ConcurrentHashMap<>();
 
     private Set<Warning> suppressedWarnings = EnumSet.noneOf(Warning.class);
+
+	private boolean testTrivialAccessorsOnce;
+
+	private int maxGraphDepth = Configuration.DEFAULT_MAX_GRAPH_DEPTH;
+
+	private int maxGraphNodes = Configuration.DEFAULT_MAX_GRAPH_NODES;
+
+	private boolean reuseGraphInstances;
     
 	/**
 	 * Construct a new Configuration Builder.
@@ -119,14 +127,53 @@ public class ConfigurationBuilder {
 		return this;
 	}
 
+	/**
+	 * Test properties whose getter and setter merely read and write the same field in the first iteration only.
+	 */
+	public ConfigurationBuilder testTrivialAccessorsOnce(boolean testTrivialAccessorsOnce) {
+		this.testTrivialAccessorsOnce = testTrivialAccessorsOnce;
+		return this;
+	}
+
+	/**
+	 * Limit the object graphs generated for nested bean properties.
+	 * 
+	 * @param maxDepth
+	 *            The maximum number of nested bean levels that are populated. Must be at least 1.
+	 * @param maxNodes
+	 *            The maximum number of beans created for one generated graph. Must be at least 1.
+	 * @param reuseInstances
+	 *            Whether the first bean created of each type is reused for later properties of that type within the
+	 *            same graph.
+	 * 
+	 * @throws IllegalArgumentException
+	 *             If either limit is less than 1.
+	 * 
+	 * @return A Configuration Builder.
+	 */
+	public ConfigurationBuilder objectGraphLimits(int maxDepth, int maxNodes, boolean reuseInstances)
+	        throws IllegalArgumentException {
+		ValidationHelper.ensure(maxDepth >= 1, "Max graph depth must be at least 1.");
+		ValidationHelper.ensure(maxNodes >= 1, "Max graph nodes must be at least 1.");
+		this.maxGraphDepth = maxDepth;
+		this.maxGraphNodes = maxNodes;
+		this.reuseGraphInstances = reuseInstances;
+		return this;
+	}
+
 	/**
      * Build a Configuration.
      * 
      * @return A Configuration object.
      */
     public Configuration build() {
-        return new Configuration(iterations, unmodifiableSet(ignoredProperties), unmodifiableMap(overrideFactories),
-                unmodifiableSet(suppressedWarnings));
+        Configuration configuration = new Configuration(iterations, unmodifiableSet(ignoredProperties),
+                unmodifiableMap(overrideFactories), unmodifiableSet(suppressedWarnings));
+        configuration.setTestTrivialAccessorsOnce(testTrivialAccessorsOnce);
+        configuration.setMaxGraphDepth(maxGraphDepth);
+        configuration.setMaxGraphNodes(maxGraphNodes);
+        configuration.setReuseGraphInstances(reuseGraphInstances);
+        return configuration;
     }
 
 	/**
@@ -140,7 +187,11 @@ public class ConfigurationBuilder {
 		str.append("ConfigurationBuilder[");
 		str.append("iterations=").append(iterations).append(",");
 		str.append("ignoredProperties=").append(new TreeSet<String>(this.ignoredProperties)).append(",");
-		str.append("overrideFactories=").append(new TreeMap<String, Factory<?>>(this.overrideFactories));
+		str.append("overrideFactories=").append(new TreeMap<String, Factory<?>>(this.overrideFactories)).append(",");
+		str.append("testTrivialAccessorsOnce=").append(testTrivialAccessorsOnce).append(",");
+		str.append("maxGraphDepth=").append(maxGraphDepth).append(",");
+		str.append("maxGraphNodes=").append(maxGraphNodes).append(",");
+		str.append("reuseGraphInstances=").append(reuseGraphInstances);
 		str.append("]");
 		return str.toString();
 	}
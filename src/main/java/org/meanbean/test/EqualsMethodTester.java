@@ -163,15 +163,17 @@ public class EqualsMethodTester {
 		this.beanInformationFactory = BeanInformationFactory.getInstance();
 	}
 
-	static EqualsMethodTester createWithInheritedContext(Function<Class<?>, Configuration> configurationProvider) {
-		return new EqualsMethodTester(configurationProvider);
+	static EqualsMethodTester createWithInheritedContext(Function<Class<?>, Configuration> configurationProvider,
+			BeanInformationFactory beanInformationFactory) {
+		return new EqualsMethodTester(configurationProvider, beanInformationFactory);
 	}
 
-	private EqualsMethodTester(Function<Class<?>, Configuration> configurationProvider) {
+	private EqualsMethodTester(Function<Class<?>, Configuration> configurationProvider,
+			BeanInformationFactory beanInformationFactory) {
 		ValidationHelper.ensure(ServiceFactory.hasContext(), "context required");
         this.configurationProvider = configurationProvider;
-		this.propertySignificanceVerifier = new PropertyBasedEqualsMethodPropertySignificanceVerifier();
-		this.beanInformationFactory = BeanInformationFactory.getInstance();
+		this.propertySignificanceVerifier = new PropertyBasedEqualsMethodPropertySignificanceVerifier(beanInformationFactory);
+		this.beanInformationFactory = beanInformationFactory;
 		this.contractVerifier = new EqualsMethodContractVerifier();
 	}
 
@@ -112,19 +112,21 @@ public class HashCodeMethodTester {
 	 * Prefer {@link BeanVerifier}
 	 */
 	public HashCodeMethodTester() {
-		this(ServiceFactory::createContext, Configuration.defaultConfigurationProvider());
+		this(ServiceFactory::createContext, Configuration.defaultConfigurationProvider(), null);
 	}
 	
-	static HashCodeMethodTester createWithInheritedContext(Function<Class<?>, Configuration> configurationProvider) {
-		return new HashCodeMethodTester(ServiceFactory::createContextIfNeeded, configurationProvider);
+	static HashCodeMethodTester createWithInheritedContext(Function<Class<?>, Configuration> configurationProvider,
+			BeanInformationFactory beanInformationFactory) {
+		return new HashCodeMethodTester(ServiceFactory::createContextIfNeeded, configurationProvider, beanInformationFactory);
 	}
 
-	private HashCodeMethodTester(Consumer<HashCodeMethodTester> contextCreator, Function<Class<?>, Configuration> configurationProvider) {
+	private HashCodeMethodTester(Consumer<HashCodeMethodTester> contextCreator, Function<Class<?>, Configuration> configurationProvider,
+			BeanInformationFactory beanInformationFactory) {
 		contextCreator.accept(this);
 		randomValueGenerator = RandomValueGenerator.getInstance();
 		factoryCollection = FactoryCollection.getInstance();
 		factoryLookupStrategy = FactoryLookupStrategy.getInstance();
-		beanInformationFactory = BeanInformationFactory.getInstance();
+		this.beanInformationFactory = beanInformationFactory != null ? beanInformationFactory : BeanInformationFactory.getInstance();
 		this.configurationProvider = configurationProvider;
 	}
 
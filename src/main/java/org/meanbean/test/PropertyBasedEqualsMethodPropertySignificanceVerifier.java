@@ -116,7 +116,7 @@ import java.util.List;
 class PropertyBasedEqualsMethodPropertySignificanceVerifier implements EqualsMethodPropertySignificanceVerifier {
 
 	/** Factory used to gather information about a given bean and store it in a BeanInformation object. */
-	private final BeanInformationFactory beanInformationFactory = BeanInformationFactory.getInstance();
+	private final BeanInformationFactory beanInformationFactory;
 
 	/** Provides a means of acquiring a suitable Factory. */
 	private final FactoryLookupStrategy factoryLookupStrategy = FactoryLookupStrategy.getInstance();
@@ -129,6 +129,14 @@ class PropertyBasedEqualsMethodPropertySignificanceVerifier implements EqualsMet
 	private final ObjectPropertyEqualityConsistentAsserter insignificantAsserter =
 	        new InsignificantObjectPropertyEqualityConsistentAsserter();
 
+	PropertyBasedEqualsMethodPropertySignificanceVerifier() {
+		this(BeanInformationFactory.getInstance());
+	}
+
+	PropertyBasedEqualsMethodPropertySignificanceVerifier(BeanInformationFactory beanInformationFactory) {
+		this.beanInformationFactory = beanInformationFactory;
+	}
+
 	/**
 	 * <p>
 	 * Verify that the equals logic implemented by the type the specified factory creates is affected in the expected
@@ -362,8 +370,8 @@ class PropertyBasedEqualsMethodPropertySignificanceVerifier implements EqualsMet
 			throw new IllegalArgumentException(message);
 		}
 		try {
-			Object xOriginalValue = property.getReadMethod().invoke(originalObj);
-			Object originalVal = property.getReadMethod().invoke(modifiedObj);
+			Object xOriginalValue = property.getPropertyGetter().get(originalObj);
+			Object originalVal = property.getPropertyGetter().get(modifiedObj);
 			ValidationHelper.ensureExists("factory-created object." + propertyName, "test equals", xOriginalValue);
 			ValidationHelper.ensureExists("factory-created object." + propertyName, "test equals", originalVal);
 			if (!originalVal.equals(xOriginalValue)) {
@@ -372,7 +380,7 @@ class PropertyBasedEqualsMethodPropertySignificanceVerifier implements EqualsMet
 			}
 			Factory<?> propertyFactory = factoryLookupStrategy.getFactory(beanInformation, property, configuration);
 			Object newVal = propertyFactory.create();
-			property.getWriteMethod().invoke(modifiedObj, newVal);
+			property.getPropertySetter().set(modifiedObj, newVal);
 			if (significant) {
 				significantAsserter.assertConsistent(propertyName, originalObj, modifiedObj, originalVal, newVal);
 			} else {
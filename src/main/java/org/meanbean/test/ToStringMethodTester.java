@@ -37,21 +37,27 @@ import java.util.function.Function;
 public class ToStringMethodTester {
 
 	private final Function<Class<?>, Configuration> configurationProvider;
+
+	/** Factory used to gather information about a given bean and store it in a BeanInformation object. */
+	private final BeanInformationFactory beanInformationFactory;
 	
-	static ToStringMethodTester createWithInheritedContext(Function<Class<?>, Configuration> configurationProvider) {
-		return new ToStringMethodTester(ServiceFactory::createContextIfNeeded, configurationProvider);
+	static ToStringMethodTester createWithInheritedContext(Function<Class<?>, Configuration> configurationProvider,
+			BeanInformationFactory beanInformationFactory) {
+		return new ToStringMethodTester(ServiceFactory::createContextIfNeeded, configurationProvider, beanInformationFactory);
 	}
 	
 	/**
 	 * Prefer {@link BeanVerifier}
 	 */
 	ToStringMethodTester(Function<Class<?>, Configuration> configurationProvider) {
-		this(ServiceFactory::createContext, configurationProvider);
+		this(ServiceFactory::createContext, configurationProvider, null);
 	}
 
-	private ToStringMethodTester(Consumer<ToStringMethodTester> serviceCreator, Function<Class<?>, Configuration> configurationProvider) {
+	private ToStringMethodTester(Consumer<ToStringMethodTester> serviceCreator, Function<Class<?>, Configuration> configurationProvider,
+			BeanInformationFactory beanInformationFactory) {
 		serviceCreator.accept(this);
 		this.configurationProvider = configurationProvider;
+		this.beanInformationFactory = beanInformationFactory != null ? beanInformationFactory : BeanInformationFactory.getInstance();
 	}
 
 	/**
@@ -61,7 +67,6 @@ public class ToStringMethodTester {
         ValidationHelper.ensureExists("clazz", "test toString method", beanClass);
 
         FactoryLookupStrategy factoryLookupStrategy = FactoryLookupStrategy.getInstance();
-        BeanInformationFactory beanInformationFactory = BeanInformationFactory.getInstance();
         BeanInformation beanInformation = beanInformationFactory.create(beanClass);
         
         Configuration configuration = configurationProvider.apply(beanClass);
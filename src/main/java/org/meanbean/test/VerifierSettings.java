@@ -7,6 +7,9 @@ import org.meanbean.factories.util.FactoryLookupStrategy;
 import org.meanbean.lang.Factory;
 import org.meanbean.util.RandomValueGenerator;
 
+import java.nio.file.Path;
+import java.util.function.Consumer;
+
 /**
  * @see BeanVerifier
  * @see BeanTesterBuilder
@@ -28,6 +31,10 @@ public interface VerifierSettings {
 
 	BeanInformationFactory getBeanInformationFactory();
 
+	/**
+	 * Set the factory used to gather information about beans under test. For example,
+	 * {@link org.meanbean.bean.info.MethodScanningBeanInformationFactory} avoids java.beans.Introspector.
+	 */
 	VerifierSettings setBeanInformationFactory(BeanInformationFactory beanInformationFactory);
 
 	/**
@@ -40,6 +47,33 @@ public interface VerifierSettings {
 	 */
 	<T> VerifierSettings registerTypeHierarchyFactory(Class<T> baseType, Factory<T> factory);
 
+	/**
+	 * Create String test values with a FastStringFactory, which writes distinct random Strings through a reused buffer,
+	 * instead of the default StringFactory.
+	 */
+	VerifierSettings setFastStringFactory(boolean fastStringFactory);
+
+	/**
+	 * Create Path and File test values as children of root. By default they are generated purely in memory; if onDisk
+	 * is true, each one is reserved by creating and deleting a temporary file in root instead.
+	 */
+	VerifierSettings setPathFactory(Path root, boolean onDisk);
+
+	/**
+	 * Hand out values of the specified type from a ring buffer of poolSize distinct values, pre-generated by the
+	 * Factory currently registered for the type (or, for beans without one, a populated bean factory). Suits types whose
+	 * values are immutable and expensive to create. Consecutive values still differ.
+	 */
+	<T> VerifierSettings registerPooledFactory(Class<T> clazz, int poolSize, boolean background);
+
+	int getPreloadParallelism();
+
+	/**
+	 * Set the number of threads that gather BeanInformation for all types up front when they are verified together
+	 * with {@link BeanVerifier#verifyBeans(Consumer, Class...)}. <code>0</code> disables preloading.
+	 */
+	VerifierSettings setPreloadParallelism(int preloadParallelism);
+
 	int getDefaultIterations();
 
 	/**
@@ -49,6 +83,20 @@ public interface VerifierSettings {
 
     VerifierSettingsEditor suppressWarning(Warning warning);
 
+	/**
+	 * Test properties whose getter and setter merely read and write the same field in the first iteration only, as
+	 * proven by inspecting their bytecode. Other properties are still tested in every iteration.
+	 */
+	VerifierSettings setTestTrivialAccessorsOnce(boolean testTrivialAccessorsOnce);
+
+	/**
+	 * Limit the object graphs generated for nested bean properties. At most maxDepth nested levels are populated and
+	 * at most maxNodes beans are created per graph; beyond that, nested beans are left unpopulated. If reuseInstances
+	 * is true, the first bean created of each type is reused within a graph, which keeps mutually referencing types
+	 * cheap.
+	 */
+	VerifierSettings setObjectGraphLimits(int maxDepth, int maxNodes, boolean reuseInstances);
+
     /**
      * Mark the specified property as one to be disregarded/ignored during testing.
      */
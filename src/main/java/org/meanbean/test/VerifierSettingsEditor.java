@@ -7,6 +7,8 @@ import org.meanbean.factories.util.FactoryLookupStrategy;
 import org.meanbean.lang.Factory;
 import org.meanbean.util.RandomValueGenerator;
 
+import java.nio.file.Path;
+
 /**
  * @see BeanVerifier
  * @see BeanTesterBuilder
@@ -40,12 +42,48 @@ public interface VerifierSettingsEditor extends VerifierSettings {
 	@Override
 	<T> VerifierSettingsEditor registerTypeHierarchyFactory(Class<T> baseType, Factory<T> factory);
 
+	/**
+	 * Create String test values with a FastStringFactory instead of the default StringFactory.
+	 */
+	@Override
+	VerifierSettingsEditor setFastStringFactory(boolean fastStringFactory);
+
+	/**
+	 * Set the number of threads that preload BeanInformation when many types are verified together.
+	 */
+	@Override
+	VerifierSettingsEditor setPreloadParallelism(int preloadParallelism);
+
+	/**
+	 * Create Path and File test values as children of root, in memory or on disk.
+	 */
+	@Override
+	VerifierSettingsEditor setPathFactory(Path root, boolean onDisk);
+
+	/**
+	 * Hand out values of the specified type from a ring buffer of poolSize distinct pre-generated values.
+	 */
+	@Override
+	<T> VerifierSettingsEditor registerPooledFactory(Class<T> clazz, int poolSize, boolean background);
+
 	/**
 	 * Set the number of times a type should be tested by default
 	 */
 	@Override
 	VerifierSettingsEditor setDefaultIterations(int iterations);
 
+	/**
+	 * Test properties whose getter and setter merely read and write the same field in the first iteration only.
+	 */
+	@Override
+	VerifierSettingsEditor setTestTrivialAccessorsOnce(boolean testTrivialAccessorsOnce);
+
+	/**
+	 * Limit the depth and size of object graphs generated for nested bean properties.
+	 */
+	@Override
+	VerifierSettingsEditor setObjectGraphLimits(int maxDepth, int maxNodes, boolean reuseInstances);
+
 	/**
 	 * Mark the specified property as one to be disregarded/ignored during testing.
 	 */
@@ -76,7 +76,7 @@ public class SideEffectDetectorImpl implements SideEffectDetector {
         Map<String, Object> values = new TreeMap<>();
         for (PropertyInformation property : readableWritableProperties) {
             try {
-                Object value = property.getReadMethod().invoke(bean);
+                Object value = property.getPropertyGetter().get(bean);
                 values.put(property.getName(), value);
             } catch (Exception e) {
                 String propertyName = property.getName();
@@ -2,38 +2,116 @@ package org.meanbean.util;
 
 import com.github.meanbeanlib.mirror.Executables;
 import com.github.meanbeanlib.mirror.SerializableLambdas.SerializableFunction1;
+import org.meanbean.bean.info.BeanInformationFactory;
+import org.meanbean.bean.info.JavaBeanInformationFactory;
+import org.meanbean.bean.info.PropertyInformation;
 
-import java.beans.BeanInfo;
-import java.beans.Introspector;
-import java.beans.PropertyDescriptor;
 import java.lang.reflect.Method;
 import java.util.Arrays;
-import java.util.stream.Stream;
+import java.util.Collection;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicReference;
 
 public class PropertyNameFinder {
 
+    /**
+     * The getter each lambda class refers to. A method reference compiles to one lambda class per call site, so the
+     * SerializedLambda only has to be read once per call site.
+     */
+    private static final ClassValue<AtomicReference<Method>> GETTERS = new ClassValue<AtomicReference<Method>>() {
+        @Override
+        protected AtomicReference<Method> computeValue(Class<?> lambdaClass) {
+            return new AtomicReference<>();
+        }
+    };
+
+    /** Property names already found for each bean class, keyed by getter. */
+    private static final ClassValue<Map<Method, String>> PROPERTY_NAMES = new ClassValue<Map<Method, String>>() {
+        @Override
+        protected Map<Method, String> computeValue(Class<?> beanClass) {
+            return new ConcurrentHashMap<>();
+        }
+    };
+
     public static <T, S> String findPropertyName(Class<T> beanClass, SerializableFunction1<T, S> beanGetter) {
-        Method method = Executables.findGetter(beanGetter);
+        return findPropertyName(new JavaBeanInformationFactory(), beanClass, beanGetter);
+    }
+
+    /**
+     * Find the name of the property read by the specified getter, using the specified factory to gather information
+     * about the bean. Results are remembered per bean class and getter.
+     */
+    public static <T, S> String findPropertyName(BeanInformationFactory beanInformationFactory, Class<T> beanClass,
+            SerializableFunction1<T, S> beanGetter) {
+        Method method = findGetter(beanGetter);
+        Map<Method, String> propertyNames = PROPERTY_NAMES.get(beanClass);
+        String propertyName = propertyNames.get(method);
+        if (propertyName == null) {
+            propertyName = findPropertyName(readProperties(beanInformationFactory, beanClass), method);
+            propertyNames.put(method, propertyName);
+        }
+        return propertyName;
+    }
+
+    @SafeVarargs
+    public static <T, S> String[] findPropertyNames(Class<T> beanClass, SerializableFunction1<T, S>... beanGetters) {
+        return findPropertyNames(new JavaBeanInformationFactory(), beanClass, beanGetters);
+    }
+
+    /**
+     * Find the names of the properties read by the specified getters, gathering information about the bean at most
+     * once.
+     */
+    @SafeVarargs
+    public static <T, S> String[] findPropertyNames(BeanInformationFactory beanInformationFactory, Class<T> beanClass,
+            SerializableFunction1<T, S>... beanGetters) {
+        Map<Method, String> propertyNames = PROPERTY_NAMES.get(beanClass);
+        Collection<PropertyInformation> properties = null;
+        String[] names = new String[beanGetters.length];
+        for (int idx = 0; idx < beanGetters.length; idx++) {
+            Method method = findGetter(beanGetters[idx]);
+            String propertyName = propertyNames.get(method);
+            if (propertyName == null) {
+                if (properties == null) {
+                    properties = readProperties(beanInformationFactory, beanClass);
+                }
+                propertyName = findPropertyName(properties, method);
+                propertyNames.put(method, propertyName);
+            }
+            names[idx] = propertyName;
+        }
+        return names;
+    }
+
+    private static Method findGetter(SerializableFunction1<?, ?> beanGetter) {
+        AtomicReference<Method> getter = GETTERS.get(beanGetter.getClass());
+        Method method = getter.get();
+        if (method == null) {
+            method = Executables.findGetter(beanGetter);
+            getter.set(method);
+        }
+        return method;
+    }
+
+    private static Collection<PropertyInformation> readProperties(BeanInformationFactory beanInformationFactory,
+            Class<?> beanClass) {
         try {
-            BeanInfo beanInfo = Introspector.getBeanInfo(beanClass);
-            PropertyDescriptor property = Stream.of(beanInfo.getPropertyDescriptors())
-                    .filter(pd -> methodsEqual(method, pd.getReadMethod()))
-                    .findFirst()
-                    .orElseThrow(() -> new IllegalArgumentException("Invalid bean getter method:" + method));
-            return property.getName();
+            return beanInformationFactory.create(beanClass).getProperties();
         } catch (Exception e) {
             if (e instanceof IllegalArgumentException) {
                 throw (IllegalArgumentException) e;
             }
-            throw new IllegalArgumentException("Invalid bean getter method: " + method, e);
+            throw new IllegalArgumentException("Invalid bean class: " + beanClass, e);
         }
     }
 
-    @SafeVarargs
-    public static <T, S> String[] findPropertyNames(Class<T> beanClass, SerializableFunction1<T, S>... beanGetters) {
-        return Stream.of(beanGetters)
-                .map(beanGetter -> PropertyNameFinder.findPropertyName(beanClass, beanGetter))
-                .toArray(String[]::new);
+    private static String findPropertyName(Collection<PropertyInformation> properties, Method method) {
+        return properties.stream()
+                .filter(pi -> methodsEqual(method, pi.getReadMethod()))
+                .findFirst()
+                .orElseThrow(() -> new IllegalArgumentException("Invalid bean getter method:" + method))
+                .getName();
     }
 
     private static boolean methodsEqual(Method left, Method right) {
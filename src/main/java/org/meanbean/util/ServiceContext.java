@@ -0,0 +1,95 @@
+/*-
+ * ​​​
+ * meanbean
+ * ⁣⁣⁣
+ * Copyright (C) 2010 - 2020 the original author or authors.
+ * ⁣⁣⁣
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * ﻿﻿﻿﻿﻿
+ */
+
+package org.meanbean.util;
+
+import java.lang.ref.WeakReference;
+import java.util.Map;
+
+/**
+ * Immutable handle on the services resolved for one context key, as created by
+ * {@link ServiceFactory#createContext(Object)}. The handle is held by a thread while the context is current, so that
+ * services are found without any lock, and can be captured with {@link ServiceFactory#currentContext()} and handed to
+ * other threads explicitly.
+ * 
+ * Like the context itself, the key is only weakly held.
+ */
+public final class ServiceContext {
+
+	/** The key the context was created for. */
+	private final WeakReference<Object> key;
+
+	/** The ServiceFactories loaded in this context, keyed by service type name. */
+	private final Map<String, Object> services;
+
+	/** The generation of the context registry when this handle was resolved. */
+	private final int generation;
+
+	/** The RandomValueGenerator of this context, remembered once first requested. */
+	private volatile RandomValueGenerator randomValueGenerator;
+
+	ServiceContext(Object key, Map<String, Object> services, int generation) {
+		this.key = new WeakReference<>(key);
+		this.services = services;
+		this.generation = generation;
+	}
+
+	/**
+	 * Wrap the specified task so that it runs in this context, whichever thread runs it.
+	 * 
+	 * @param task
+	 *            The task to run.
+	 * 
+	 * @return A task that makes this context current while running the specified task.
+	 */
+	public Runnable wrap(Runnable task) {
+		ValidationHelper.ensureExists("task", "wrap task in service context", task);
+		return ServiceFactory.withContext(this, task);
+	}
+
+	/**
+	 * Is the key this context was created for still reachable?
+	 * 
+	 * @return <code>true</code> if the context can still be used.
+	 */
+	public boolean isAvailable() {
+		return key.get() != null;
+	}
+
+	Object getKey() {
+		return key.get();
+	}
+
+	Map<String, Object> getServices() {
+		return services;
+	}
+
+	int getGeneration() {
+		return generation;
+	}
+
+	RandomValueGenerator getRandomValueGenerator() {
+		return randomValueGenerator;
+	}
+
+	void setRandomValueGenerator(RandomValueGenerator randomValueGenerator) {
+		this.randomValueGenerator = randomValueGenerator;
+	}
+}
@@ -20,7 +20,6 @@
 
 package org.meanbean.util;
 
-import java.lang.ref.WeakReference;
 import java.lang.reflect.Method;
 import java.util.Collections;
 import java.util.Comparator;
@@ -40,8 +39,21 @@ public class ServiceFactory<T> {
 
 	private final List<T> services;
 
+	/**
+	 * Get the ServiceFactory for the specified definition in the current context. Once loaded, a ServiceFactory is
+	 * returned without taking any lock; only loading is synchronized.
+	 */
 	@SuppressWarnings("unchecked")
-	static synchronized <T> ServiceFactory<T> getInstance(ServiceDefinition<T> definition) {
+	static <T> ServiceFactory<T> getInstance(ServiceDefinition<T> definition) {
+		Object serviceFactory = serviceContextMap.getContextMap().get(definition.getServiceType().getName());
+		if (serviceFactory != null) {
+			return (ServiceFactory<T>) serviceFactory;
+		}
+		return load(definition);
+	}
+
+	@SuppressWarnings("unchecked")
+	private static synchronized <T> ServiceFactory<T> load(ServiceDefinition<T> definition) {
 		String inprogressKey = "Load of " + definition.getServiceType().getName() + " already in progress";
 
 		Map<String, Object> contextMap = serviceContextMap.getContextMap();
@@ -69,6 +81,56 @@ public class ServiceFactory<T> {
 		return null;
 	}
 	
+	/**
+	 * Wrap the specified task so that it runs in the service context of the calling thread, whichever thread runs it.
+	 * The context is still only weakly held, so the task must not outlive the key that created it.
+	 */
+	public static Runnable withCurrentContext(Runnable task) {
+		return serviceContextMap.withContext(serviceContextMap.currentContext.get(), task);
+	}
+
+	/**
+	 * Capture the service context of the calling thread, so that it can be handed to other threads explicitly.
+	 * 
+	 * @return The current ServiceContext.
+	 * 
+	 * @throws NullPointerException
+	 *             If no context has been created on this thread.
+	 */
+	public static ServiceContext currentContext() {
+		ServiceContext context = serviceContextMap.currentContext.get();
+		Objects.requireNonNull(context, "context key not set");
+		return context;
+	}
+
+	/**
+	 * Get the RandomValueGenerator of the service context current on the calling thread. The generator is remembered
+	 * by the context, so that code drawing many random values does not look it up for each one.
+	 * 
+	 * @return The RandomValueGenerator of the current context, or <code>null</code> if no context is current.
+	 */
+	public static RandomValueGenerator currentRandomValueGenerator() {
+		ServiceContext context = serviceContextMap.currentContext.get();
+		if (context == null) {
+			return null;
+		}
+		RandomValueGenerator randomValueGenerator = context.getRandomValueGenerator();
+		if (randomValueGenerator != null && context.getGeneration() == serviceContextMap.generation) {
+			return randomValueGenerator;
+		}
+		if (context.getKey() == null) {
+			return null;
+		}
+		randomValueGenerator = RandomValueGenerator.getInstance();
+		// a stale context was replaced on this thread by the lookup, so remember the generator on the new one
+		serviceContextMap.currentContext.get().setRandomValueGenerator(randomValueGenerator);
+		return randomValueGenerator;
+	}
+
+	static Runnable withContext(ServiceContext context, Runnable task) {
+		return serviceContextMap.withContext(context, task);
+	}
+
 	public static boolean hasContext() {
 		return serviceContextMap.hasContext();
 		//ServiceContextMap.currentKey.get() != null;
@@ -120,35 +182,42 @@ public class ServiceFactory<T> {
 
 	private static class ServiceContextMap {
 
-		private static final ThreadLocal<WeakReference<Object>> currentKey = new ThreadLocal<>();
+		private static final ThreadLocal<ServiceContext> currentContext = new ThreadLocal<>();
 		
 		private final Map<Object, Map<String, Object>> contextMapByKeys = new WeakHashMap<>();
 		
 		private final Set<Class<?>> keyTypes = Collections.newSetFromMap(new ConcurrentHashMap<>());
 
-		public synchronized Map<String, Object> getContextMap() {
-			WeakReference<Object> ref = currentKey.get();
-			Objects.requireNonNull(ref, "context key not set");
+		/** Incremented by clear(), so that contexts captured before it are resolved again. */
+		private volatile int generation;
 
-			Object key = ref.get();
+		public Map<String, Object> getContextMap() {
+			ServiceContext context = currentContext.get();
+			Objects.requireNonNull(context, "context key not set");
+
+			Object key = context.getKey();
 			Objects.requireNonNull(key, "context key not available");
-			return contextMapByKeys.computeIfAbsent(key, any -> new ConcurrentHashMap<>());
+			if (context.getGeneration() == generation) {
+				return context.getServices();
+			}
+			return resolve(key).getServices();
 		}
 
 		public boolean hasContext() {
-			WeakReference<Object> ref = currentKey.get();
-			return ref != null && ref.get() != null;
+			ServiceContext context = currentContext.get();
+			return context != null && context.getKey() != null;
 		}
 
 		public synchronized void clear() {
+			generation++;
 			contextMapByKeys.clear();
 			keyTypes.clear();
-			currentKey.remove();
+			currentContext.remove();
 		}
 
 		public void createContext(Object key) {
 			verifyIdentityEquals(key);
-			currentKey.set(new WeakReference<>(key));
+			resolve(key);
 		}
 
 		public void createContextIfNeeded(Object key) {
@@ -157,6 +226,29 @@ public class ServiceFactory<T> {
 			}
 		}
 
+		private synchronized ServiceContext resolve(Object key) {
+			Map<String, Object> services = contextMapByKeys.computeIfAbsent(key, any -> new ConcurrentHashMap<>());
+			ServiceContext context = new ServiceContext(key, services, generation);
+			currentContext.set(context);
+			return context;
+		}
+
+		public Runnable withContext(ServiceContext context, Runnable task) {
+			return () -> {
+				ServiceContext previous = currentContext.get();
+				currentContext.set(context);
+				try {
+					task.run();
+				} finally {
+					if (previous == null) {
+						currentContext.remove();
+					} else {
+						currentContext.set(previous);
+					}
+				}
+			};
+		}
+
 		private void verifyIdentityEquals(Object obj) {
 			if (keyTypes.contains(obj.getClass())) {
 				return;
@@ -0,0 +1,98 @@
+/*-
+ * ​​​
+ * meanbean
+ * ⁣⁣⁣
+ * Copyright (C) 2010 - 2020 the original author or authors.
+ * ⁣⁣⁣
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * ﻿﻿﻿﻿﻿
+ */
+
+package org.meanbean.bean.info;
+
+import org.junit.Test;
+import org.meanbean.test.beans.Bean;
+import org.meanbean.test.beans.ComplexBean;
+import org.meanbean.util.ClassPathUtils;
+
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+public class BeanInformationPreloaderTest {
+
+	private final CachingBeanInformationFactory cache = new CachingBeanInformationFactory(JavaBeanInformation::new);
+
+	@Test
+	public void shouldFillCacheOfFactory() throws Exception {
+		// Given
+		Class<?>[] beanClasses = ClassPathUtils.findClassesIn("org.meanbean.test.beans");
+
+		// When
+		BeanInformationPreloader.Result result = new BeanInformationPreloader(cache, 4).preload(beanClasses);
+
+		// Then
+		assertThat(result.getTypeCount()).isEqualTo(beanClasses.length);
+		assertThat(result.getFailures()).isEmpty();
+		assertThat(result.getParallelism()).isEqualTo(4);
+		assertThat(cache.getMissCount()).isEqualTo(beanClasses.length);
+		for (Class<?> beanClass : beanClasses) {
+			cache.create(beanClass);
+		}
+		assertThat(cache.getMissCount()).isEqualTo(beanClasses.length);
+	}
+
+	@Test
+	public void shouldCollectFailuresPerClass() throws Exception {
+		// Given
+		BeanInformationFactory factory = beanClass -> {
+			if (beanClass == Bean.class) {
+				throw new BeanInformationException("bad bean");
+			}
+			return cache.create(beanClass);
+		};
+
+		// When
+		BeanInformationPreloader.Result result =
+		        new BeanInformationPreloader(factory, 2).preload(ComplexBean.class, Bean.class, String.class);
+
+		// Then
+		assertThat(result.getFailures()).containsOnlyKeys(Bean.class);
+		assertThat(result.getFailures().get(Bean.class)).hasMessage("bad bean");
+		assertThat(cache.getMissCount()).isEqualTo(2);
+	}
+
+	@Test
+	public void shouldUseCallingThreadWithParallelismOfOne() throws Exception {
+		// Given
+		Set<Thread> threads = ConcurrentHashMap.newKeySet();
+		BeanInformationFactory factory = beanClass -> {
+			threads.add(Thread.currentThread());
+			return cache.create(beanClass);
+		};
+
+		// When
+		new BeanInformationPreloader(factory, 1).preload(ComplexBean.class, Bean.class);
+
+		// Then
+		assertThat(threads).containsExactly(Thread.currentThread());
+	}
+
+	@Test
+	public void shouldPreventIllegalParallelism() throws Exception {
+		assertThatThrownBy(() -> new BeanInformationPreloader(cache, 0))
+		        .isInstanceOf(IllegalArgumentException.class);
+	}
+}
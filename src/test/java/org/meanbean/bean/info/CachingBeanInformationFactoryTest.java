@@ -0,0 +1,126 @@
+/*-
+ * ​​​
+ * meanbean
+ * ⁣⁣⁣
+ * Copyright (C) 2010 - 2020 the original author or authors.
+ * ⁣⁣⁣
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * ﻿﻿﻿﻿﻿
+ */
+
+package org.meanbean.bean.info;
+
+import org.junit.Test;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+public class CachingBeanInformationFactoryTest {
+
+	static class Bean {
+		private String name;
+
+		public String getName() {
+			return name;
+		}
+
+		public void setName(String name) {
+			this.name = name;
+		}
+	}
+
+	static class OtherBean {
+	}
+
+	private final AtomicInteger creations = new AtomicInteger();
+
+	private final CachingBeanInformationFactory factory = new CachingBeanInformationFactory(beanClass -> {
+		creations.incrementAndGet();
+		return new JavaBeanInformation(beanClass);
+	});
+
+	@Test
+	public void shouldCreateBeanInformationOncePerClass() throws Exception {
+		// When
+		BeanInformation first = factory.create(Bean.class);
+		BeanInformation second = factory.create(Bean.class);
+		factory.create(OtherBean.class);
+		// Then
+		assertThat(second).isSameAs(first);
+		assertThat(creations.get()).isEqualTo(2);
+	}
+
+	@Test
+	public void shouldReportHitAndMissStatistics() throws Exception {
+		// Given
+		factory.create(Bean.class);
+		factory.create(Bean.class);
+		factory.create(Bean.class);
+		factory.create(OtherBean.class);
+		// Then
+		assertThat(factory.getRequestCount()).isEqualTo(4);
+		assertThat(factory.getMissCount()).isEqualTo(2);
+		assertThat(factory.getHitCount()).isEqualTo(2);
+		assertThat(factory.toString()).contains("requests=4", "hits=2", "misses=2");
+	}
+
+	@Test
+	public void shouldRecreateBeanInformationAfterEviction() throws Exception {
+		// Given
+		BeanInformation first = factory.create(Bean.class);
+		// When
+		factory.evict(Bean.class);
+		BeanInformation second = factory.create(Bean.class);
+		// Then
+		assertThat(second).isNotSameAs(first);
+		assertThat(creations.get()).isEqualTo(2);
+	}
+
+	@Test
+	public void shouldNotCacheFailures() throws Exception {
+		// Given
+		AtomicInteger attempts = new AtomicInteger();
+		CachingBeanInformationFactory failingFactory = new CachingBeanInformationFactory(beanClass -> {
+			attempts.incrementAndGet();
+			throw new BeanInformationException("failed");
+		});
+		// When
+		assertThatThrownBy(() -> failingFactory.create(Bean.class)).isInstanceOf(BeanInformationException.class);
+		assertThatThrownBy(() -> failingFactory.create(Bean.class)).isInstanceOf(BeanInformationException.class);
+		// Then
+		assertThat(attempts.get()).isEqualTo(2);
+	}
+
+	@Test
+	public void shouldExposeImmutableProperties() throws Exception {
+		// Given
+		BeanInformation beanInformation = factory.create(Bean.class);
+		// Then
+		assertThatThrownBy(() -> beanInformation.getProperties().clear())
+				.isInstanceOf(UnsupportedOperationException.class);
+		assertThatThrownBy(() -> beanInformation.getPropertyNames().clear())
+				.isInstanceOf(UnsupportedOperationException.class);
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void shouldPreventNullBeanClass() throws Exception {
+		factory.create(null);
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void shouldPreventNullDelegate() throws Exception {
+		new CachingBeanInformationFactory(null);
+	}
+}
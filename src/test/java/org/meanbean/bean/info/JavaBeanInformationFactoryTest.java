@@ -21,6 +21,8 @@
 package org.meanbean.bean.info;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
 
 import org.junit.Test;
 
@@ -37,6 +39,18 @@ public class JavaBeanInformationFactoryTest {
         assertEquals("Incorrect BeanInformation.", beanInformation.getBeanClass(), inputBeanClass);
     }
 
+    @Test
+    public void shouldShareBeanInformationBetweenFactories() throws Exception {
+        // Given
+        long misses = JavaBeanInformationFactory.getCache().getMissCount();
+        // When
+        BeanInformation first = new JavaBeanInformationFactory().create(PropertyInformationBean.class);
+        BeanInformation second = new JavaBeanInformationFactory().create(PropertyInformationBean.class);
+        // Then
+        assertSame("BeanInformation should be shared.", first, second);
+        assertTrue("Expected at most one miss.", JavaBeanInformationFactory.getCache().getMissCount() - misses <= 1);
+    }
+
     @Test(expected = IllegalArgumentException.class)
     public void shouldPreventNullBeanClass() throws Exception {
         // Given
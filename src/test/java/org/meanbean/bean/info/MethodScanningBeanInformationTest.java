@@ -0,0 +1,168 @@
+/*-
+ * ​​​
+ * meanbean
+ * ⁣⁣⁣
+ * Copyright (C) 2010 - 2020 the original author or authors.
+ * ⁣⁣⁣
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * ﻿﻿﻿﻿﻿
+ */
+
+package org.meanbean.bean.info;
+
+import org.junit.Test;
+import org.meanbean.test.beans.ComplexBean;
+import org.meanbean.test.beans.FluentPropertyBean;
+import org.meanbean.util.ClassPathUtils;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Date;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class MethodScanningBeanInformationTest {
+
+	public static class NamingBean {
+		public String getURL() {
+			return null;
+		}
+
+		public void setURL(String url) {
+		}
+
+		public String getA() {
+			return null;
+		}
+
+		public void setA(String a) {
+		}
+
+		public boolean isActive() {
+			return false;
+		}
+
+		public boolean getActive() {
+			return false;
+		}
+
+		public void setActive(boolean active) {
+		}
+
+		public Boolean isBoxed() {
+			return null;
+		}
+
+		public String getMismatched() {
+			return null;
+		}
+
+		public void setMismatched(Integer mismatched) {
+		}
+
+		public void setWriteOnly(String writeOnly) {
+		}
+
+		public static String getStatic() {
+			return null;
+		}
+
+		public String getIndexed(int index) {
+			return null;
+		}
+	}
+
+	public static class Base {
+		public Object getValue() {
+			return null;
+		}
+	}
+
+	public static class CovariantBean extends Base {
+		@Override
+		public String getValue() {
+			return null;
+		}
+
+		public void setValue(String value) {
+		}
+	}
+
+	@Test
+	public void shouldFollowIntrospectorNamingRules() throws Exception {
+		// When
+		BeanInformation beanInformation = new MethodScanningBeanInformation(NamingBean.class);
+		// Then
+		assertThat(beanInformation.getPropertyNames())
+				.containsExactlyInAnyOrder("URL", "a", "active", "mismatched", "writeOnly");
+		Map<String, PropertyInformation> properties = byName(beanInformation);
+		assertThat(properties.get("active").getReadMethod().getName()).isEqualTo("isActive");
+		assertThat(properties.get("mismatched").isWritable()).isFalse();
+		assertThat(properties.get("writeOnly").isReadable()).isFalse();
+	}
+
+	@Test
+	public void shouldIgnoreBridgeMethods() throws Exception {
+		// When
+		PropertyInformation property = byName(new MethodScanningBeanInformation(CovariantBean.class)).get("value");
+		// Then
+		assertThat(property.getReadMethod().getReturnType()).isEqualTo(String.class);
+		assertThat(property.isReadableWritable()).isTrue();
+	}
+
+	@Test
+	public void shouldDiscoverFluentSetters() throws Exception {
+		// When
+		PropertyInformation property = byName(new MethodScanningBeanInformation(FluentPropertyBean.class)).get("data");
+		// Then
+		assertThat(property.isReadableWritable()).isTrue();
+	}
+
+	@Test
+	public void shouldDiscoverSamePropertiesAsJavaBeanInformation() throws Exception {
+		List<Class<?>> beanClasses = new ArrayList<>();
+		beanClasses.addAll(Arrays.asList(ClassPathUtils.findClassesIn("org.meanbean.test.beans")));
+		beanClasses.addAll(Arrays.asList(ClassPathUtils.findClassesIn("org.meanbean.test.beans.domain")));
+		beanClasses.addAll(Arrays.asList(NamingBean.class, CovariantBean.class, ComplexBean.class, Date.class,
+				String.class, Thread.class));
+		for (Class<?> beanClass : beanClasses) {
+			assertThat(describe(new MethodScanningBeanInformation(beanClass)))
+					.as(beanClass.getName())
+					.isEqualTo(describe(new JavaBeanInformation(beanClass)));
+		}
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void shouldPreventNullBeanClass() throws Exception {
+		new MethodScanningBeanInformation(null);
+	}
+
+	private static Map<String, PropertyInformation> byName(BeanInformation beanInformation) {
+		return beanInformation.getProperties().stream()
+				.collect(Collectors.toMap(PropertyInformation::getName, property -> property));
+	}
+
+	private static Map<String, String> describe(BeanInformation beanInformation) {
+		Map<String, String> description = new TreeMap<>();
+		for (PropertyInformation property : beanInformation.getProperties()) {
+			if (property.isReadable() || property.isWritable()) {
+				description.put(property.getName(), property.getReadMethod() + " / " + property.getWriteMethod());
+			}
+		}
+		return description;
+	}
+}
@@ -0,0 +1,190 @@
+/*-
+ * ​​​
+ * meanbean
+ * ⁣⁣⁣
+ * Copyright (C) 2010 - 2020 the original author or authors.
+ * ⁣⁣⁣
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * ﻿﻿﻿﻿﻿
+ */
+
+package org.meanbean.bean.info;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class PersistentBeanInformationFactoryTest {
+
+	public static class Bean {
+		private String name;
+
+		private List<Map<String, Integer>> scores;
+
+		private int[] values;
+
+		private long id;
+
+		public String getName() {
+			return name;
+		}
+
+		public void setName(String name) {
+			this.name = name;
+		}
+
+		public List<Map<String, Integer>> getScores() {
+			return scores;
+		}
+
+		public void setScores(List<Map<String, Integer>> scores) {
+			this.scores = scores;
+		}
+
+		public int[] getValues() {
+			return values;
+		}
+
+		public Bean setValues(int[] values) {
+			this.values = values;
+			return this;
+		}
+
+		public long getId() {
+			return id;
+		}
+	}
+
+	@Rule
+	public TemporaryFolder temporaryFolder = new TemporaryFolder();
+
+	@Test
+	public void shouldReadBeanInformationWrittenByAnEarlierFactory() throws Exception {
+		// Given
+		Path directory = temporaryFolder.getRoot().toPath();
+		BeanInformation introspected = new PersistentBeanInformationFactory(directory).create(Bean.class);
+		PersistentBeanInformationFactory factory = new PersistentBeanInformationFactory(directory);
+
+		// When
+		BeanInformation cached = factory.create(Bean.class);
+
+		// Then
+		assertThat(factory.getDiskHitCount()).isEqualTo(1);
+		assertThat(factory.getDiskMissCount()).isZero();
+		assertThat(cached.getBeanClass()).isEqualTo(Bean.class);
+		assertThat(cached.getPropertyNames()).containsExactlyInAnyOrderElementsOf(introspected.getPropertyNames());
+		for (PropertyInformation expected : introspected.getProperties()) {
+			PropertyInformation actual = find(cached, expected.getName());
+			assertThat(actual.getReadMethod()).isEqualTo(expected.getReadMethod());
+			assertThat(actual.getWriteMethod()).isEqualTo(expected.getWriteMethod());
+			assertThat(actual.getReadMethodReturnType()).isEqualTo(expected.getReadMethodReturnType());
+			assertThat(actual.getWriteMethodParameterType()).isEqualTo(expected.getWriteMethodParameterType());
+		}
+	}
+
+	@Test
+	public void shouldReturnSameRepresentationOnCacheHitAndMiss() throws Exception {
+		// Given
+		Path directory = temporaryFolder.getRoot().toPath();
+
+		// When
+		BeanInformation introspected = new PersistentBeanInformationFactory(directory).create(Bean.class);
+		BeanInformation cached = new PersistentBeanInformationFactory(directory).create(Bean.class);
+
+		// Then
+		assertThat(introspected).isInstanceOf(StaticBeanInformation.class);
+		assertThat(cached).isInstanceOf(StaticBeanInformation.class);
+		assertThat(introspected.getProperties()).allMatch(property -> property instanceof MethodPropertyInformation);
+		assertThat(cached.getProperties()).allMatch(property -> property instanceof MethodPropertyInformation);
+	}
+
+	@Test
+	public void shouldKeepFluentSetterOverride() throws Exception {
+		// Given
+		Path directory = temporaryFolder.getRoot().toPath();
+		new PersistentBeanInformationFactory(directory).create(Bean.class);
+
+		// When
+		PropertyInformation values = find(new PersistentBeanInformationFactory(directory).create(Bean.class), "values");
+
+		// Then
+		assertThat(values.isReadableWritable()).isTrue();
+		assertThat(values.getWriteMethod().getReturnType()).isEqualTo(Bean.class);
+	}
+
+	@Test
+	public void shouldIntrospectAgainWhenClassFileDigestDiffers() throws Exception {
+		// Given
+		Path directory = temporaryFolder.getRoot().toPath();
+		new PersistentBeanInformationFactory(directory).create(Bean.class);
+		Path entry = directory.resolve(Bean.class.getName() + ".mbi");
+		byte[] bytes = Files.readAllBytes(entry);
+		bytes[12] ^= 1; // first byte of the digest
+		Files.write(entry, bytes);
+		PersistentBeanInformationFactory factory = new PersistentBeanInformationFactory(directory);
+
+		// When
+		BeanInformation beanInformation = factory.create(Bean.class);
+
+		// Then
+		assertThat(factory.getDiskMissCount()).isEqualTo(1);
+		assertThat(beanInformation.getPropertyNames()).contains("name", "scores", "values", "id");
+		PersistentBeanInformationFactory rewritten = new PersistentBeanInformationFactory(directory);
+		rewritten.create(Bean.class);
+		assertThat(rewritten.getDiskHitCount()).isEqualTo(1);
+	}
+
+	@Test
+	public void shouldIgnoreDamagedEntry() throws Exception {
+		// Given
+		Path directory = temporaryFolder.getRoot().toPath();
+		Files.write(directory.resolve(Bean.class.getName() + ".mbi"), new byte[] { 1, 2, 3 });
+		PersistentBeanInformationFactory factory = new PersistentBeanInformationFactory(directory);
+
+		// When
+		BeanInformation beanInformation = factory.create(Bean.class);
+
+		// Then
+		assertThat(factory.getDiskMissCount()).isEqualTo(1);
+		assertThat(beanInformation.getPropertyNames()).contains("name", "scores", "values", "id");
+	}
+
+	@Test
+	public void shouldReuseBeanInformationWithinFactory() throws Exception {
+		// Given
+		PersistentBeanInformationFactory factory =
+		        new PersistentBeanInformationFactory(temporaryFolder.getRoot().toPath());
+
+		// When
+		BeanInformation first = factory.create(Bean.class);
+		BeanInformation second = factory.create(Bean.class);
+
+		// Then
+		assertThat(second).isSameAs(first);
+		assertThat(factory.getDiskMissCount()).isEqualTo(1);
+	}
+
+	private static PropertyInformation find(BeanInformation beanInformation, String name) {
+		return beanInformation.getProperties().stream()
+		        .filter(property -> property.getName().equals(name))
+		        .findFirst()
+		        .orElseThrow(AssertionError::new);
+	}
+}
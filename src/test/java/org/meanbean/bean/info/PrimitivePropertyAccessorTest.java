@@ -0,0 +1,158 @@
+/*-
+ * ​​​
+ * meanbean
+ * ⁣⁣⁣
+ * Copyright (C) 2010 - 2020 the original author or authors.
+ * ⁣⁣⁣
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * ﻿﻿﻿﻿﻿
+ */
+
+package org.meanbean.bean.info;
+
+import org.junit.Test;
+import org.meanbean.factories.basic.DoubleFactory;
+import org.meanbean.factories.basic.IntegerFactory;
+import org.meanbean.factories.basic.StringFactory;
+import org.meanbean.lang.PrimitiveFactory;
+import org.meanbean.util.SimpleRandomValueGenerator;
+
+import java.lang.reflect.InvocationTargetException;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+public class PrimitivePropertyAccessorTest {
+
+	private final BeanInformation beanInformation = new JavaBeanInformationFactory().create(PrimitiveBean.class);
+
+	@Test
+	public void shouldOnlyAccessPrimitiveProperties() {
+		assertThat(PrimitivePropertyAccessor.of(property("count"))).isNotNull();
+		assertThat(PrimitivePropertyAccessor.of(property("name"))).isNull();
+		assertThat(PrimitivePropertyAccessor.of(property("readOnly"))).isNull();
+	}
+
+	@Test
+	public void shouldOnlySupportFactoriesOfThePropertyType() {
+		PrimitivePropertyAccessor accessor = PrimitivePropertyAccessor.of(property("count"));
+
+		assertThat(accessor.supports(new IntegerFactory(new SimpleRandomValueGenerator()))).isTrue();
+		assertThat(accessor.supports(new DoubleFactory(new SimpleRandomValueGenerator()))).isFalse();
+		assertThat(accessor.supports(new StringFactory(new SimpleRandomValueGenerator()))).isFalse();
+	}
+
+	@Test
+	public void shouldWriteAndReadValue() throws Exception {
+		// Given
+		PrimitiveBean bean = new PrimitiveBean();
+		PrimitivePropertyAccessor accessor = PrimitivePropertyAccessor.of(property("count"));
+
+		// When
+		PrimitivePropertyAccessor.Mismatch mismatch = accessor.writeAndRead(bean, (PrimitiveFactory.OfInt) () -> 42);
+
+		// Then
+		assertThat(mismatch).isNull();
+		assertThat(bean.getCount()).isEqualTo(42);
+	}
+
+	@Test
+	public void shouldCompareDoublesAsDoubleEquals() throws Exception {
+		PrimitivePropertyAccessor accessor = PrimitivePropertyAccessor.of(property("ratio"));
+
+		assertThat(accessor.writeAndRead(new PrimitiveBean(), (PrimitiveFactory.OfDouble) () -> Double.NaN)).isNull();
+	}
+
+	@Test
+	public void shouldReportValueThatWasNotRetained() throws Exception {
+		// Given
+		PrimitivePropertyAccessor accessor = PrimitivePropertyAccessor.of(property("ignored"));
+
+		// When
+		PrimitivePropertyAccessor.Mismatch mismatch =
+				accessor.writeAndRead(new PrimitiveBean(), (PrimitiveFactory.OfLong) () -> 7L);
+
+		// Then
+		assertThat(mismatch.getWritten()).isEqualTo(7L);
+		assertThat(mismatch.getRead()).isEqualTo(0L);
+	}
+
+	@Test
+	public void shouldWrapExceptionsThrownByAccessors() {
+		PrimitivePropertyAccessor accessor = PrimitivePropertyAccessor.of(property("failing"));
+
+		assertThatThrownBy(() -> accessor.writeAndRead(new PrimitiveBean(), (PrimitiveFactory.OfChar) () -> 'x'))
+				.isInstanceOf(InvocationTargetException.class)
+				.hasCauseInstanceOf(IllegalStateException.class);
+	}
+
+	private PropertyInformation property(String name) {
+		return beanInformation.getProperties().stream()
+				.filter(property -> property.getName().equals(name))
+				.findFirst()
+				.orElseThrow(IllegalArgumentException::new);
+	}
+
+	public static class PrimitiveBean {
+
+		private int count;
+
+		private double ratio;
+
+		private String name;
+
+		public int getCount() {
+			return count;
+		}
+
+		public void setCount(int count) {
+			this.count = count;
+		}
+
+		public double getRatio() {
+			return ratio;
+		}
+
+		public void setRatio(double ratio) {
+			this.ratio = ratio;
+		}
+
+		public String getName() {
+			return name;
+		}
+
+		public void setName(String name) {
+			this.name = name;
+		}
+
+		public int getReadOnly() {
+			return 1;
+		}
+
+		public long getIgnored() {
+			return 0;
+		}
+
+		public void setIgnored(long ignored) {
+			// discards the value
+		}
+
+		public char getFailing() {
+			return 'a';
+		}
+
+		public void setFailing(char failing) {
+			throw new IllegalStateException("failing");
+		}
+	}
+}
@@ -0,0 +1,107 @@
+/*-
+ * ​​​
+ * meanbean
+ * ⁣⁣⁣
+ * Copyright (C) 2010 - 2020 the original author or authors.
+ * ⁣⁣⁣
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * ﻿﻿﻿﻿﻿
+ */
+
+package org.meanbean.bean.info;
+
+import java.lang.reflect.Method;
+
+/**
+ * Compares the per-invocation cost of reading and writing a property via Method.invoke against the compiled
+ * PropertyGetter and PropertySetter created by {@link PropertyAccessors}.
+ * 
+ * This is not a unit test; run it manually, e.g. from the IDE or with
+ * <code>java -cp target/classes:target/test-classes org.meanbean.bean.info.PropertyAccessorBenchmark</code>.
+ */
+public class PropertyAccessorBenchmark {
+
+	public static class Bean {
+		private String name;
+
+		private int count;
+
+		public String getName() {
+			return name;
+		}
+
+		public void setName(String name) {
+			this.name = name;
+		}
+
+		public int getCount() {
+			return count;
+		}
+
+		public void setCount(int count) {
+			this.count = count;
+		}
+	}
+
+	private static final int WARMUP_ROUNDS = 5;
+
+	private static final int MEASURED_ROUNDS = 5;
+
+	private static final int INVOCATIONS = 5_000_000;
+
+	private static Object sink;
+
+	public static void main(String[] args) throws Exception {
+		Method getName = Bean.class.getMethod("getName");
+		Method setName = Bean.class.getMethod("setName", String.class);
+		Method getCount = Bean.class.getMethod("getCount");
+		Method setCount = Bean.class.getMethod("setCount", int.class);
+
+		report("String property", PropertyAccessors.reflectiveGetter(getName), PropertyAccessors.reflectiveSetter(setName),
+		        PropertyAccessors.compileGetter(getName), PropertyAccessors.compileSetter(setName), "value");
+		report("int property", PropertyAccessors.reflectiveGetter(getCount), PropertyAccessors.reflectiveSetter(setCount),
+		        PropertyAccessors.compileGetter(getCount), PropertyAccessors.compileSetter(setCount), 42);
+	}
+
+	private static void report(String label, PropertyGetter reflectiveGetter, PropertySetter reflectiveSetter,
+	        PropertyGetter compiledGetter, PropertySetter compiledSetter, Object value) throws Exception {
+		for (int round = 0; round < WARMUP_ROUNDS; round++) {
+			measure(reflectiveGetter, reflectiveSetter, value);
+			measure(compiledGetter, compiledSetter, value);
+		}
+		double reflective = Double.MAX_VALUE;
+		double compiled = Double.MAX_VALUE;
+		for (int round = 0; round < MEASURED_ROUNDS; round++) {
+			reflective = Math.min(reflective, measure(reflectiveGetter, reflectiveSetter, value));
+			compiled = Math.min(compiled, measure(compiledGetter, compiledSetter, value));
+		}
+		System.out.printf("%-16s Method.invoke: %6.2f ns/op   compiled: %6.2f ns/op   speedup: %.1fx%n", label,
+		        reflective, compiled, reflective / compiled);
+	}
+
+	/**
+	 * @return The mean time, in nanoseconds, of one set followed by one get.
+	 */
+	private static double measure(PropertyGetter getter, PropertySetter setter, Object value) throws Exception {
+		Bean bean = new Bean();
+		Object last = null;
+		long start = System.nanoTime();
+		for (int i = 0; i < INVOCATIONS; i++) {
+			setter.set(bean, value);
+			last = getter.get(bean);
+		}
+		long elapsed = System.nanoTime() - start;
+		sink = last;
+		return (double) elapsed / INVOCATIONS;
+	}
+}
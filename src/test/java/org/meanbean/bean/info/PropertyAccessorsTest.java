@@ -0,0 +1,185 @@
+/*-
+ * ​​​
+ * meanbean
+ * ⁣⁣⁣
+ * Copyright (C) 2010 - 2020 the original author or authors.
+ * ⁣⁣⁣
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * ﻿﻿﻿﻿﻿
+ */
+
+package org.meanbean.bean.info;
+
+import org.junit.Test;
+
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+public class PropertyAccessorsTest {
+
+	public static class PublicBean {
+		private String name;
+
+		private int count;
+
+		private long total;
+
+		public String getName() {
+			return name;
+		}
+
+		public void setName(String name) {
+			this.name = name;
+		}
+
+		public int getCount() {
+			return count;
+		}
+
+		public PublicBean setCount(int count) {
+			this.count = count;
+			return this;
+		}
+
+		public long getTotal() {
+			return total;
+		}
+
+		public void setTotal(long total) {
+			this.total = total;
+		}
+
+		public String getBroken() {
+			throw new IllegalStateException("broken");
+		}
+	}
+
+	static class PackagePrivateBean {
+		private String name;
+
+		public String getName() {
+			return name;
+		}
+
+		public void setName(String name) {
+			this.name = name;
+		}
+	}
+
+	private static Method method(Class<?> type, String name, Class<?>... parameterTypes) throws Exception {
+		return type.getMethod(name, parameterTypes);
+	}
+
+	@Test
+	public void shouldReadAndWritePublicPropertiesWithSpunLambdas() throws Exception {
+		// Given
+		PublicBean bean = new PublicBean();
+		PropertyGetter getter = PropertyAccessors.compileGetter(method(PublicBean.class, "getName"));
+		PropertySetter setter = PropertyAccessors.compileSetter(method(PublicBean.class, "setName", String.class));
+		// When
+		setter.set(bean, "value");
+		// Then
+		assertThat(getter.get(bean)).isEqualTo("value");
+		assertThat(getter.getClass().getSimpleName()).isEqualTo("LambdaGetter");
+		assertThat(setter.getClass().getSimpleName()).isEqualTo("LambdaSetter");
+	}
+
+	@Test
+	public void shouldBoxAndUnboxPrimitivePropertiesAndIgnoreFluentReturnValues() throws Exception {
+		// Given
+		PublicBean bean = new PublicBean();
+		PropertyGetter getter = PropertyAccessors.compileGetter(method(PublicBean.class, "getCount"));
+		PropertySetter setter = PropertyAccessors.compileSetter(method(PublicBean.class, "setCount", int.class));
+		// When
+		setter.set(bean, 42);
+		// Then
+		assertThat(getter.get(bean)).isEqualTo(42);
+	}
+
+	@Test
+	public void shouldWidenPrimitiveArgumentsLikeMethodInvoke() throws Exception {
+		// Given
+		PublicBean bean = new PublicBean();
+		PropertySetter setter = PropertyAccessors.compileSetter(method(PublicBean.class, "setTotal", long.class));
+		// When
+		setter.set(bean, 7);
+		// Then
+		assertThat(bean.getTotal()).isEqualTo(7L);
+	}
+
+	@Test
+	public void shouldUseMethodHandlesForAccessibleNonPublicTypes() throws Exception {
+		// Given
+		PackagePrivateBean bean = new PackagePrivateBean();
+		Method readMethod = method(PackagePrivateBean.class, "getName");
+		Method writeMethod = method(PackagePrivateBean.class, "setName", String.class);
+		readMethod.setAccessible(true);
+		writeMethod.setAccessible(true);
+		PropertyGetter getter = PropertyAccessors.compileGetter(readMethod);
+		PropertySetter setter = PropertyAccessors.compileSetter(writeMethod);
+		// When
+		setter.set(bean, "value");
+		// Then
+		assertThat(getter.get(bean)).isEqualTo("value");
+		assertThat(getter.getClass().getSimpleName()).isEqualTo("HandleGetter");
+		assertThat(setter.getClass().getSimpleName()).isEqualTo("HandleSetter");
+	}
+
+	@Test
+	public void shouldWrapExceptionsThrownByAccessorsInInvocationTargetException() throws Exception {
+		// Given
+		PropertyGetter getter = PropertyAccessors.compileGetter(method(PublicBean.class, "getBroken"));
+		// Then
+		assertThatThrownBy(() -> getter.get(new PublicBean()))
+				.isInstanceOf(InvocationTargetException.class)
+				.hasCauseInstanceOf(IllegalStateException.class);
+	}
+
+	@Test
+	public void shouldRejectMismatchedArgumentsWithIllegalArgumentException() throws Exception {
+		// Given
+		PropertyGetter getter = PropertyAccessors.compileGetter(method(PublicBean.class, "getName"));
+		PropertySetter setter = PropertyAccessors.compileSetter(method(PublicBean.class, "setName", String.class));
+		PropertySetter primitiveSetter = PropertyAccessors.compileSetter(method(PublicBean.class, "setCount", int.class));
+		// Then
+		assertThatThrownBy(() -> getter.get("not a bean")).isInstanceOf(IllegalArgumentException.class);
+		assertThatThrownBy(() -> setter.set(new PublicBean(), 1)).isInstanceOf(IllegalArgumentException.class);
+		assertThatThrownBy(() -> primitiveSetter.set(new PublicBean(), null)).isInstanceOf(IllegalArgumentException.class);
+	}
+
+	@Test
+	public void shouldReturnNullForMissingMethods() throws Exception {
+		assertThat(PropertyAccessors.compileGetter(null)).isNull();
+		assertThat(PropertyAccessors.compileSetter(null)).isNull();
+		assertThat(PropertyAccessors.reflectiveGetter(null)).isNull();
+		assertThat(PropertyAccessors.reflectiveSetter(null)).isNull();
+	}
+
+	@Test
+	public void shouldExposeCompiledAccessorsFromJavaBeanInformation() throws Exception {
+		// Given
+		PropertyInformation property = new JavaBeanInformation(PublicBean.class).getProperties().stream()
+				.filter(p -> p.getName().equals("name"))
+				.findFirst()
+				.get();
+		PublicBean bean = new PublicBean();
+		// When
+		property.getPropertySetter().set(bean, "value");
+		// Then
+		assertThat(property.getPropertyGetter().get(bean)).isEqualTo("value");
+		assertThat(property.getPropertyGetter()).isSameAs(property.getPropertyGetter());
+	}
+}
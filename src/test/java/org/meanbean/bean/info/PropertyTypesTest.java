@@ -0,0 +1,126 @@
+/*-
+ * ​​​
+ * meanbean
+ * ⁣⁣⁣
+ * Copyright (C) 2010 - 2020 the original author or authors.
+ * ⁣⁣⁣
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * ﻿﻿﻿﻿﻿
+ */
+
+package org.meanbean.bean.info;
+
+import org.junit.Test;
+import org.meanbean.util.Types;
+
+import java.lang.reflect.Type;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class PropertyTypesTest {
+
+	public static class BaseEntity<ID> {
+		private ID id;
+		private List<ID> related;
+		private ID[] history;
+
+		public ID getId() {
+			return id;
+		}
+
+		public void setId(ID id) {
+			this.id = id;
+		}
+
+		public List<ID> getRelated() {
+			return related;
+		}
+
+		public void setRelated(List<ID> related) {
+			this.related = related;
+		}
+
+		public ID[] getHistory() {
+			return history;
+		}
+
+		public void setHistory(ID[] history) {
+			this.history = history;
+		}
+	}
+
+	public static class OrderBean extends BaseEntity<Long> {
+		private String name;
+
+		public String getName() {
+			return name;
+		}
+
+		public void setName(String name) {
+			this.name = name;
+		}
+	}
+
+	@Test
+	public void javaBeanInformationShouldResolveInheritedTypeVariables() throws Exception {
+		verifyResolvedTypes(new JavaBeanInformation(OrderBean.class));
+	}
+
+	@Test
+	public void methodScanningBeanInformationShouldResolveInheritedTypeVariables() throws Exception {
+		verifyResolvedTypes(new MethodScanningBeanInformation(OrderBean.class));
+	}
+
+	@Test
+	public void shouldResolvePropertyTypesOnce() throws Exception {
+		// Given
+		PropertyInformation related = byName(new JavaBeanInformation(OrderBean.class)).get("related");
+
+		// When
+		Type first = related.getReadMethodReturnType();
+		Type second = related.getReadMethodReturnType();
+
+		// Then
+		assertThat(second).isSameAs(first);
+	}
+
+	@Test
+	public void shouldLeaveUnboundTypeVariablesUnresolved() throws Exception {
+		// When
+		PropertyInformation id = byName(new JavaBeanInformation(BaseEntity.class)).get("id");
+
+		// Then
+		assertThat(Types.getRawType(id.getReadMethodReturnType())).isEqualTo(Object.class);
+	}
+
+	private static void verifyResolvedTypes(BeanInformation beanInformation) {
+		Map<String, PropertyInformation> properties = byName(beanInformation);
+		assertThat(properties.get("id").getReadMethodReturnType()).isEqualTo(Long.class);
+		assertThat(properties.get("id").getWriteMethodParameterType()).isEqualTo(Long.class);
+		Type listOfLong = Types.newParameterizedTypeWithOwner(null, List.class, Long.class);
+		assertThat(Types.equals(properties.get("related").getReadMethodReturnType(), listOfLong)).isTrue();
+		assertThat(Types.equals(properties.get("related").getWriteMethodParameterType(), listOfLong)).isTrue();
+		assertThat(Types.equals(properties.get("history").getReadMethodReturnType(), Types.arrayOf(Long.class)))
+		        .isTrue();
+		assertThat(properties.get("name").getReadMethodReturnType()).isEqualTo(String.class);
+	}
+
+	private static Map<String, PropertyInformation> byName(BeanInformation beanInformation) {
+		return beanInformation.getProperties().stream()
+		        .collect(Collectors.toMap(PropertyInformation::getName, Function.identity()));
+	}
+}
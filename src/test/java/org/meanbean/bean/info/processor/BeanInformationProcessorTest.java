@@ -0,0 +1,272 @@
+/*-
+ * ​​​
+ * meanbean
+ * ⁣⁣⁣
+ * Copyright (C) 2010 - 2020 the original author or authors.
+ * ⁣⁣⁣
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * ﻿﻿﻿﻿﻿
+ */
+
+package org.meanbean.bean.info.processor;
+
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+import org.meanbean.bean.info.BeanInformation;
+import org.meanbean.bean.info.GenerateBeanInformation;
+import org.meanbean.bean.info.GeneratedBeanInformationFactory;
+import org.meanbean.bean.info.MethodScanningBeanInformationFactory;
+import org.meanbean.bean.info.PropertyInformation;
+import org.meanbean.bean.info.StaticBeanInformation;
+import org.meanbean.test.BeanTesterBuilder;
+
+import javax.tools.Diagnostic;
+import javax.tools.DiagnosticCollector;
+import javax.tools.JavaCompiler;
+import javax.tools.JavaFileObject;
+import javax.tools.SimpleJavaFileObject;
+import javax.tools.StandardJavaFileManager;
+import javax.tools.ToolProvider;
+import java.io.File;
+import java.lang.reflect.Method;
+import java.net.URI;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.Assume.assumeNotNull;
+
+public class BeanInformationProcessorTest {
+
+	private static final String BEAN_SOURCE = ""
+			+ "package com.example;\n"
+			+ "\n"
+			+ "@org.meanbean.bean.info.GenerateBeanInformation\n"
+			+ "public class Person {\n"
+			+ "    private String name;\n"
+			+ "    private int age;\n"
+			+ "    private boolean active;\n"
+			+ "    private java.util.List<String> tags;\n"
+			+ "    private String nickname;\n"
+			+ "    public String getName() { return name; }\n"
+			+ "    public void setName(String name) { this.name = name; }\n"
+			+ "    public int getAge() { return age; }\n"
+			+ "    public void setAge(int age) { this.age = age; }\n"
+			+ "    public boolean isActive() { return active; }\n"
+			+ "    public void setActive(boolean active) { this.active = active; }\n"
+			+ "    public java.util.List<String> getTags() { return tags; }\n"
+			+ "    public void setTags(java.util.List<String> tags) { this.tags = tags; }\n"
+			+ "    public String getNickname() { return nickname; }\n"
+			+ "    public Person setNickname(String nickname) { this.nickname = nickname; return this; }\n"
+			+ "    public String getId() { return \"id\"; }\n"
+			+ "\n"
+			+ "    @org.meanbean.bean.info.GenerateBeanInformation\n"
+			+ "    public static class Address {\n"
+			+ "        private String street;\n"
+			+ "        Address() { }\n"
+			+ "        public String getStreet() { return street; }\n"
+			+ "        public void setStreet(String street) { this.street = street; }\n"
+			+ "    }\n"
+			+ "}\n";
+
+	private static final String PLAIN_SOURCE = ""
+			+ "package com.example;\n"
+			+ "\n"
+			+ "public class Plain {\n"
+			+ "    private String value;\n"
+			+ "    public String getValue() { return value; }\n"
+			+ "    public void setValue(String value) { this.value = value; }\n"
+			+ "}\n";
+
+	@Rule
+	public TemporaryFolder temporaryFolder = new TemporaryFolder();
+
+	private JavaCompiler compiler;
+
+	@Before
+	public void before() {
+		compiler = ToolProvider.getSystemJavaCompiler();
+		assumeNotNull(compiler);
+	}
+
+	@Test
+	public void shouldGenerateBeanInformationAndServiceRegistration() throws Exception {
+		// Given
+		File output = compile(source("com.example.Person", BEAN_SOURCE), source("com.example.Plain", PLAIN_SOURCE));
+		// Then
+		assertThat(new File(output, "com/example/Person" + GeneratedBeanInformationFactory.SUFFIX + ".class")).exists();
+		assertThat(new File(output, "com/example/Person$Address" + GeneratedBeanInformationFactory.SUFFIX + ".class")).exists();
+		assertThat(new File(output, "com/example/Plain" + GeneratedBeanInformationFactory.SUFFIX + ".class")).doesNotExist();
+		File serviceFile = new File(output, "META-INF/services/org.meanbean.bean.info.BeanInformationFactory");
+		assertThat(Files.readAllLines(serviceFile.toPath()))
+				.containsExactly(GeneratedBeanInformationFactory.class.getName());
+	}
+
+	@Test
+	public void shouldUseGeneratedBeanInformationAtRuntime() throws Exception {
+		// Given
+		File output = compile(source("com.example.Person", BEAN_SOURCE));
+		try (URLClassLoader classLoader = new URLClassLoader(new URL[] { output.toURI().toURL() }, getClass().getClassLoader())) {
+			Class<?> personClass = classLoader.loadClass("com.example.Person");
+			// When
+			BeanInformation beanInformation = new GeneratedBeanInformationFactory().create(personClass);
+			// Then
+			assertThat(beanInformation).isInstanceOf(StaticBeanInformation.class);
+			assertThat(GeneratedBeanInformationFactory.isGenerated(personClass)).isTrue();
+			Map<String, PropertyInformation> properties = beanInformation.getProperties().stream()
+					.collect(Collectors.toMap(PropertyInformation::getName, property -> property));
+			assertThat(properties.keySet()).containsExactlyInAnyOrder("name", "age", "active", "tags", "nickname", "id");
+			assertThat(properties.get("id").isWritable()).isFalse();
+			assertThat(properties.get("nickname").isReadableWritable()).isTrue();
+			assertThat(properties.get("tags").getWriteMethodParameterType().getTypeName())
+					.isEqualTo("java.util.List<java.lang.String>");
+
+			Object person = beanInformation.getNoArgConstructor().get();
+			properties.get("age").getPropertySetter().set(person, 42);
+			properties.get("nickname").getPropertySetter().set(person, "Bob");
+			assertThat(properties.get("age").getPropertyGetter().get(person)).isEqualTo(42);
+			assertThat(properties.get("nickname").getPropertyGetter().get(person)).isEqualTo("Bob");
+			assertThat(properties.get("age").getReadMethod()).isEqualTo(personClass.getMethod("getAge"));
+
+			Class<?> addressClass = classLoader.loadClass("com.example.Person$Address");
+			BeanInformation addressInformation = new GeneratedBeanInformationFactory().create(addressClass);
+			assertThat(addressInformation.getPropertyNames()).containsExactly("street");
+			assertThat(addressInformation.getNoArgConstructor().get()).isInstanceOf(addressClass);
+
+			BeanTesterBuilder.newBeanTesterBuilder()
+					.setBeanInformationFactory(new GeneratedBeanInformationFactory())
+					.build()
+					.testBean(personClass);
+		}
+	}
+
+	@Test
+	public void shouldSelectSameOverloadedSetterAsMethodScanning() throws Exception {
+		// Given
+		String source = ""
+				+ "package com.example;\n"
+				+ "@org.meanbean.bean.info.GenerateBeanInformation\n"
+				+ "public class Overloaded {\n"
+				+ "    public void setValue(String value) { }\n"
+				+ "    public void setValue(int value) { }\n"
+				+ "    public void setValue(java.util.Map.Entry<String, String> value) { }\n"
+				+ "    public void setValue(Integer[] value) { }\n"
+				+ "    public void setOther(java.util.List<String> other) { }\n"
+				+ "    public void setOther(java.util.Date other) { }\n"
+				+ "    public Overloaded setData(String data) { return this; }\n"
+				+ "    public Overloaded setData(long data) { return this; }\n"
+				+ "    public String getData() { return null; }\n"
+				+ "}\n";
+		File output = compile(source("com.example.Overloaded", source));
+		try (URLClassLoader classLoader = new URLClassLoader(new URL[] { output.toURI().toURL() }, getClass().getClassLoader())) {
+			Class<?> overloadedClass = classLoader.loadClass("com.example.Overloaded");
+			// When
+			BeanInformation generated = new GeneratedBeanInformationFactory().create(overloadedClass);
+			BeanInformation scanned = new MethodScanningBeanInformationFactory().create(overloadedClass);
+			// Then
+			assertThat(generated).isInstanceOf(StaticBeanInformation.class);
+			assertThat(writeMethods(generated)).isEqualTo(writeMethods(scanned));
+			assertThat(writeMethods(generated)).containsOnlyKeys("value", "other", "data");
+		}
+	}
+
+	@Test
+	public void shouldFallBackToJavaBeanInformationForOtherBeans() throws Exception {
+		// When
+		BeanInformation beanInformation = new GeneratedBeanInformationFactory().create(Fallback.class);
+		// Then
+		assertThat(beanInformation).isNotInstanceOf(StaticBeanInformation.class);
+		assertThat(beanInformation.getPropertyNames()).containsExactly("value");
+		assertThat(GeneratedBeanInformationFactory.isGenerated(Fallback.class)).isFalse();
+	}
+
+	@Test
+	public void shouldRejectPrivateAndInnerClasses() throws Exception {
+		// Given
+		String source = ""
+				+ "package com.example;\n"
+				+ "public class Outer {\n"
+				+ "    @org.meanbean.bean.info.GenerateBeanInformation\n"
+				+ "    private static class Hidden { }\n"
+				+ "    @org.meanbean.bean.info.GenerateBeanInformation\n"
+				+ "    public class Inner { }\n"
+				+ "}\n";
+		DiagnosticCollector<JavaFileObject> diagnostics = new DiagnosticCollector<>();
+		// When
+		boolean success = run(diagnostics, temporaryFolder.newFolder(), source("com.example.Outer", source));
+		// Then
+		assertThat(success).isFalse();
+		assertThat(diagnostics.getDiagnostics().stream().filter(d -> d.getKind() == Diagnostic.Kind.ERROR)).hasSize(2);
+	}
+
+	public static class Fallback {
+		private String value;
+
+		public String getValue() {
+			return value;
+		}
+
+		public void setValue(String value) {
+			this.value = value;
+		}
+	}
+
+	private static Map<String, Method> writeMethods(BeanInformation beanInformation) {
+		Map<String, Method> writeMethods = new TreeMap<>();
+		for (PropertyInformation property : beanInformation.getProperties()) {
+			writeMethods.put(property.getName(), property.getWriteMethod());
+		}
+		return writeMethods;
+	}
+
+	private File compile(JavaFileObject... sources) throws Exception {
+		File output = temporaryFolder.newFolder();
+		DiagnosticCollector<JavaFileObject> diagnostics = new DiagnosticCollector<>();
+		boolean success = run(diagnostics, output, sources);
+		assertThat(success).as(diagnostics.getDiagnostics().toString()).isTrue();
+		return output;
+	}
+
+	private boolean run(DiagnosticCollector<JavaFileObject> diagnostics, File output, JavaFileObject... sources)
+			throws Exception {
+		String classPath = new File(GenerateBeanInformation.class.getProtectionDomain().getCodeSource().getLocation().toURI())
+				.getPath();
+		List<String> options = Arrays.asList("-d", output.getPath(), "-classpath", classPath);
+		try (StandardJavaFileManager fileManager = compiler.getStandardFileManager(diagnostics, null, StandardCharsets.UTF_8)) {
+			JavaCompiler.CompilationTask task = compiler.getTask(null, fileManager, diagnostics, options, null,
+					Arrays.asList(sources));
+			task.setProcessors(Collections.singletonList(new BeanInformationProcessor()));
+			return task.call();
+		}
+	}
+
+	private static JavaFileObject source(String className, String content) {
+		return new SimpleJavaFileObject(URI.create("string:///" + className.replace('.', '/') + ".java"),
+				JavaFileObject.Kind.SOURCE) {
+			@Override
+			public CharSequence getCharContent(boolean ignoreEncodingErrors) {
+				return content;
+			}
+		};
+	}
+}
@@ -0,0 +1,177 @@
+/*-
+ * ​​​
+ * meanbean
+ * ⁣⁣⁣
+ * Copyright (C) 2010 - 2020 the original author or authors.
+ * ⁣⁣⁣
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * ﻿﻿﻿﻿﻿
+ */
+
+package org.meanbean.bean.util;
+
+import org.junit.Test;
+import org.meanbean.bean.info.BeanInformation;
+import org.meanbean.bean.info.JavaBeanInformationFactory;
+import org.meanbean.bean.info.PropertyInformation;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+public class TrivialAccessorDetectorTest {
+
+	public static class Bean {
+		private String name;
+		private long count;
+		private double ratio;
+		private boolean active;
+		private int[] values;
+		private String trimmed;
+		private String defaulted;
+		private String first;
+		private String second;
+		private String fluent;
+
+		public String getName() {
+			return name;
+		}
+
+		public void setName(String name) {
+			this.name = name;
+		}
+
+		public long getCount() {
+			return count;
+		}
+
+		public void setCount(long count) {
+			this.count = count;
+		}
+
+		public double getRatio() {
+			return ratio;
+		}
+
+		public void setRatio(double ratio) {
+			this.ratio = ratio;
+		}
+
+		public boolean isActive() {
+			return active;
+		}
+
+		public void setActive(boolean active) {
+			this.active = active;
+		}
+
+		public int[] getValues() {
+			return values;
+		}
+
+		public void setValues(int[] values) {
+			this.values = values;
+		}
+
+		public String getTrimmed() {
+			return trimmed;
+		}
+
+		public void setTrimmed(String trimmed) {
+			this.trimmed = trimmed.trim();
+		}
+
+		public String getDefaulted() {
+			return defaulted == null ? "" : defaulted;
+		}
+
+		public void setDefaulted(String defaulted) {
+			this.defaulted = defaulted;
+		}
+
+		public String getCrossed() {
+			return first;
+		}
+
+		public void setCrossed(String crossed) {
+			this.second = crossed;
+		}
+
+		public String getFluent() {
+			return fluent;
+		}
+
+		public Bean setFluent(String fluent) {
+			this.fluent = fluent;
+			return this;
+		}
+
+		public String getReadOnly() {
+			return second;
+		}
+	}
+
+	public static class SubBean extends Bean {
+		@Override
+		public void setName(String name) {
+			super.setName(name);
+		}
+	}
+
+	private final BeanInformation beanInformation = new JavaBeanInformationFactory().create(Bean.class);
+
+	@Test
+	public void shouldRecognisePlainFieldAccessors() throws Exception {
+		assertThat(TrivialAccessorDetector.isTrivial(property(beanInformation, "name"))).isTrue();
+		assertThat(TrivialAccessorDetector.isTrivial(property(beanInformation, "count"))).isTrue();
+		assertThat(TrivialAccessorDetector.isTrivial(property(beanInformation, "ratio"))).isTrue();
+		assertThat(TrivialAccessorDetector.isTrivial(property(beanInformation, "active"))).isTrue();
+		assertThat(TrivialAccessorDetector.isTrivial(property(beanInformation, "values"))).isTrue();
+		assertThat(TrivialAccessorDetector.isTrivial(property(beanInformation, "fluent"))).isTrue();
+	}
+
+	@Test
+	public void shouldRejectAccessorsWithLogic() throws Exception {
+		assertThat(TrivialAccessorDetector.isTrivial(property(beanInformation, "trimmed"))).isFalse();
+		assertThat(TrivialAccessorDetector.isTrivial(property(beanInformation, "defaulted"))).isFalse();
+	}
+
+	@Test
+	public void shouldRejectAccessorsOfDifferentFields() throws Exception {
+		assertThat(TrivialAccessorDetector.isTrivial(property(beanInformation, "crossed"))).isFalse();
+	}
+
+	@Test
+	public void shouldRejectPropertyWithoutBothAccessors() throws Exception {
+		assertThat(TrivialAccessorDetector.isTrivial(property(beanInformation, "readOnly"))).isFalse();
+	}
+
+	@Test
+	public void shouldRejectAccessorsDeclaredByDifferentClasses() throws Exception {
+		BeanInformation subBeanInformation = new JavaBeanInformationFactory().create(SubBean.class);
+		assertThat(TrivialAccessorDetector.isTrivial(property(subBeanInformation, "name"))).isFalse();
+		assertThat(TrivialAccessorDetector.isTrivial(property(subBeanInformation, "count"))).isTrue();
+	}
+
+	@Test
+	public void shouldPreventNullProperty() throws Exception {
+		assertThatThrownBy(() -> TrivialAccessorDetector.isTrivial(null))
+		        .isInstanceOf(IllegalArgumentException.class);
+	}
+
+	private static PropertyInformation property(BeanInformation beanInformation, String name) {
+		return beanInformation.getProperties().stream()
+		        .filter(property -> property.getName().equals(name))
+		        .findFirst()
+		        .orElseThrow(AssertionError::new);
+	}
+}
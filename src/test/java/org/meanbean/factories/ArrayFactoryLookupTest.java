@@ -26,10 +26,12 @@ import org.meanbean.lang.Factory;
 import org.meanbean.test.BeanTester;
 import org.meanbean.util.ServiceFactory;
 
+import java.lang.reflect.Array;
 import java.util.UUID;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatCode;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 
 public class ArrayFactoryLookupTest {
 
@@ -66,6 +68,49 @@ public class ArrayFactoryLookupTest {
 				.isLessThanOrEqualTo(8);
 	}
 
+	@Test
+	public void shouldCreatePrimitiveArrays() {
+		for (Class<?> type : new Class<?>[] { byte[].class, char[].class, int[].class, long[].class, double[].class,
+				boolean[].class, float[].class, short[].class }) {
+			Object array = arrayFactoryCollection.getFactory(type).create();
+
+			assertThat(array).isInstanceOf(type);
+			assertThat(Array.getLength(array)).isLessThan(arrayFactoryCollection.getMaxSize());
+		}
+	}
+
+	@Test
+	public void shouldUseReplacedComponentFactory() {
+		// Given
+		FactoryCollection.getInstance().addFactory(int.class, () -> 7);
+		arrayFactoryCollection.setSizeDistribution(SizeDistribution.withOccasionalLarge(1, 3, 1.0));
+
+		// When
+		int[] array = arrayFactoryCollection.<int[]> getFactory(int[].class).create();
+
+		// Then
+		assertThat(array).containsExactly(7, 7, 7);
+	}
+
+	@Test
+	public void shouldUseSizeDistribution() {
+		// Given
+		arrayFactoryCollection.setSizeDistribution(SizeDistribution.withOccasionalLarge(8, 10_000, 1.0));
+
+		// When
+		long[] array = arrayFactoryCollection.<long[]> getFactory(long[].class).create();
+
+		// Then
+		assertThat(array).hasSize(10_000);
+		assertThat(arrayFactoryCollection.getMaxSize()).isEqualTo(10_001);
+	}
+
+	@Test
+	public void setMaxSizeShouldPreventNonPositiveSize() {
+		assertThatThrownBy(() -> arrayFactoryCollection.setMaxSize(0))
+				.isInstanceOf(IllegalArgumentException.class);
+	}
+
 	@Test
 	public void noBeanTesterExceptionForArrayBean() {
 		assertThatCode(() -> {
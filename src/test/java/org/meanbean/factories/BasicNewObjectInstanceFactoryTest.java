@@ -21,16 +21,22 @@
 package org.meanbean.factories;
 
 import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.containsString;
 import static org.hamcrest.Matchers.is;
 import static org.hamcrest.Matchers.not;
 import static org.hamcrest.Matchers.nullValue;
 import static org.hamcrest.Matchers.sameInstance;
+import static org.junit.Assert.fail;
+
+import java.util.function.Supplier;
 
 import org.junit.Test;
+import org.meanbean.factories.FactoryMethodInstantiator.FactoryMethodBean;
 import org.meanbean.test.beans.Bean;
 import org.meanbean.test.beans.NonBean;
 import org.meanbean.test.beans.PackagePrivateConstructorObject;
 import org.meanbean.test.beans.PrivateConstructorObject;
+import org.meanbean.util.ServiceFactory;
 
 public class BasicNewObjectInstanceFactoryTest {
 
@@ -63,4 +69,43 @@ public class BasicNewObjectInstanceFactoryTest {
 		Object createdObject = new BasicNewObjectInstanceFactory(PackagePrivateConstructorObject.class).create();
 		assertThat("Factory failed to create non-null object.", createdObject, is(not(nullValue())));
 	}
+
+	@Test
+	public void createShouldExplainWhyClassCannotBeInstantiated() throws Exception {
+		try {
+			new BasicNewObjectInstanceFactory(NonBean.class).create();
+			fail("ObjectCreationException expected");
+		} catch (ObjectCreationException e) {
+			assertThat(e.getMessage(), containsString(NonBean.class.getName()));
+			assertThat(e.getMessage(), containsString("ConstructorInstantiator"));
+			assertThat(e.getMessage(), containsString("custom Factory"));
+		}
+	}
+
+	@Test
+	public void createShouldUseRegisteredInstantiatorForClassWithoutNoArgConstructor() throws Exception {
+		ServiceFactory.createContext(this);
+		Object createdObject = new BasicNewObjectInstanceFactory(FactoryMethodBean.class).create();
+		assertThat(((FactoryMethodBean) createdObject).getOrigin(), is("factory method"));
+	}
+
+	@Test
+	public void constructorInstantiatorShouldResolveEachClassOnce() throws Exception {
+		ConstructorInstantiator instantiator = new ConstructorInstantiator();
+		Supplier<Bean> supplier = instantiator.findSupplier(Bean.class).get();
+		assertThat(instantiator.findSupplier(Bean.class).get(), is(sameInstance(supplier)));
+		assertThat(supplier.get(), is(not(sameInstance(supplier.get()))));
+		assertThat(instantiator.findSupplier(NonBean.class).isPresent(), is(false));
+	}
+
+	@Test(expected = ObjectCreationException.class)
+	public void createShouldWrapExceptionThrownByConstructor() throws Exception {
+		new BasicNewObjectInstanceFactory(ThrowingConstructorObject.class).create();
+	}
+
+	public static class ThrowingConstructorObject {
+		public ThrowingConstructorObject() {
+			throw new IllegalStateException("cannot construct");
+		}
+	}
 }
@@ -20,15 +20,95 @@
 
 package org.meanbean.factories;
 
+import org.junit.Before;
 import org.junit.Test;
 import org.meanbean.test.BeanTester;
 import org.meanbean.test.beans.CollectionPropertyBean;
+import org.meanbean.util.ServiceFactory;
+import org.meanbean.util.Types;
+
+import java.lang.reflect.Type;
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 
 public class CollectionFactoryLookupTest {
 
+	private CollectionFactoryLookup collectionFactoryLookup;
+
+	@Before
+	public void setUp() {
+		ServiceFactory.createContext(this);
+		collectionFactoryLookup = new CollectionFactoryLookup();
+	}
+
 	@Test
 	public void test() throws Exception {
 		BeanTester tester = new BeanTester();
 		tester.testBean(CollectionPropertyBean.class);
 	}
+
+	@Test
+	public void shouldCreateMapsOfTheRequestedSize() {
+		// Given
+		Type type = Types.newParameterizedTypeWithOwner(null, Map.class, Integer.class, Long.class);
+		collectionFactoryLookup.setSizeDistribution(SizeDistribution.withOccasionalLarge(1, 100, 1.0));
+
+		// When
+		Map<?, ?> map = collectionFactoryLookup.<Map<?, ?>> getFactory(type).create();
+
+		// Then
+		assertThat(map.keySet()).allMatch(key -> key instanceof Integer);
+		assertThat(map.values()).allMatch(value -> value instanceof Long);
+		assertThat(map.size()).isBetween(90, 100);
+	}
+
+	@Test
+	public void shouldCreateConcreteCollectionsWithPublicConstructor() {
+		// Given
+		Type type = Types.newParameterizedTypeWithOwner(null, LinkedHashSet.class, String.class);
+
+		// When
+		Object set = collectionFactoryLookup.getFactory(type).create();
+
+		// Then
+		assertThat(set).isInstanceOf(LinkedHashSet.class);
+	}
+
+	@Test
+	public void shouldReportCollectionsWithoutPublicConstructor() {
+		assertThatThrownBy(() -> collectionFactoryLookup.getFactory(NoPublicConstructorList.class).create())
+				.isInstanceOf(IllegalStateException.class)
+				.hasMessage("cannot create instance for " + NoPublicConstructorList.class);
+	}
+
+	@Test
+	public void shouldUseItemFactoryRegisteredAfterFirstUse() {
+		// Given
+		Type type = Types.newParameterizedTypeWithOwner(null, List.class, Widget.class);
+		collectionFactoryLookup.setSizeDistribution(SizeDistribution.withOccasionalLarge(1, 2, 1.0));
+		assertThat(collectionFactoryLookup.<List<?>> getFactory(type).create()).containsOnlyNulls();
+		Widget widget = new Widget();
+
+		// When
+		FactoryCollection.getInstance().addFactory(Widget.class, () -> widget);
+
+		// Then
+		assertThat(collectionFactoryLookup.<List<Object>> getFactory(type).create()).containsExactly(widget, widget);
+	}
+
+	static class Widget {
+	}
+
+	public static class NoPublicConstructorList extends ArrayList<String> {
+
+		private static final long serialVersionUID = 1L;
+
+		NoPublicConstructorList() {
+		}
+	}
 }
@@ -0,0 +1,192 @@
+/*-
+ * ​​​
+ * meanbean
+ * ⁣⁣⁣
+ * Copyright (C) 2010 - 2020 the original author or authors.
+ * ⁣⁣⁣
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * ﻿﻿﻿﻿﻿
+ */
+
+package org.meanbean.factories;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.meanbean.lang.Factory;
+import org.meanbean.util.ServiceFactory;
+
+import java.lang.reflect.ParameterizedType;
+import java.lang.reflect.Type;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+public class FactoryCollectionRepositoryTest {
+
+	private FactoryCollectionRepository factoryCollectionRepository;
+
+	@Before
+	public void before() {
+		ServiceFactory.createContext(this);
+		factoryCollectionRepository = new FactoryCollectionRepository();
+	}
+
+	@Test
+	public void shouldConsultLookupsOncePerType() {
+		// Given
+		CountingFactoryLookup lookup = new CountingFactoryLookup(Widget.class);
+		factoryCollectionRepository.addFactoryLookup(lookup);
+
+		// When
+		for (int i = 0; i < 10; i++) {
+			factoryCollectionRepository.hasFactory(Widget.class);
+			factoryCollectionRepository.getFactory(Widget.class);
+			factoryCollectionRepository.hasFactory(Missing.class);
+		}
+
+		// Then
+		assertThat(lookup.probes.get()).isEqualTo(2);
+		assertThat(lookup.creations.get()).isEqualTo(1);
+	}
+
+	@Test
+	public void shouldReportMissingFactory() {
+		assertThat(factoryCollectionRepository.hasFactory(Missing.class)).isFalse();
+		assertThatThrownBy(() -> factoryCollectionRepository.getFactory(Missing.class))
+				.isInstanceOf(NoSuchFactoryException.class)
+				.hasMessage("No factory found for " + Missing.class);
+	}
+
+	@Test
+	public void findFactoryShouldReturnEmptyForMissingFactory() {
+		assertThat(factoryCollectionRepository.findFactory(Missing.class)).isEmpty();
+		assertThat(factoryCollectionRepository.findFactory(String.class)).isPresent();
+	}
+
+	@Test
+	public void getFactoryShouldCaptureStackTraceForMissingFactory() {
+		assertThatThrownBy(() -> factoryCollectionRepository.getFactory(Missing.class))
+				.isInstanceOf(NoSuchFactoryException.class)
+				.satisfies(e -> assertThat(e.getStackTrace()).isNotEmpty());
+	}
+
+	@Test
+	public void shouldStillResolveAfterManyUnresolvableTypes() {
+		// Given
+		CountingFactoryLookup lookup = new CountingFactoryLookup(Widget.class);
+		factoryCollectionRepository.addFactoryLookup(lookup);
+		factoryCollectionRepository.hasFactory(Missing.class);
+
+		// When
+		for (int i = 0; i <= FactoryCollectionRepository.MAX_UNRESOLVABLE_TYPES; i++) {
+			factoryCollectionRepository.hasFactory(new TypeToken(i));
+		}
+		factoryCollectionRepository.hasFactory(Missing.class);
+
+		// Then
+		assertThat(factoryCollectionRepository.hasFactory(Widget.class)).isTrue();
+		assertThat(lookup.probes.get()).isEqualTo(FactoryCollectionRepository.MAX_UNRESOLVABLE_TYPES + 4);
+	}
+
+	@Test
+	public void addFactoryLookupShouldDiscardResolvedFactories() {
+		// Given
+		assertThat(factoryCollectionRepository.hasFactory(Missing.class)).isFalse();
+
+		// When
+		factoryCollectionRepository.addFactoryLookup(new CountingFactoryLookup(Missing.class));
+
+		// Then
+		assertThat(factoryCollectionRepository.hasFactory(Missing.class)).isTrue();
+	}
+
+	@Test
+	public void addFactoryShouldDiscardResolvedFactories() {
+		// Given
+		Factory<String> original = factoryCollectionRepository.getFactory(String.class);
+		Factory<String> replacement = () -> "replacement";
+
+		// When
+		factoryCollectionRepository.addFactory(String.class, replacement);
+
+		// Then
+		assertThat(original).isNotSameAs(replacement);
+		assertThat(factoryCollectionRepository.<String> getFactory(String.class)).isSameAs(replacement);
+	}
+
+	static class Widget {
+	}
+
+	static class TypeToken implements ParameterizedType {
+
+		private final int id;
+
+		TypeToken(int id) {
+			this.id = id;
+		}
+
+		@Override
+		public Type[] getActualTypeArguments() {
+			return new Type[0];
+		}
+
+		@Override
+		public Type getRawType() {
+			return Missing.class;
+		}
+
+		@Override
+		public Type getOwnerType() {
+			return null;
+		}
+
+		@Override
+		public boolean equals(Object obj) {
+			return obj instanceof TypeToken && ((TypeToken) obj).id == id;
+		}
+
+		@Override
+		public int hashCode() {
+			return id;
+		}
+	}
+
+	static class Missing {
+	}
+
+	static class CountingFactoryLookup implements FactoryLookup {
+
+		private final Class<?> supportedType;
+
+		private final AtomicInteger probes = new AtomicInteger();
+
+		private final AtomicInteger creations = new AtomicInteger();
+
+		CountingFactoryLookup(Class<?> supportedType) {
+			this.supportedType = supportedType;
+		}
+
+		@Override
+		public <T> Factory<T> getFactory(Type type) throws IllegalArgumentException, NoSuchFactoryException {
+			creations.incrementAndGet();
+			return () -> null;
+		}
+
+		@Override
+		public boolean hasFactory(Type type) throws IllegalArgumentException {
+			probes.incrementAndGet();
+			return supportedType.equals(type);
+		}
+	}
+}
@@ -0,0 +1,60 @@
+/*-
+ * ​​​
+ * meanbean
+ * ⁣⁣⁣
+ * Copyright (C) 2010 - 2020 the original author or authors.
+ * ⁣⁣⁣
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * ﻿﻿﻿﻿﻿
+ */
+
+package org.meanbean.factories;
+
+import org.meanbean.util.Order;
+
+import java.util.Optional;
+import java.util.function.Supplier;
+
+/**
+ * Test Instantiator, registered through <code>META-INF/services</code>, that creates {@link FactoryMethodBean}s with
+ * their static factory method.
+ */
+@Order(2000)
+public class FactoryMethodInstantiator implements Instantiator {
+
+	@SuppressWarnings("unchecked")
+	@Override
+	public <T> Optional<Supplier<T>> findSupplier(Class<T> clazz) {
+		if (clazz == FactoryMethodBean.class) {
+			return Optional.of(() -> (T) FactoryMethodBean.newBean());
+		}
+		return Optional.empty();
+	}
+
+	public static class FactoryMethodBean {
+
+		private final String origin;
+
+		private FactoryMethodBean(String origin) {
+			this.origin = origin;
+		}
+
+		static FactoryMethodBean newBean() {
+			return new FactoryMethodBean("factory method");
+		}
+
+		public String getOrigin() {
+			return origin;
+		}
+	}
+}
@@ -26,18 +26,32 @@ import org.junit.Test;
 import org.junit.runner.RunWith;
 import org.meanbean.factories.basic.StringFactory;
 import org.meanbean.lang.Factory;
+import org.meanbean.util.Order;
 import org.meanbean.util.RandomValueGenerator;
 import org.meanbean.util.ServiceFactory;
+import org.meanbean.util.SimpleRandomValueGenerator;
 import org.mockito.Mock;
 import org.mockito.runners.MockitoJUnitRunner;
 
+import java.io.IOException;
 import java.lang.reflect.Type;
+import java.net.URL;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Enumeration;
+import java.util.List;
 import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hamcrest.Matchers.instanceOf;
 import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.not;
 import static org.hamcrest.Matchers.nullValue;
+import static org.hamcrest.Matchers.sameInstance;
 
 @RunWith(MockitoJUnitRunner.class)
 public class FactoryRepositoryTest {
@@ -123,6 +137,23 @@ public class FactoryRepositoryTest {
 		assertThat("Should find factory.", factoryRepository.hasFactory(String.class), is(true));
 	}
 
+	@Test(expected = IllegalArgumentException.class)
+	public void findFactoryShouldPreventNullClass() throws Exception {
+		factoryRepository.findFactory(null);
+	}
+
+	@Test
+	public void findFactoryShouldReturnEmptyForUnregisteredFactory() throws Exception {
+		assertThat("Should not find any factory.", factoryRepository.findFactory(UnregisteredTestClass.class).isPresent(),
+		        is(false));
+	}
+
+	@Test
+	public void findFactoryShouldReturnRegisteredFactory() throws Exception {
+		assertThat("Should find factory.", factoryRepository.findFactory(String.class).get(),
+		        is(instanceOf(StringFactory.class)));
+	}
+
 	@Test
 	public void factoriesCreateTypeMatchingInstances() {
 		Map<Type, Factory<?>> factories = factoryRepository.getFactories();
@@ -144,6 +175,89 @@ public class FactoryRepositoryTest {
 		}
 	}
 
+	@Test
+	public void repositoriesShouldShareBaseFactories() throws Exception {
+		// Given
+		FactoryRepository other = new FactoryRepository();
+
+		// When
+		Factory<?> factory = factoryRepository.getFactory(String.class);
+
+		// Then
+		assertThat(other.getFactory(String.class), is(sameInstance(factory)));
+		assertThat(other.getBaseFactories(), is(sameInstance(factoryRepository.getBaseFactories())));
+		assertThat(other.getRandomValueGenerator(), is(sameInstance(factoryRepository.getRandomValueGenerator())));
+	}
+
+	@Test
+	public void addFactoryShouldNotAffectOtherRepositories() throws Exception {
+		// Given
+		FactoryRepository other = new FactoryRepository();
+
+		// When
+		factoryRepository.addFactory(RegisteredTestClass.class, new RegisteredFactory());
+		factoryRepository.addFactory(String.class, mockFactory);
+
+		// Then
+		assertThat(factoryRepository.getFactory(String.class), is(sameInstance(mockFactory)));
+		assertThat(other.hasFactory(RegisteredTestClass.class), is(false));
+		assertThat(other.getFactory(String.class), is(instanceOf(StringFactory.class)));
+		assertThat(factoryRepository.getBaseFactories().get(String.class), is(instanceOf(StringFactory.class)));
+	}
+
+	@Test(expected = UnsupportedOperationException.class)
+	public void baseFactoriesShouldBeImmutable() throws Exception {
+		factoryRepository.getBaseFactories().put(RegisteredTestClass.class, mockFactory);
+	}
+
+	@Test
+	public void clearBaseRegistriesShouldInitializePluginsAfresh() throws Exception {
+		// Given
+		Factory<?> factory = factoryRepository.getFactory(String.class);
+
+		// When
+		FactoryRepository.clearBaseRegistries();
+		FactoryRepository other = new FactoryRepository();
+
+		// Then
+		assertThat(other.getFactory(String.class), is(not(sameInstance(factory))));
+		assertThat(other.getFactory(String.class), is(instanceOf(StringFactory.class)));
+	}
+
+	@Test
+	public void baseFactoriesShouldUseRandomValueGeneratorOfCurrentContext() throws Exception {
+		// Given
+		Thread thread = Thread.currentThread();
+		ClassLoader original = thread.getContextClassLoader();
+		Path services = Files.createTempFile("meanbean", ".services");
+		Files.write(services, CountingRandomValueGenerator.class.getName().getBytes(StandardCharsets.UTF_8));
+		thread.setContextClassLoader(new ServiceOverridingClassLoader(original, services.toUri().toURL()));
+		try {
+			Object firstKey = new Object();
+			Object secondKey = new Object();
+			ServiceFactory.createContext(firstKey);
+			FactoryRepository first = new FactoryRepository();
+			ServiceFactory.createContext(secondKey);
+			FactoryRepository second = new FactoryRepository();
+			CountingRandomValueGenerator firstGenerator = (CountingRandomValueGenerator) first.getRandomValueGenerator();
+			CountingRandomValueGenerator secondGenerator = (CountingRandomValueGenerator) second.getRandomValueGenerator();
+			int firstCount = firstGenerator.count.get();
+
+			// When
+			second.getFactory(int.class).create();
+
+			// Then
+			assertThat(second.getBaseFactories(), is(sameInstance(first.getBaseFactories())));
+			assertThat(secondGenerator, is(sameInstance(RandomValueGenerator.getInstance())));
+			assertThat(secondGenerator, is(not(sameInstance(firstGenerator))));
+			assertThat(secondGenerator.count.get(), is(1));
+			assertThat(firstGenerator.count.get(), is(firstCount));
+		} finally {
+			thread.setContextClassLoader(original);
+			Files.delete(services);
+		}
+	}
+
 	static class RegisteredTestClass {
 		// A class that will be registered in the FactoryRepository
 	}
@@ -158,4 +272,39 @@ public class FactoryRepositoryTest {
 			return null; // Not tested here - do nothing
 		}
 	}
+
+	@Order(1)
+	public static class CountingRandomValueGenerator extends SimpleRandomValueGenerator {
+
+		final AtomicInteger count = new AtomicInteger();
+
+		@Override
+		public int nextInt() {
+			count.incrementAndGet();
+			return super.nextInt();
+		}
+	}
+
+	/**
+	 * ClassLoader that adds a RandomValueGenerator service definition to those of its parent.
+	 */
+	private static class ServiceOverridingClassLoader extends ClassLoader {
+
+		private final URL services;
+
+		ServiceOverridingClassLoader(ClassLoader parent, URL services) {
+			super(parent);
+			this.services = services;
+		}
+
+		@Override
+		public Enumeration<URL> getResources(String name) throws IOException {
+			if (!name.equals("META-INF/services/" + RandomValueGenerator.class.getName())) {
+				return super.getResources(name);
+			}
+			List<URL> urls = new ArrayList<>(Collections.list(super.getResources(name)));
+			urls.add(0, services);
+			return Collections.enumeration(urls);
+		}
+	}
 }
@@ -20,8 +20,11 @@
 
 package org.meanbean.factories;
 
+import org.junit.Test;
 import org.meanbean.test.util.MessageAndCauseExceptionTestBase;
 
+import static org.assertj.core.api.Assertions.assertThat;
+
 public class NoSuchFactoryExceptionTest extends MessageAndCauseExceptionTestBase {
 
     @Override
@@ -33,4 +36,11 @@ public class NoSuchFactoryExceptionTest extends MessageAndCauseExceptionTestBase
     public Exception createMessageAndCauseException(String message, Throwable cause) {
         return new NoSuchFactoryException(message, cause);
     }
+
+    @Test
+    public void shouldOmitStackTraceWhenNotWritable() throws Exception {
+        NoSuchFactoryException exception = new NoSuchFactoryException("message", null, false, false);
+        assertThat(exception.getMessage()).isEqualTo("message");
+        assertThat(exception.getStackTrace()).isEmpty();
+    }
 }
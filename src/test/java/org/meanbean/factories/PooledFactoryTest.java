@@ -0,0 +1,115 @@
+/*-
+ * ​​​
+ * meanbean
+ * ⁣⁣⁣
+ * Copyright (C) 2010 - 2020 the original author or authors.
+ * ⁣⁣⁣
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * ﻿﻿﻿﻿﻿
+ */
+
+package org.meanbean.factories;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.meanbean.lang.Factory;
+import org.meanbean.util.ServiceFactory;
+
+import java.util.HashSet;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+public class PooledFactoryTest {
+
+	private final AtomicInteger created = new AtomicInteger();
+
+	private final Factory<Integer> countingFactory = created::incrementAndGet;
+
+	@Before
+	public void before() {
+		ServiceFactory.createContext(this);
+	}
+
+	@Test
+	public void shouldCycleThroughPreGeneratedValues() {
+		// Given
+		PooledFactory<Integer> factory = new PooledFactory<>(countingFactory, 3, false);
+		Set<Integer> values = new HashSet<>();
+
+		// When
+		for (int i = 0; i < 30; i++) {
+			values.add(factory.create());
+		}
+
+		// Then
+		assertThat(created.get()).isEqualTo(3);
+		assertThat(values).containsExactlyInAnyOrder(1, 2, 3);
+		assertThat(factory.getPoolSize()).isEqualTo(3);
+	}
+
+	@Test
+	public void consecutiveValuesShouldDiffer() {
+		// Given
+		Factory<Integer> twoValues = () -> created.incrementAndGet() % 2;
+		PooledFactory<Integer> factory = new PooledFactory<>(twoValues, 8, false);
+
+		// When
+		Integer previous = factory.create();
+		for (int i = 0; i < 20; i++) {
+			Integer value = factory.create();
+
+			// Then
+			assertThat(value).isNotEqualTo(previous);
+			previous = value;
+		}
+		assertThat(factory.getPoolSize()).isEqualTo(2);
+	}
+
+	@Test
+	public void shouldUseDelegateWhenTooFewDistinctValues() {
+		// Given
+		PooledFactory<String> factory = new PooledFactory<>(() -> "same", 4, false);
+
+		// When
+		factory.create();
+
+		// Then
+		assertThat(factory.getPoolSize()).isEqualTo(0);
+		assertThat(factory.create()).isEqualTo("same");
+	}
+
+	@Test
+	public void shouldFillPoolInBackgroundWithCallersServiceContext() throws Exception {
+		// Given
+		Factory<Object> needsContext = () -> FactoryCollection.getInstance().getFactory(String.class).create();
+
+		// When
+		PooledFactory<Object> factory = new PooledFactory<>(needsContext, 10, true);
+		for (int wait = 0; wait < 500 && factory.getPoolSize() == 0; wait++) {
+			Thread.sleep(10);
+		}
+
+		// Then
+		assertThat(factory.getPoolSize()).isEqualTo(10);
+		assertThat(factory.create()).isInstanceOf(String.class);
+	}
+
+	@Test
+	public void shouldPreventPoolsTooSmallToAlternate() {
+		assertThatThrownBy(() -> new PooledFactory<>(countingFactory, 1, false))
+				.isInstanceOf(IllegalArgumentException.class);
+	}
+}
@@ -0,0 +1,120 @@
+/*-
+ * ​​​
+ * meanbean
+ * ⁣⁣⁣
+ * Copyright (C) 2010 - 2020 the original author or authors.
+ * ⁣⁣⁣
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * ﻿﻿﻿﻿﻿
+ */
+
+package org.meanbean.factories.basic;
+
+import org.junit.Test;
+import org.meanbean.factories.SizeDistribution;
+import org.meanbean.factories.basic.FastStringFactory.Alphabet;
+import org.meanbean.lang.Factory;
+import org.meanbean.test.BeanTesterBuilder;
+import org.meanbean.util.RandomValueGenerator;
+import org.meanbean.util.SimpleRandomValueGenerator;
+
+import java.util.HashSet;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class FastStringFactoryTest extends BasicFactoryTestBase<String> {
+
+	@Override
+	protected Factory<String> createFactory(RandomValueGenerator randomValueGenerator) {
+		return new FastStringFactory(randomValueGenerator);
+	}
+
+	@Override
+	protected RandomValueGenerator createRandomNumberGenerator() {
+		return new SimpleRandomValueGenerator();
+	}
+
+	@Test
+	public void distinctStringsShouldNeverRepeat() {
+		// Given
+		Factory<String> factory = new FastStringFactory(createRandomNumberGenerator(), SizeDistribution.uniform(1),
+		        Alphabet.ASCII, true);
+		Set<String> created = new HashSet<>();
+
+		// When
+		for (int i = 0; i < 100_000; i++) {
+			created.add(factory.create());
+		}
+
+		// Then
+		assertThat(created).hasSize(100_000);
+	}
+
+	@Test
+	public void asciiStringsShouldHaveChosenLengthAndPrintableChars() {
+		// Given
+		Factory<String> factory = new FastStringFactory(createRandomNumberGenerator(),
+		        SizeDistribution.withOccasionalLarge(1, 37, 1.0), Alphabet.ASCII, false);
+
+		// When
+		String value = factory.create();
+
+		// Then
+		assertThat(value).hasSize(37);
+		assertThat(value.chars()).allMatch(c -> c >= ' ' && c <= '~');
+	}
+
+	@Test
+	public void bmpStringsShouldNotContainSurrogates() {
+		Factory<String> factory = new FastStringFactory(createRandomNumberGenerator(),
+		        SizeDistribution.withOccasionalLarge(1, 10_000, 1.0), Alphabet.BMP, false);
+
+		assertThat(factory.create().chars()).noneMatch(c -> c >= Character.MIN_SURROGATE && c <= Character.MAX_SURROGATE);
+	}
+
+	@Test
+	public void surrogatePairStringsShouldBeWellFormed() {
+		// Given
+		Factory<String> factory = new FastStringFactory(createRandomNumberGenerator(),
+		        SizeDistribution.withOccasionalLarge(1, 1001, 1.0), Alphabet.SURROGATE_PAIRS, false);
+
+		// When
+		String value = factory.create();
+
+		// Then
+		assertThat(value).hasSize(1001);
+		assertThat(value.codePointCount(0, value.length())).isEqualTo(501);
+		assertThat(value.codePoints().limit(500)).allMatch(Character::isSupplementaryCodePoint);
+	}
+
+	@Test
+	public void largeStringsShouldNotAffectLaterStrings() {
+		Factory<String> factory = new FastStringFactory(createRandomNumberGenerator(),
+		        SizeDistribution.withOccasionalLarge(4, 1_000_000, 0.5), Alphabet.ASCII, false);
+
+		for (int i = 0; i < 20; i++) {
+			assertThat(factory.create().length()).isIn(0, 1, 2, 3, 1_000_000);
+		}
+	}
+
+	@Test
+	public void beanTesterBuilderShouldRegisterFastStringFactoryOnRequest() {
+		BeanTesterBuilder builder = BeanTesterBuilder.newBeanTesterBuilder();
+
+		assertThat(builder.setFastStringFactory(true).getFactoryCollection().<String> getFactory(String.class))
+		        .isInstanceOf(FastStringFactory.class);
+		assertThat(builder.setFastStringFactory(false).getFactoryCollection().<String> getFactory(String.class))
+		        .isInstanceOf(StringFactory.class);
+	}
+}
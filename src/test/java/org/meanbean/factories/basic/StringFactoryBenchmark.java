@@ -0,0 +1,77 @@
+/*-
+ * ​​​
+ * meanbean
+ * ⁣⁣⁣
+ * Copyright (C) 2010 - 2020 the original author or authors.
+ * ⁣⁣⁣
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * ﻿﻿﻿﻿﻿
+ */
+
+package org.meanbean.factories.basic;
+
+import org.meanbean.factories.SizeDistribution;
+import org.meanbean.factories.basic.FastStringFactory.Alphabet;
+import org.meanbean.lang.Factory;
+import org.meanbean.util.SimpleRandomValueGenerator;
+
+/**
+ * Compares the per-String cost of the default StringFactory against FastStringFactory with several alphabets.
+ * 
+ * This is not a unit test; run it manually, e.g. from the IDE or with
+ * <code>java -cp target/classes:target/test-classes org.meanbean.factories.basic.StringFactoryBenchmark</code>.
+ */
+public class StringFactoryBenchmark {
+
+	private static final int WARMUP_ROUNDS = 5;
+
+	private static final int MEASURED_ROUNDS = 5;
+
+	private static final int INVOCATIONS = 2_000_000;
+
+	private static Object sink;
+
+	public static void main(String[] args) {
+		SimpleRandomValueGenerator random = new SimpleRandomValueGenerator();
+		report("StringFactory", new StringFactory(random));
+		report("Fast ASCII", new FastStringFactory(random));
+		report("Fast BMP", new FastStringFactory(random, SizeDistribution.uniform(24), Alphabet.BMP, true));
+		report("Fast pairs", new FastStringFactory(random, SizeDistribution.uniform(24), Alphabet.SURROGATE_PAIRS, true));
+		report("Fast ASCII long", new FastStringFactory(random, SizeDistribution.uniform(4096), Alphabet.ASCII, true));
+	}
+
+	private static void report(String label, Factory<String> factory) {
+		for (int round = 0; round < WARMUP_ROUNDS; round++) {
+			measure(factory);
+		}
+		double best = Double.MAX_VALUE;
+		for (int round = 0; round < MEASURED_ROUNDS; round++) {
+			best = Math.min(best, measure(factory));
+		}
+		System.out.printf("%-16s %8.2f ns/op%n", label, best);
+	}
+
+	/**
+	 * @return The mean time, in nanoseconds, to create one String.
+	 */
+	private static double measure(Factory<String> factory) {
+		Object last = null;
+		long start = System.nanoTime();
+		for (int i = 0; i < INVOCATIONS; i++) {
+			last = factory.create();
+		}
+		long elapsed = System.nanoTime() - start;
+		sink = last;
+		return (double) elapsed / INVOCATIONS;
+	}
+}
@@ -0,0 +1,226 @@
+/*-
+ * ​​​
+ * meanbean
+ * ⁣⁣⁣
+ * Copyright (C) 2010 - 2020 the original author or authors.
+ * ⁣⁣⁣
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * ﻿﻿﻿﻿﻿
+ */
+
+package org.meanbean.factories.beans;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.meanbean.bean.info.JavaBeanInformationFactory;
+import org.meanbean.factories.FactoryRepository;
+import org.meanbean.factories.util.BasicFactoryLookupStrategy;
+import org.meanbean.factories.util.FactoryLookupStrategy;
+import org.meanbean.test.BeanVerifier;
+import org.meanbean.test.Configuration;
+import org.meanbean.test.ConfigurationBuilder;
+import org.meanbean.util.ServiceFactory;
+import org.meanbean.util.SimpleRandomValueGenerator;
+
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class PopulatedBeanFactoryTest {
+
+	private FactoryLookupStrategy factoryLookupStrategy;
+
+	@Before
+	public void before() {
+		ServiceFactory.createContext(this);
+		factoryLookupStrategy = new BasicFactoryLookupStrategy(new FactoryRepository(), new SimpleRandomValueGenerator());
+	}
+
+	@Test
+	public void mutuallyReferencingBeansShouldBePopulatedToMaxDepth() throws Exception {
+		// Given
+		Configuration configuration = new ConfigurationBuilder().objectGraphLimits(3, 100, false).build();
+		PopulatedBeanFactory factory = newFactory(Husband.class, configuration);
+
+		// When
+		Husband husband = (Husband) factory.create();
+
+		// Then
+		assertThat(husband.getName()).isNotNull();
+		assertThat(husband.getWife().getName()).isNotNull();
+		assertThat(husband.getWife().getHusband().getName()).isNotNull();
+		Wife unpopulated = husband.getWife().getHusband().getWife();
+		assertThat(unpopulated).isNotNull();
+		assertThat(unpopulated.getName()).isNull();
+		assertThat(unpopulated.getHusband()).isNull();
+		assertThat(factory.getGraphMetrics().getDeepestGraph()).isEqualTo(3);
+		assertThat(factory.getGraphMetrics().getTruncatedNodeCount()).isGreaterThan(0);
+	}
+
+	@Test
+	public void mutuallyReferencingBeansShouldBeReusedWithinGraph() throws Exception {
+		// Given
+		Configuration configuration = new ConfigurationBuilder().objectGraphLimits(3, 100, true).build();
+		PopulatedBeanFactory factory = newFactory(Husband.class, configuration);
+		factory.create();
+
+		// When
+		Husband husband = (Husband) factory.create();
+
+		// Then
+		assertThat(husband.getWife().getHusband()).isSameAs(husband);
+		assertThat(husband.getWife().getName()).isNotNull();
+		assertThat(factory.getGraphMetrics().getReusedInstanceCount()).isGreaterThan(0);
+		assertThat(factory.create()).isNotSameAs(husband);
+	}
+
+	@Test
+	public void graphShouldBeLimitedToMaxNodes() throws Exception {
+		// Given
+		Configuration configuration = new ConfigurationBuilder().objectGraphLimits(10, 2, false).build();
+		PopulatedBeanFactory factory = newFactory(Household.class, configuration);
+		factory.create();
+
+		// When
+		Household household = (Household) factory.create();
+
+		// Then
+		assertThat(Stream.of(household.getFirst(), household.getSecond(), household.getThird()))
+				.doesNotContainNull()
+				.filteredOn(member -> member.getName() != null)
+				.hasSize(1);
+		assertThat(factory.getGraphMetrics().getGraphCount()).isEqualTo(2);
+		assertThat(factory.getGraphMetrics().getLargestGraph()).isGreaterThanOrEqualTo(4);
+	}
+
+	@Test
+	public void firstGraphShouldNotContainBeansCreatedToTestNestedFactories() throws Exception {
+		// Given
+		Configuration configuration = new ConfigurationBuilder().objectGraphLimits(10, 100, false).build();
+		PopulatedBeanFactory factory = newFactory(Household.class, configuration);
+
+		// When
+		factory.create();
+
+		// Then
+		assertThat(factory.getGraphMetrics().getGraphCount()).isEqualTo(1);
+		assertThat(factory.getGraphMetrics().getNodeCount()).isEqualTo(4);
+		assertThat(factory.getGraphMetrics().getTruncatedNodeCount()).isZero();
+	}
+
+	@Test
+	public void verifierShouldTestMutuallyReferencingBeans() throws Exception {
+		BeanVerifier.forClass(Husband.class)
+				.editSettings()
+				.setObjectGraphLimits(4, 50, true)
+				.edited()
+				.verifyGettersAndSetters();
+	}
+
+	private PopulatedBeanFactory newFactory(Class<?> beanClass, Configuration configuration) {
+		return new PopulatedBeanFactory(new JavaBeanInformationFactory().create(beanClass), factoryLookupStrategy,
+				configuration);
+	}
+
+	public static class Husband {
+
+		private String name;
+
+		private Wife wife;
+
+		public String getName() {
+			return name;
+		}
+
+		public void setName(String name) {
+			this.name = name;
+		}
+
+		public Wife getWife() {
+			return wife;
+		}
+
+		public void setWife(Wife wife) {
+			this.wife = wife;
+		}
+	}
+
+	public static class Wife {
+
+		private String name;
+
+		private Husband husband;
+
+		public String getName() {
+			return name;
+		}
+
+		public void setName(String name) {
+			this.name = name;
+		}
+
+		public Husband getHusband() {
+			return husband;
+		}
+
+		public void setHusband(Husband husband) {
+			this.husband = husband;
+		}
+	}
+
+	public static class Household {
+
+		private Member first;
+
+		private Member second;
+
+		private Member third;
+
+		public Member getFirst() {
+			return first;
+		}
+
+		public void setFirst(Member first) {
+			this.first = first;
+		}
+
+		public Member getSecond() {
+			return second;
+		}
+
+		public void setSecond(Member second) {
+			this.second = second;
+		}
+
+		public Member getThird() {
+			return third;
+		}
+
+		public void setThird(Member third) {
+			this.third = third;
+		}
+	}
+
+	public static class Member {
+
+		private String name;
+
+		public String getName() {
+			return name;
+		}
+
+		public void setName(String name) {
+			this.name = name;
+		}
+	}
+}
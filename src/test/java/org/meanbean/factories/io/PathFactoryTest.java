@@ -0,0 +1,153 @@
+/*-
+ * ​​​
+ * meanbean
+ * ⁣⁣⁣
+ * Copyright (C) 2010 - 2020 the original author or authors.
+ * ⁣⁣⁣
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * ﻿﻿﻿﻿﻿
+ */
+
+package org.meanbean.factories.io;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+import org.meanbean.factories.FactoryCollection;
+import org.meanbean.factories.SimpleFactoryCollection;
+import org.meanbean.factories.basic.BasicFactoryTestBase;
+import org.meanbean.lang.Factory;
+import org.meanbean.test.BeanVerifier;
+import org.meanbean.util.RandomValueGenerator;
+import org.meanbean.util.SimpleRandomValueGenerator;
+
+import java.io.File;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.HashSet;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+public class PathFactoryTest extends BasicFactoryTestBase<Path> {
+
+	@Rule
+	public TemporaryFolder temporaryFolder = new TemporaryFolder();
+
+	@Override
+	protected Factory<Path> createFactory(RandomValueGenerator randomValueGenerator) {
+		return new PathFactory(randomValueGenerator);
+	}
+
+	@Override
+	protected RandomValueGenerator createRandomNumberGenerator() {
+		return new SimpleRandomValueGenerator();
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void constructorShouldPreventNullRoot() throws Exception {
+		new PathFactory(createRandomNumberGenerator(), null, false);
+	}
+
+	@Test
+	public void inMemoryPathsShouldBeUniqueChildrenOfVirtualRoot() throws Exception {
+		// Given
+		Path root = Paths.get("does", "not", "exist");
+		RandomValueGenerator randomValueGenerator = mock(RandomValueGenerator.class);
+		when(randomValueGenerator.nextLong()).thenReturn(42L);
+		PathFactory factory = new PathFactory(randomValueGenerator, root, false);
+		Set<Path> created = new HashSet<>();
+
+		// When
+		for (int i = 0; i < 1000; i++) {
+			created.add(factory.create());
+		}
+
+		// Then
+		assertThat(created).hasSize(1000);
+		assertThat(created).allSatisfy(path -> {
+			assertThat(path.getParent()).isEqualTo(root);
+			assertThat(path.getFileName().toString()).startsWith(PathFactory.PREFIX).endsWith(PathFactory.SUFFIX);
+		});
+		assertThat(root).doesNotExist();
+	}
+
+	@Test
+	public void onDiskPathsShouldBeReservedInRootAndDeleted() throws Exception {
+		// Given
+		Path root = temporaryFolder.getRoot().toPath();
+		PathFactory factory = new PathFactory(createRandomNumberGenerator(), root, true);
+
+		// When
+		Path path = factory.create();
+
+		// Then
+		assertThat(path.getParent()).isEqualTo(root);
+		assertThat(path).doesNotExist();
+	}
+
+	@Test
+	public void registerShouldRegisterPathAndFileFactories() throws Exception {
+		// Given
+		FactoryCollection factoryCollection = new SimpleFactoryCollection();
+		Path root = Paths.get("virtual");
+
+		// When
+		FileFactory.register(factoryCollection, new PathFactory(createRandomNumberGenerator(), root, false));
+
+		// Then
+		Path path = factoryCollection.<Path> getFactory(Path.class).create();
+		File file = factoryCollection.<File> getFactory(File.class).create();
+		assertThat(path.getParent()).isEqualTo(root);
+		assertThat(file.getParentFile()).isEqualTo(root.toFile());
+		assertThat(Files.exists(root)).isFalse();
+	}
+
+	@Test
+	public void verifierShouldUseConfiguredRoot() throws Exception {
+		Path root = Paths.get("virtual");
+		BeanVerifier.forClass(FileBean.class)
+				.editSettings()
+				.setPathFactory(root, false)
+				.edited()
+				.verifyGettersAndSetters();
+	}
+
+	public static class FileBean {
+
+		private Path path;
+
+		private File file;
+
+		public Path getPath() {
+			return path;
+		}
+
+		public void setPath(Path path) {
+			assertThat(path.getParent()).isEqualTo(Paths.get("virtual"));
+			this.path = path;
+		}
+
+		public File getFile() {
+			return file;
+		}
+
+		public void setFile(File file) {
+			assertThat(file.getParentFile()).isEqualTo(new File("virtual"));
+			this.file = file;
+		}
+	}
+}
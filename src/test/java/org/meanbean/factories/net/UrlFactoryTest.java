@@ -0,0 +1,85 @@
+/*-
+ * ​​​
+ * meanbean
+ * ⁣⁣⁣
+ * Copyright (C) 2010 - 2020 the original author or authors.
+ * ⁣⁣⁣
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * ﻿﻿﻿﻿﻿
+ */
+
+package org.meanbean.factories.net;
+
+import org.junit.Test;
+import org.meanbean.util.RandomValueGenerator;
+
+import java.net.URI;
+import java.net.URL;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Matchers.anyInt;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+public class UrlFactoryTest {
+
+	private static final long RANDOM_LONG = 0x123456789L;
+
+	@Test
+	public void createShouldDeriveUrlFromRandomValueGenerator() throws Exception {
+		// Given
+		UrlFactory urlFactory = new UrlFactory(fixedRandomValueGenerator(1));
+
+		// When
+		URL url = urlFactory.create();
+
+		// Then
+		assertThat(url.toString()).isEqualTo("https://h" + Long.toString(RANDOM_LONG >>> 1, 36) + ".invalid/foo?a=b");
+	}
+
+	@Test
+	public void createUriShouldDeriveUriFromRandomValueGenerator() throws Exception {
+		// Given
+		UrlFactory urlFactory = new UrlFactory(fixedRandomValueGenerator(0));
+
+		// When
+		URI uri = urlFactory.createUri();
+
+		// Then
+		assertThat(uri).isEqualTo(new URI("http://h" + Long.toString(RANDOM_LONG >>> 1, 36) + ".example"));
+	}
+
+	@Test
+	public void createShouldProduceValidHostsForAnyRandomLong() throws Exception {
+		// Given
+		RandomValueGenerator randomValueGenerator = fixedRandomValueGenerator(0);
+		when(randomValueGenerator.nextLong()).thenReturn(-1L, Long.MIN_VALUE, 0L);
+		UrlFactory urlFactory = new UrlFactory(randomValueGenerator);
+
+		for (int i = 0; i < 3; i++) {
+			// When
+			URL url = urlFactory.create();
+
+			// Then
+			assertThat(new URI(url.toString()).getHost()).isEqualTo(url.getHost()).startsWith("h");
+		}
+	}
+
+	private static RandomValueGenerator fixedRandomValueGenerator(int index) {
+		RandomValueGenerator randomValueGenerator = mock(RandomValueGenerator.class);
+		when(randomValueGenerator.nextInt(anyInt())).thenReturn(index);
+		when(randomValueGenerator.nextInt(1)).thenReturn(0);
+		when(randomValueGenerator.nextLong()).thenReturn(RANDOM_LONG);
+		return randomValueGenerator;
+	}
+}
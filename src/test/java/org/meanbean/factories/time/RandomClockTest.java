@@ -21,17 +21,23 @@
 package org.meanbean.factories.time;
 
 import org.junit.Test;
+import org.meanbean.util.RandomValueGenerator;
 import org.meanbean.util.SimpleRandomValueGenerator;
 
 import java.time.Instant;
+import java.time.OffsetDateTime;
 import java.time.ZoneId;
 import java.time.ZoneOffset;
+import java.time.ZonedDateTime;
 import java.util.List;
 import java.util.function.Supplier;
 import java.util.stream.Collectors;
 import java.util.stream.IntStream;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Matchers.anyInt;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
 
 public class RandomClockTest {
 
@@ -55,6 +61,47 @@ public class RandomClockTest {
 				.hasSize(10);
 	}
 
+	@Test
+	public void zonedDateTimeShouldMatchNow() {
+		// Given
+		RandomClock clock1 = new RandomClock(fixedRandomValueGenerator());
+		RandomClock clock2 = new RandomClock(fixedRandomValueGenerator());
+
+		// When
+		ZonedDateTime zonedDateTime = clock1.zonedDateTime();
+
+		// Then
+		assertThat(zonedDateTime).isEqualTo(ZonedDateTime.now(clock2));
+	}
+
+	@Test
+	public void offsetDateTimeShouldMatchNow() {
+		// Given
+		RandomClock clock1 = new RandomClock(fixedRandomValueGenerator());
+		RandomClock clock2 = new RandomClock(fixedRandomValueGenerator());
+
+		// When
+		OffsetDateTime offsetDateTime = clock1.offsetDateTime();
+
+		// Then
+		assertThat(offsetDateTime).isEqualTo(OffsetDateTime.now(clock2));
+	}
+
+	@Test
+	public void zoneCatalogShouldContainAllAvailableZones() {
+		assertThat(IntStream.range(0, ZoneCatalog.getZoneCount()).mapToObj(ZoneCatalog::getZoneId))
+				.extracting(ZoneId::getId)
+				.containsOnlyElementsOf(ZoneId.getAvailableZoneIds())
+				.hasSize(ZoneId.getAvailableZoneIds().size());
+	}
+
+	@Test
+	public void zoneCatalogShouldContainWholeMinuteOffsets() {
+		assertThat(ZoneCatalog.getZoneOffset(0)).isEqualTo(ZoneOffset.MIN);
+		assertThat(ZoneCatalog.getZoneOffset(ZoneCatalog.getZoneOffsetCount() - 1)).isEqualTo(ZoneOffset.MAX);
+		assertThat(ZoneCatalog.getZoneOffset(ZoneCatalog.getZoneOffsetCount() / 2)).isEqualTo(ZoneOffset.UTC);
+	}
+
 	@Test(expected = UnsupportedOperationException.class)
 	public void testWithZone() {
 		randomClock.withZone(ZoneOffset.UTC);
@@ -67,6 +114,13 @@ public class RandomClockTest {
 				.collect(Collectors.toList());
 	}
 
+	private static RandomValueGenerator fixedRandomValueGenerator() {
+		RandomValueGenerator randomValueGenerator = mock(RandomValueGenerator.class);
+		when(randomValueGenerator.nextLong()).thenReturn(1_234_567_890_123L);
+		when(randomValueGenerator.nextInt(anyInt())).thenReturn(7);
+		return randomValueGenerator;
+	}
+
 	private boolean isValidZone(ZoneId zoneId) {
 		return ZoneId.getAvailableZoneIds().contains(zoneId.getId());
 	}
@@ -33,16 +33,24 @@ import org.meanbean.factories.NoSuchFactoryException;
 import org.meanbean.factories.basic.EnumFactory;
 import org.meanbean.factories.basic.StringFactory;
 import org.meanbean.factories.util.BasicFactoryLookupStrategy;
+import org.meanbean.factories.util.BasicFactoryLookupStrategy.DynamicFactoryKey;
 import org.meanbean.factories.util.FactoryLookupStrategy;
 import org.meanbean.lang.Factory;
 import org.meanbean.test.beans.NonBean;
 import org.meanbean.test.beans.NullFactory;
 import org.meanbean.util.RandomValueGenerator;
+import org.meanbean.util.ServiceFactory;
 import org.meanbean.util.SimpleRandomValueGenerator;
 import org.mockito.Mock;
 import org.mockito.runners.MockitoJUnitRunner;
 
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.hamcrest.Matchers.equalTo;
 import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.not;
+import static org.hamcrest.Matchers.sameInstance;
 import static org.junit.Assert.assertThat;
 
 @RunWith(MockitoJUnitRunner.class)
@@ -67,6 +75,7 @@ public class BasicFactoryLookupStrategyTest {
 
 	@Before
 	public void before() {
+		ServiceFactory.createContext(this);
 		randomValueGenerator = new SimpleRandomValueGenerator();
 		factoryCollection = new FactoryRepository();
 		factoryLookupStrategy = new BasicFactoryLookupStrategy(factoryCollection, randomValueGenerator);
@@ -168,10 +177,91 @@ public class BasicFactoryLookupStrategyTest {
 		assertThat("Incorrect factory.", factory.getClass().getName(), is(NullFactory.class.getName()));
 	}
 
+	@Test
+	public void getFactoryShouldReuseDynamicallyCreatedFactory() throws Exception {
+		// Given
+		PropertyInformationBean propertyInformationBean = new PropertyInformationBean();
+		propertyInformationBean.setName(PROPERTY_NAME);
+		propertyInformationBean.setReadMethodReturnType(CountingBean.class);
+		Configuration configuration = new ConfigurationBuilder().build();
+		Factory<?> factory = factoryLookupStrategy.getFactory(beanInformationReal, propertyInformationBean, configuration);
+		int instances = CountingBean.instances.get();
+
+		// When
+		Factory<?> cachedFactory = factoryLookupStrategy.getFactory(beanInformationReal, propertyInformationBean, configuration);
+
+		// Then
+		assertThat("Factory should be reused.", cachedFactory, is(sameInstance(factory)));
+		assertThat("No trial instance should be created.", CountingBean.instances.get(), is(instances));
+		Map<DynamicFactoryKey, Factory<?>> dynamicFactories =
+				((BasicFactoryLookupStrategy) factoryLookupStrategy).getDynamicFactories();
+		assertThat(dynamicFactories.size(), is(1));
+		DynamicFactoryKey key = dynamicFactories.keySet().iterator().next();
+		assertThat(key.getBeanClass(), is(equalTo((Object) BasicBean.class)));
+		assertThat(key.getPropertyName(), is(PROPERTY_NAME));
+		assertThat(key.getPropertyType(), is(equalTo((Object) CountingBean.class)));
+		assertThat(dynamicFactories.get(key), is(sameInstance(factory)));
+	}
+
+	@Test
+	public void getFactoryShouldNotShareDynamicallyCreatedFactoryBetweenConfigurations() throws Exception {
+		// Given
+		PropertyInformationBean propertyInformationBean = new PropertyInformationBean();
+		propertyInformationBean.setName(PROPERTY_NAME);
+		propertyInformationBean.setReadMethodReturnType(CountingBean.class);
+		Configuration configuration = new ConfigurationBuilder().build();
+		Configuration otherConfiguration = new ConfigurationBuilder().build();
+
+		// When
+		Factory<?> factory1 = factoryLookupStrategy.getFactory(beanInformationReal, propertyInformationBean,
+				otherConfiguration);
+		Factory<?> factory2 = factoryLookupStrategy.getFactory(beanInformationReal, propertyInformationBean, configuration);
+
+		// Then
+		assertThat(factory1, is(not(sameInstance(factory2))));
+	}
+
+	@Test
+	public void getFactoryShouldPreferFactoryRegisteredAfterDynamicCreation() throws Exception {
+		// Given
+		PropertyInformationBean propertyInformationBean = new PropertyInformationBean();
+		propertyInformationBean.setName(PROPERTY_NAME);
+		propertyInformationBean.setReadMethodReturnType(CountingBean.class);
+		Configuration configuration = new ConfigurationBuilder().build();
+		factoryLookupStrategy.getFactory(beanInformationReal, propertyInformationBean, configuration);
+		Factory<CountingBean> registered = CountingBean::new;
+		factoryCollection.addFactory(CountingBean.class, registered);
+
+		// When
+		Factory<?> factory = factoryLookupStrategy.getFactory(beanInformationReal, propertyInformationBean, configuration);
+
+		// Then
+		assertThat(factory, is(sameInstance((Object) registered)));
+	}
+
 	public enum Color {
 		RED, BLUE, GREEN
 	}
 
 	public static class BasicBean {
 	}
+
+	public static class CountingBean {
+
+		static final AtomicInteger instances = new AtomicInteger();
+
+		private String name;
+
+		public CountingBean() {
+			instances.incrementAndGet();
+		}
+
+		public String getName() {
+			return name;
+		}
+
+		public void setName(String name) {
+			this.name = name;
+		}
+	}
 }
@@ -34,7 +34,9 @@ import org.junit.Before;
 import org.junit.Test;
 import org.meanbean.bean.info.BeanInformation;
 import org.meanbean.bean.info.JavaBeanInformationFactory;
+import org.meanbean.bean.info.PrimitivePropertyAccessor;
 import org.meanbean.bean.info.PropertyInformation;
+import org.meanbean.lang.PrimitiveFactory;
 import org.meanbean.test.internal.EqualityTest;
 
 public class BeanPropertyTesterTest {
@@ -137,6 +139,46 @@ public class BeanPropertyTesterTest {
 		beanPropertyTester.testProperty(bean, firstNameProperty, TEST_VALUE, EqualityTest.ABSOLUTE);
 	}
 
+	@Test
+	public void testPrimitivePropertyShouldNotThrowAssertionErrorWhenTestPasses() throws Exception {
+		PrimitivePropertyAccessor accessor = primitiveAccessor("score");
+		PrimitiveClass primitiveBean = new PrimitiveClass();
+
+		beanPropertyTester.testPrimitiveProperty(primitiveBean, accessor, (PrimitiveFactory.OfInt) () -> 12);
+
+		assertThat(primitiveBean.getScore(), is(12));
+	}
+
+	@Test
+	public void testPrimitivePropertyShouldThrowAssertionErrorWhenTestFails() throws Exception {
+		AssertionError error = null;
+		try {
+			beanPropertyTester.testPrimitiveProperty(new PrimitiveClass(), primitiveAccessor("level"),
+			        (PrimitiveFactory.OfInt) () -> 12);
+		} catch (AssertionError e) {
+			error = e;
+		}
+		assertThat("AssertionError was not thrown when it should have been.", error, is(not(nullValue())));
+		assertThat("Incorrect message in AssertionError.", error.getMessage(),
+		        is("Property [level] getter did not return test value. Expected [12] but getter returned [0]."));
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void testPrimitivePropertyShouldPreventFactoryOfOtherType() throws Exception {
+		beanPropertyTester.testPrimitiveProperty(new PrimitiveClass(), primitiveAccessor("score"),
+		        (PrimitiveFactory.OfLong) () -> 12L);
+	}
+
+	private PrimitivePropertyAccessor primitiveAccessor(String propertyName) {
+		BeanInformation beanInformation = new JavaBeanInformationFactory().create(PrimitiveClass.class);
+		for (PropertyInformation property : beanInformation.getProperties()) {
+			if (property.getName().equals(propertyName)) {
+				return PrimitivePropertyAccessor.of(property);
+			}
+		}
+		throw new IllegalArgumentException(propertyName);
+	}
+
 	@Test
 	public void typesAreCompatibleShouldReturnFalseWhenTypesAreNotCompatible() throws Exception {
 		beanPropertyTester.typesAreCompatible(String.class, Long.class);
@@ -152,6 +194,27 @@ public class BeanPropertyTesterTest {
 		beanPropertyTester.typesAreCompatible(double.class, Double.class);
 	}
 
+	public static class PrimitiveClass {
+
+		private int score;
+
+		public int getScore() {
+			return score;
+		}
+
+		public void setScore(int score) {
+			this.score = score;
+		}
+
+		public int getLevel() {
+			return 0;
+		}
+
+		public void setLevel(int level) {
+			// discards the value
+		}
+	}
+
 	static class SimpleClass {
 
 		private String firstName;
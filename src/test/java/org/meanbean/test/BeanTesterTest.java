@@ -27,7 +27,9 @@ import org.meanbean.bean.info.BeanInformation;
 import org.meanbean.bean.info.BeanInformationFactory;
 import org.meanbean.bean.info.JavaBeanInformationFactory;
 import org.meanbean.factories.FactoryCollection;
+import org.meanbean.factories.util.FactoryLookupStrategy;
 import org.meanbean.lang.Factory;
+import org.meanbean.test.BeanTestReport.PropertyClassification;
 import org.meanbean.test.beans.ArrayPropertyBeanWithConstructor;
 import org.meanbean.test.beans.Bean;
 import org.meanbean.test.beans.ComplexBean;
@@ -37,9 +39,14 @@ import org.meanbean.util.ServiceFactory;
 import org.mockito.Mock;
 import org.mockito.runners.MockitoJUnitRunner;
 
+import java.util.ArrayList;
 import java.util.Date;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import static org.assertj.core.api.Assertions.assertThatCode;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.greaterThan;
 import static org.hamcrest.Matchers.is;
 import static org.hamcrest.Matchers.not;
 import static org.hamcrest.Matchers.nullValue;
@@ -179,6 +186,122 @@ public class BeanTesterTest {
 		beanTester.testBean(ArrayPropertyBeanWithConstructor.class);
 	};
 
+	@Test
+	public void testBeanShouldLookUpEachFactoryOnceForAllIterations() throws Exception {
+		// Given
+		FactoryLookupStrategy delegate = FactoryLookupStrategy.getInstance();
+		AtomicInteger lookups = new AtomicInteger();
+		FactoryLookupStrategy countingLookupStrategy = (beanInformation, property, configuration) -> {
+			lookups.incrementAndGet();
+			return delegate.getFactory(beanInformation, property, configuration);
+		};
+		BeanTester beanTester = new BeanTester(RandomValueGenerator.getInstance(), FactoryCollection.getInstance(),
+				countingLookupStrategy, beanInformationFactory, new BeanPropertyTester(),
+				Configuration.defaultConfigurationProvider());
+
+		// When
+		beanTester.testBean(Bean.class, new ConfigurationBuilder().iterations(10).build());
+
+		// Then
+		assertThat(lookups.get(), is(1));
+	}
+
+	@Test
+	public void testBeanShouldReportIterationsAndTimings() throws Exception {
+		// Given
+		Configuration configuration = new ConfigurationBuilder().iterations(7).build();
+
+		// When
+		beanTester.testBean(ComplexBean.class, configuration);
+
+		// Then
+		BeanTestReport report = beanTester.getLastReport();
+		assertThat(report.getBeanClass(), is(equalTo(ComplexBean.class)));
+		assertThat(report.getIterations(), is(7));
+		assertThat(report.getPropertyCount(), is(5));
+		assertThat(report.getTotalNanos(), is(greaterThan(0L)));
+	}
+
+	@Test
+	public void testBeanShouldCallOverriddenTestBeanOncePerIterationSharingOnePlan() throws Exception {
+		// Given
+		List<BeanInformation> tested = new ArrayList<>();
+		BeanTester overridingBeanTester = new BeanTester() {
+			@Override
+			protected void testBean(BeanInformation beanInformation, Configuration configuration) {
+				tested.add(beanInformation);
+				super.testBean(beanInformation, configuration);
+			}
+		};
+
+		// When
+		overridingBeanTester.testBean(ComplexBean.class, new ConfigurationBuilder().iterations(4).build());
+
+		// Then
+		assertThat(tested.size(), is(4));
+		assertThat(overridingBeanTester.getLastReport().getIterations(), is(4));
+	}
+
+	@Test
+	public void testBeanShouldNotPublishReportOfFailingRun() throws Exception {
+		// Given
+		List<BeanInformation> tested = new ArrayList<>();
+		BeanTester failingBeanTester = new BeanTester() {
+			@Override
+			protected void testBean(BeanInformation beanInformation, Configuration configuration) {
+				super.testBean(beanInformation, configuration);
+				tested.add(beanInformation);
+				if (tested.size() == 3) {
+					throw new AssertionError("forced failure");
+				}
+			}
+		};
+
+		// When
+		assertThatCode(() -> failingBeanTester.testBean(ComplexBean.class,
+				new ConfigurationBuilder().iterations(5).build()))
+				.hasMessage("forced failure");
+
+		// Then
+		assertThat(failingBeanTester.getLastReport(), is(nullValue()));
+	}
+
+	@Test
+	public void getLastReportShouldReturnNullBeforeAnyTest() throws Exception {
+		assertThat(beanTester.getLastReport(), is(nullValue()));
+	}
+
+	@Test
+	public void testBeanShouldTestTrivialAccessorsOnceWhenConfigured() throws Exception {
+		// Given
+		Configuration configuration = new ConfigurationBuilder().iterations(10).testTrivialAccessorsOnce(true).build();
+
+		// When
+		beanTester.testBean(TrimmingBean.class, configuration);
+
+		// Then
+		BeanTestReport report = beanTester.getLastReport();
+		assertThat(report.getPropertyClassifications().get("name"), is(PropertyClassification.TRIVIAL));
+		assertThat(report.getPropertyClassifications().get("code"), is(PropertyClassification.NON_TRIVIAL));
+		assertThat(report.getPropertyTestCount(), is(11L));
+	}
+
+	@Test
+	public void testBeanShouldTestEveryPropertyInEveryIterationByDefault() throws Exception {
+		// When
+		beanTester.testBean(TrimmingBean.class, new ConfigurationBuilder().iterations(10).build());
+
+		// Then
+		BeanTestReport report = beanTester.getLastReport();
+		assertThat(report.getPropertyClassifications().get("name"), is(PropertyClassification.NOT_INSPECTED));
+		assertThat(report.getPropertyTestCount(), is(20L));
+	}
+
+	@Test
+	public void testBeanShouldTestPropertiesDeclaredWithInheritedTypeVariables() throws Exception {
+		beanTester.testBean(LongIdBean.class);
+	}
+
 	// TODO TEST COMBINATIONS WITH CONFIGURATIONS AND BEAN INFORMATIONS ETC
 
 	public static class BeanWithBadGetterMethod extends Bean {
@@ -195,6 +318,51 @@ public class BeanTesterTest {
 		}
 	}
 
+	public static class TrimmingBean {
+		private String name;
+		private String code;
+
+		public String getName() {
+			return name;
+		}
+
+		public void setName(String name) {
+			this.name = name;
+		}
+
+		public String getCode() {
+			return code;
+		}
+
+		public void setCode(String code) {
+			this.code = code == null ? null : code.trim();
+		}
+	}
+
+	public static class GenericIdBean<ID> {
+		private ID id;
+		private List<ID> related;
+
+		public ID getId() {
+			return id;
+		}
+
+		public void setId(ID id) {
+			this.id = id;
+		}
+
+		public List<ID> getRelated() {
+			return related;
+		}
+
+		public void setRelated(List<ID> related) {
+			this.related = related;
+		}
+	}
+
+	public static class LongIdBean extends GenericIdBean<Long> {
+	}
+
 	public static class BadComplexBean extends ComplexBean {
 		@Override
 		public String getLastName() {
@@ -21,6 +21,9 @@
 package org.meanbean.test;
 
 import org.junit.Test;
+import org.meanbean.bean.info.BeanInformationFactory;
+import org.meanbean.bean.info.JavaBeanInformationFactory;
+import org.meanbean.bean.info.MethodScanningBeanInformationFactory;
 import org.meanbean.test.beans.ArrayPropertyBeanWithConstructor;
 import org.meanbean.test.beans.Bean;
 import org.meanbean.test.beans.NonBean;
@@ -29,6 +32,9 @@ import org.meanbean.test.beans.domain.EmployeeId;
 import org.meanbean.test.beans.scan.ScanBean;
 import org.meanbean.util.RandomValueGenerator;
 
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatCode;
 import static org.mockito.Matchers.anyString;
 import static org.mockito.Mockito.atLeastOnce;
@@ -58,6 +64,37 @@ public class BeanVerifierTest {
 		BeanVerifier.verifyBeans(EmployeeId.class, Company.class);
 	}
 
+	@Test
+	public void verifyBeansShouldPreloadAccordingToSettings() {
+		// Given
+		AtomicInteger withoutPreload = new AtomicInteger();
+		AtomicInteger withPreload = new AtomicInteger();
+
+		// When
+		BeanVerifier.verifyBeans(settings -> settings.setPreloadParallelism(0)
+				.setBeanInformationFactory(countingBeanInformationFactory(withoutPreload)), EmployeeId.class, Bean.class);
+		BeanVerifier.verifyBeans(settings -> settings.setPreloadParallelism(1)
+				.setBeanInformationFactory(countingBeanInformationFactory(withPreload)), EmployeeId.class, Bean.class);
+
+		// Then
+		assertThat(withPreload.get()).isEqualTo(withoutPreload.get() + 2);
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void setPreloadParallelismShouldPreventNegativeParallelism() {
+		BeanVerifier.forClass(Bean.class)
+				.editSettings()
+				.setPreloadParallelism(-1);
+	}
+
+	private static BeanInformationFactory countingBeanInformationFactory(AtomicInteger count) {
+		BeanInformationFactory delegate = new JavaBeanInformationFactory();
+		return beanClass -> {
+			count.incrementAndGet();
+			return delegate.create(beanClass);
+		};
+	}
+
 	@Test
 	public void verifyJavaBean() {
 		BeanVerifier.forClass(Company.class)
@@ -96,6 +133,17 @@ public class BeanVerifierTest {
 		verify(company, atLeastOnce()).setCompanyNumber(anyString());
 	}
 
+	@Test
+	public void verifyJavaBeanEqualsHashCodeWithPooledFactory() {
+		BeanVerifier.forClass(Company.class)
+				.editSettings()
+				.registerPooledFactory(String.class, 16, true)
+				.addEqualsInsignificantProperty(Company::getId)
+				.edited()
+				.verifyGettersAndSetters()
+				.verifyEqualsAndHashCode();
+	}
+
 	@Test(expected = BeanTestException.class)
 	public void verifyJavaBeanFail() {
 		BeanVerifier.forClass(NonBean.class)
@@ -118,6 +166,19 @@ public class BeanVerifierTest {
 				.verifyEqualsAndHashCode();
 	}
 
+	@Test
+	public void verifyWithSelectedBeanInformationFactory() {
+		BeanInformationFactory beanInformationFactory = spy(new MethodScanningBeanInformationFactory());
+		BeanVerifier.forClass(Company.class)
+				.withSettings(settings -> settings.setBeanInformationFactory(beanInformationFactory))
+				.withSettings(settings -> settings.addEqualsInsignificantProperty(Company::getId))
+				.verifyGettersAndSetters()
+				.verifyEqualsAndHashCode()
+				.verifyToString();
+
+		verify(beanInformationFactory, atLeastOnce()).create(Company.class);
+	}
+
 	@Test
 	public void verifyCustomFactoriesFirst() {
 		verifyCustomFactory();
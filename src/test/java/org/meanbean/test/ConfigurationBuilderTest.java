@@ -55,6 +55,34 @@ public class ConfigurationBuilderTest {
 		new ConfigurationBuilder().iterations(-1);
 	}
 
+	@Test
+	public void objectGraphLimitsShouldSetLimitsOnConfiguration() throws Exception {
+		Configuration configuration = new ConfigurationBuilder().objectGraphLimits(3, 50, true).build();
+		assertThat("Max graph depth is wrong.", configuration.getMaxGraphDepth(), is(3));
+		assertThat("Max graph nodes is wrong.", configuration.getMaxGraphNodes(), is(50));
+		assertThat("Reuse graph instances is wrong.", configuration.isReuseGraphInstances(), is(true));
+	}
+
+	@Test
+	public void objectGraphLimitsShouldDefaultToConfigurationDefaults() throws Exception {
+		Configuration configuration = new ConfigurationBuilder().build();
+		assertThat("Max graph depth is wrong.", configuration.getMaxGraphDepth(),
+		        is(Configuration.DEFAULT_MAX_GRAPH_DEPTH));
+		assertThat("Max graph nodes is wrong.", configuration.getMaxGraphNodes(),
+		        is(Configuration.DEFAULT_MAX_GRAPH_NODES));
+		assertThat("Reuse graph instances is wrong.", configuration.isReuseGraphInstances(), is(false));
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void objectGraphLimitsShouldPreventZeroDepth() {
+		new ConfigurationBuilder().objectGraphLimits(0, 50, false);
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void objectGraphLimitsShouldPreventZeroNodes() {
+		new ConfigurationBuilder().objectGraphLimits(3, 0, false);
+	}
+
 	@Test
 	public void ignorePropertyShouldReturnTrueForPropertiesToIgnore() {
 		ConfigurationBuilder configurationBuilder = ConfigurationBuilderFactory.create();
@@ -136,7 +164,12 @@ public class ConfigurationBuilderTest {
 		expected.append("overrideFactories={");
 		expected.append(OVERRIDE_PROPERTY_1).append("=").append(OVERRIDE_FACTORY_1).append(", ");
 		expected.append(OVERRIDE_PROPERTY_2).append("=").append(OVERRIDE_FACTORY_2);
-		expected.append("}]");
+		expected.append("},");
+		expected.append("testTrivialAccessorsOnce=false,");
+		expected.append("maxGraphDepth=").append(Configuration.DEFAULT_MAX_GRAPH_DEPTH).append(",");
+		expected.append("maxGraphNodes=").append(Configuration.DEFAULT_MAX_GRAPH_NODES).append(",");
+		expected.append("reuseGraphInstances=false");
+		expected.append("]");
 		assertThat("Invalid toString.", configurationBuilder.toString(), is(expected.toString()));
 	}
 }
@@ -143,7 +143,11 @@ public class ConfigurationTest {
         expectedStringBuilder.append("Configuration[");
 		expectedStringBuilder.append("iterations=").append(VALID_ITERATIONS).append(",");
 		expectedStringBuilder.append("ignoredProperties=").append(POPULATED_IGNORED_PROPERTIES).append(",");
-		expectedStringBuilder.append("overrideFactories=").append(POPULATED_OVERRIDE_FACTORIES).append("]");
+		expectedStringBuilder.append("overrideFactories=").append(POPULATED_OVERRIDE_FACTORIES).append(",");
+		expectedStringBuilder.append("testTrivialAccessorsOnce=false,");
+		expectedStringBuilder.append("maxGraphDepth=").append(Configuration.DEFAULT_MAX_GRAPH_DEPTH).append(",");
+		expectedStringBuilder.append("maxGraphNodes=").append(Configuration.DEFAULT_MAX_GRAPH_NODES).append(",");
+		expectedStringBuilder.append("reuseGraphInstances=false").append("]");
         assertThat("Incorrect toString.", configuration.toString(), is(expectedStringBuilder.toString()));
     }
 
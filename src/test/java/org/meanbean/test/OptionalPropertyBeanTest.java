@@ -20,6 +20,7 @@
 
 package org.meanbean.test;
 
+import org.junit.Before;
 import org.junit.Test;
 import org.meanbean.bean.info.BeanInformation;
 import org.meanbean.bean.info.BeanInformationFactory;
@@ -27,6 +28,7 @@ import org.meanbean.bean.info.PropertyInformation;
 import org.meanbean.factories.OptionalFactoryLookup;
 import org.meanbean.factories.util.FactoryLookupStrategy;
 import org.meanbean.lang.Factory;
+import org.meanbean.util.ServiceFactory;
 
 import java.util.Collection;
 import java.util.List;
@@ -39,8 +41,15 @@ import static org.assertj.core.api.Assertions.assertThat;
 
 public class OptionalPropertyBeanTest {
 
-	private FactoryLookupStrategy factoryLookupStrategy = FactoryLookupStrategy.getInstance();
-	private BeanInformationFactory beanInformationFactory = BeanInformationFactory.getInstance();
+	private FactoryLookupStrategy factoryLookupStrategy;
+	private BeanInformationFactory beanInformationFactory;
+
+	@Before
+	public void before() {
+		ServiceFactory.createContext(this);
+		factoryLookupStrategy = FactoryLookupStrategy.getInstance();
+		beanInformationFactory = BeanInformationFactory.getInstance();
+	}
 
 	@Test
 	public void test() {
@@ -0,0 +1,120 @@
+/*-
+ * ​​​
+ * meanbean
+ * ⁣⁣⁣
+ * Copyright (C) 2010 - 2020 the original author or authors.
+ * ⁣⁣⁣
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * ﻿﻿﻿﻿﻿
+ */
+
+package org.meanbean.util;
+
+import org.junit.Test;
+import org.meanbean.bean.info.BeanInformation;
+import org.meanbean.bean.info.BeanInformationFactory;
+import org.meanbean.bean.info.JavaBeanInformationFactory;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+public class PropertyNameFinderTest {
+
+	public static class Bean {
+		private String name;
+		private boolean active;
+		private int count;
+
+		public String getName() {
+			return name;
+		}
+
+		public void setName(String name) {
+			this.name = name;
+		}
+
+		public boolean isActive() {
+			return active;
+		}
+
+		public void setActive(boolean active) {
+			this.active = active;
+		}
+
+		public int getCount() {
+			return count;
+		}
+
+		public void setCount(int count) {
+			this.count = count;
+		}
+
+		public String describe() {
+			return name + count;
+		}
+	}
+
+	public static class OtherBean extends Bean {
+	}
+
+	public static class ThirdBean extends Bean {
+	}
+
+	private final AtomicInteger introspections = new AtomicInteger();
+
+	private final BeanInformationFactory countingFactory = new BeanInformationFactory() {
+		@Override
+		public BeanInformation create(Class<?> beanClass) {
+			introspections.incrementAndGet();
+			return new JavaBeanInformationFactory().create(beanClass);
+		}
+	};
+
+	@Test
+	public void shouldFindPropertyName() throws Exception {
+		assertThat(PropertyNameFinder.findPropertyName(Bean.class, Bean::getName)).isEqualTo("name");
+		assertThat(PropertyNameFinder.findPropertyName(Bean.class, Bean::isActive)).isEqualTo("active");
+	}
+
+	@Test
+	public void shouldRememberPropertyNamePerBeanClassAndGetter() throws Exception {
+		// When
+		String first = PropertyNameFinder.findPropertyName(countingFactory, OtherBean.class, Bean::getCount);
+		String second = PropertyNameFinder.findPropertyName(countingFactory, OtherBean.class, Bean::getCount);
+
+		// Then
+		assertThat(first).isEqualTo("count");
+		assertThat(second).isEqualTo("count");
+		assertThat(introspections.get()).isEqualTo(1);
+	}
+
+	@Test
+	public void shouldFindManyPropertyNamesWithOneIntrospection() throws Exception {
+		// When
+		String[] names = PropertyNameFinder.findPropertyNames(countingFactory, ThirdBean.class, Bean::getName,
+		        Bean::isActive, Bean::getCount);
+
+		// Then
+		assertThat(names).containsExactly("name", "active", "count");
+		assertThat(introspections.get()).isEqualTo(1);
+	}
+
+	@Test
+	public void shouldRejectMethodThatIsNotAGetter() throws Exception {
+		assertThatThrownBy(() -> PropertyNameFinder.findPropertyName(Bean.class, Bean::describe))
+		        .isInstanceOf(IllegalArgumentException.class)
+		        .hasMessageContaining("describe");
+	}
+}
@@ -24,12 +24,21 @@ import org.junit.Before;
 import org.junit.Test;
 import org.meanbean.bean.info.BeanInformationFactory;
 import org.meanbean.bean.info.JavaBeanInformationFactory;
+import org.meanbean.bean.info.MethodScanningBeanInformationFactory;
 import org.meanbean.factories.FactoryCollection;
 import org.meanbean.factories.NoSuchFactoryException;
 import org.meanbean.lang.Factory;
 import org.meanbean.test.beans.FluentPropertyBean;
 
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.IdentityHashMap;
 import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicReference;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatCode;
@@ -42,12 +51,14 @@ public class ServiceFactoryTest {
 	}
 	
 	@Test
-	public void loadSingleImplementor() throws Exception {
+	public void loadImplementorsInOrder() throws Exception {
 		List<BeanInformationFactory> services = getAll();
 
 		assertThat(services)
-				.hasOnlyElementsOfType(JavaBeanInformationFactory.class)
-				.hasSize(1);
+				.extracting(Object::getClass)
+				.containsExactly(JavaBeanInformationFactory.class, MethodScanningBeanInformationFactory.class);
+		assertThat(BeanInformationFactory.getInstance())
+				.isInstanceOf(JavaBeanInformationFactory.class);
 	}
 
 	@Test
@@ -81,6 +92,86 @@ public class ServiceFactoryTest {
 		verifySpecialRegistration();
 	}
 
+	@Test
+	public void capturedContextShouldResolveSameServicesOnOtherThreads() throws Exception {
+		// Given
+		FactoryCollection expected = FactoryCollection.getInstance();
+		ServiceContext context = ServiceFactory.currentContext();
+		ExecutorService executor = Executors.newFixedThreadPool(4);
+		List<Future<Set<FactoryCollection>>> futures = new ArrayList<>();
+
+		// When
+		for (int i = 0; i < 4; i++) {
+			futures.add(executor.submit(() -> {
+				Set<FactoryCollection> found = Collections.newSetFromMap(new IdentityHashMap<>());
+				context.wrap(() -> {
+					for (int j = 0; j < 10_000; j++) {
+						found.add(FactoryCollection.getInstance());
+					}
+				}).run();
+				return found;
+			}));
+		}
+
+		// Then
+		try {
+			for (Future<Set<FactoryCollection>> future : futures) {
+				assertThat(future.get()).containsOnly(expected);
+			}
+		} finally {
+			executor.shutdown();
+		}
+		assertThat(context.isAvailable()).isTrue();
+	}
+
+	@Test
+	public void clearShouldInvalidateCapturedContexts() throws Exception {
+		// Given
+		FactoryCollection before = FactoryCollection.getInstance();
+		ServiceContext context = ServiceFactory.currentContext();
+		AtomicReference<FactoryCollection> after = new AtomicReference<>();
+
+		// When
+		ServiceFactory.clear();
+		context.wrap(() -> after.set(FactoryCollection.getInstance())).run();
+
+		// Then
+		assertThat(after.get()).isNotNull().isNotSameAs(before);
+	}
+
+	@Test
+	public void currentRandomValueGeneratorShouldNotLookUpServicesAfterFirstCall() throws Exception {
+		// Given
+		RandomValueGenerator first = ServiceFactory.currentRandomValueGenerator();
+		assertThat(first).isNotNull().isSameAs(RandomValueGenerator.getInstance());
+
+		// When
+		ServiceFactory.currentContext().getServices().remove(RandomValueGenerator.class.getName());
+		RandomValueGenerator second = ServiceFactory.currentRandomValueGenerator();
+
+		// Then
+		assertThat(second).isSameAs(first);
+	}
+
+	@Test
+	public void currentRandomValueGeneratorShouldBeResolvedAgainAfterClear() throws Exception {
+		// Given
+		RandomValueGenerator before = ServiceFactory.currentRandomValueGenerator();
+		ServiceContext context = ServiceFactory.currentContext();
+		AtomicReference<RandomValueGenerator> after = new AtomicReference<>();
+		AtomicReference<RandomValueGenerator> lookedUp = new AtomicReference<>();
+
+		// When
+		ServiceFactory.clear();
+		context.wrap(() -> {
+			after.set(ServiceFactory.currentRandomValueGenerator());
+			lookedUp.set(RandomValueGenerator.getInstance());
+		}).run();
+
+		// Then
+		assertThat(after.get()).isNotNull().isNotSameAs(before).isSameAs(lookedUp.get());
+	}
+
 	private void verifySpecialRegistration() {
 		FactoryCollection collection = FactoryCollection.getInstance();
 		collection.addFactory(FluentPropertyBean.class, () -> {